@@ -1,9 +1,14 @@
 package com.oath.cyclops.jackson;
 
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
 import com.oath.cyclops.jackson.deserializers.CyclopsDeserializers;
+import com.oath.cyclops.jackson.sealed.SealedRegistry;
 import com.oath.cyclops.jackson.serializers.CyclopsSerializers;
 
+import java.util.ServiceLoader;
+
 public class CyclopsModule extends SimpleModule {
 
 
@@ -15,5 +20,14 @@ public class CyclopsModule extends SimpleModule {
     context.addSerializers(new CyclopsSerializers());
     context.addTypeModifier(new CyclopsTypeModifier());
 
+    //generated @JsonSealed support is added last so it takes precedence over the generic Sealed serializers
+    SimpleSerializers sealedSerializers = new SimpleSerializers();
+    SimpleDeserializers sealedDeserializers = new SimpleDeserializers();
+    for (SealedRegistry registry : ServiceLoader.load(SealedRegistry.class)) {
+      registry.register(sealedSerializers, sealedDeserializers);
+    }
+    context.addSerializers(sealedSerializers);
+    context.addDeserializers(sealedDeserializers);
+
   }
 }
@@ -0,0 +1,54 @@
+package com.oath.cyclops.jackson;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Class name based TypeIdResolver that uses the compact ids registered in a {@link CyclopsTypeIds} registry
+ */
+public class CyclopsTypeIdResolver extends ClassNameIdResolver {
+
+  private final CyclopsTypeIds ids;
+
+  public CyclopsTypeIdResolver(JavaType baseType, TypeFactory typeFactory) {
+    this(baseType, typeFactory, CyclopsTypeIds.builtIn());
+  }
+
+  public CyclopsTypeIdResolver(JavaType baseType, TypeFactory typeFactory, CyclopsTypeIds ids) {
+    super(baseType, typeFactory);
+    this.ids = ids;
+  }
+
+  @Override
+  public String idFromValue(Object value) {
+    return idFrom(value, value.getClass());
+  }
+
+  @Override
+  public String idFromValueAndType(Object value, Class<?> type) {
+    return idFrom(value, type);
+  }
+
+  private String idFrom(Object value, Class<?> type) {
+    Optional<String> id = ids.idFor(type);
+    return id.isPresent() ? id.get() : _idFrom(value, type, _typeFactory);
+  }
+
+  @Override
+  public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+    Optional<Class<?>> type = ids.typeFor(id);
+    if (type.isPresent())
+      return context.getTypeFactory().constructSpecializedType(_baseType, type.get());
+    return super.typeFromId(context, id);
+  }
+
+  @Override
+  public String getDescForKnownTypeIds() {
+    return "cyclops type id or class name";
+  }
+}
@@ -0,0 +1,220 @@
+package com.oath.cyclops.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import cyclops.control.*;
+import cyclops.data.*;
+import cyclops.data.tuple.*;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Streamable;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of compact polymorphic type ids for cyclops data and control types. When polymorphic (default) typing is
+ * enabled via {@link #defaultTyping(ObjectMapper.DefaultTyping)} the registered short ids (e.g. "Vector", "Seq",
+ * "HashMap") are written instead of fully qualified class names, all other types fall back to their class names.
+ *
+ * <pre>
+ * {@code
+ *   ObjectMapper mapper = new ObjectMapper().registerModule(new CyclopsModule());
+ *   mapper.setDefaultTyping(CyclopsTypeIds.defaultTyping(ObjectMapper.DefaultTyping.NON_FINAL));
+ *
+ *   mapper.writeValueAsString(Seq.of(Vector.of(1,2)));
+ *   //["Seq",[["Vector",[1,2]]]]
+ * }
+ * </pre>
+ *
+ * The built-in cyclops ids are shared and fixed. Additional ids are registered on a registry created with
+ * {@link #extend()} and apply only to the ObjectMappers configured with it.
+ *
+ * <pre>
+ * {@code
+ *   CyclopsTypeIds ids = CyclopsTypeIds.extend()
+ *                                      .register("Order", Order.class);
+ *   mapper.setDefaultTyping(CyclopsTypeIds.defaultTyping(ObjectMapper.DefaultTyping.NON_FINAL, ids));
+ * }
+ * </pre>
+ */
+public final class CyclopsTypeIds implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private static final String NONE = "";
+  private static final CyclopsTypeIds BUILT_IN = new CyclopsTypeIds(null);
+
+  private final CyclopsTypeIds parent;
+  private final Map<String,Class<?>> types = new ConcurrentHashMap<>();
+  //registration order, more specific types must be registered before their super types
+  private final CopyOnWriteArrayList<Map.Entry<Class<?>,String>> ids = new CopyOnWriteArrayList<>();
+  private final Map<Class<?>,String> resolved = new ConcurrentHashMap<>();
+
+  static {
+    BUILT_IN.registerBuiltIns();
+  }
+
+  private CyclopsTypeIds(CyclopsTypeIds parent) {
+    this.parent = parent;
+  }
+
+  private void registerBuiltIns() {
+    add("Vector", Vector.class);
+    add("Seq", Seq.class);
+    add("LazySeq", LazySeq.class);
+    add("LazyString", LazyString.class);
+    add("NonEmptyList", NonEmptyList.class);
+    add("IntMap", IntMap.class);
+    add("BankersQueue", BankersQueue.class);
+    add("Bag", Bag.class);
+    add("HashSet", HashSet.class);
+    add("TrieSet", TrieSet.class);
+    add("TreeSet", TreeSet.class);
+    add("ReactiveSeq", ReactiveSeq.class);
+    add("Streamable", Streamable.class);
+
+    add("HashMap", HashMap.class);
+    add("TreeMap", TreeMap.class);
+    add("TrieMap", TrieMap.class);
+    add("LinkedMap", LinkedMap.class);
+
+    add("Maybe", Maybe.class);
+    add("Option", Option.class);
+    add("LazyEither5", LazyEither5.class);
+    add("LazyEither4", LazyEither4.class);
+    add("LazyEither3", LazyEither3.class);
+    add("LazyEither", LazyEither.class);
+    add("Either", Either.class);
+    add("Ior", Ior.class);
+    add("Eval", Eval.class);
+    add("Future", Future.class);
+    add("Try", Try.class);
+    add("Trampoline", Trampoline.class);
+    add("Unrestricted", Unrestricted.class);
+
+    add("Tuple0", Tuple0.class);
+    add("Tuple1", Tuple1.class);
+    add("Tuple2", Tuple2.class);
+    add("Tuple3", Tuple3.class);
+    add("Tuple4", Tuple4.class);
+    add("Tuple5", Tuple5.class);
+    add("Tuple6", Tuple6.class);
+    add("Tuple7", Tuple7.class);
+    add("Tuple8", Tuple8.class);
+  }
+
+  /**
+   * @return The built-in cyclops type ids
+   */
+  public static CyclopsTypeIds builtIn() {
+    return BUILT_IN;
+  }
+
+  /**
+   * @return A new registry containing the built-in cyclops type ids, to which further ids can be registered
+   */
+  public static CyclopsTypeIds extend() {
+    return new CyclopsTypeIds(BUILT_IN);
+  }
+
+  /**
+   * Register an additional compact type id. Values whose class is (or extends) the supplied type are written with this id,
+   * types should be registered before any of their super types that are also registered.
+   *
+   * @param id Short type id
+   * @param type Type the id represents
+   * @return This registry
+   */
+  public CyclopsTypeIds register(String id, Class<?> type) {
+    if (parent == null)
+      throw new UnsupportedOperationException("The built-in type ids are fixed, register ids on CyclopsTypeIds.extend()");
+    add(id, type);
+    return this;
+  }
+
+  private void add(String id, Class<?> type) {
+    Class<?> existing = parent == null ? null : parent.types.get(id);
+    if (existing == null)
+      existing = types.putIfAbsent(id, type);
+    if (existing != null && existing != type)
+      throw new IllegalArgumentException("Type id " + id + " is already registered for " + existing.getName());
+    if (existing == null)
+      ids.add(new AbstractMap.SimpleImmutableEntry<>(type, id));
+    resolved.clear();
+  }
+
+  /**
+   * @param type Runtime type of a value
+   * @return Compact type id for the value, if one is registered
+   */
+  public Optional<String> idFor(Class<?> type) {
+    String id = resolved.computeIfAbsent(type, c -> {
+      Optional<String> inherited = parent == null ? Optional.empty() : parent.idFor(c);
+      return inherited.orElseGet(() -> ids.stream()
+                                          .filter(e -> e.getKey().isAssignableFrom(c))
+                                          .map(Map.Entry::getValue)
+                                          .findFirst()
+                                          .orElse(NONE));
+    });
+    return id.isEmpty() ? Optional.empty() : Optional.of(id);
+  }
+
+  /**
+   * @param id Compact type id
+   * @return Type registered for the id, if any
+   */
+  public Optional<Class<?>> typeFor(String id) {
+    Class<?> type = types.get(id);
+    if (type == null && parent != null)
+      return parent.typeFor(id);
+    return Optional.ofNullable(type);
+  }
+
+  /**
+   * Default typing configuration, equivalent to {@link ObjectMapper#enableDefaultTyping(ObjectMapper.DefaultTyping)},
+   * that writes compact type ids for cyclops types
+   *
+   * @param applicability Types default typing applies to
+   * @return TypeResolverBuilder to pass to {@link ObjectMapper#setDefaultTyping(TypeResolverBuilder)}
+   */
+  public static TypeResolverBuilder<?> defaultTyping(ObjectMapper.DefaultTyping applicability) {
+    return defaultTyping(applicability, JsonTypeInfo.As.WRAPPER_ARRAY);
+  }
+
+  /**
+   * Default typing configuration, equivalent to {@link ObjectMapper#enableDefaultTyping(ObjectMapper.DefaultTyping, JsonTypeInfo.As)},
+   * that writes compact type ids for cyclops types
+   *
+   * @param applicability Types default typing applies to
+   * @param includeAs How the type id is included
+   * @return TypeResolverBuilder to pass to {@link ObjectMapper#setDefaultTyping(TypeResolverBuilder)}
+   */
+  public static TypeResolverBuilder<?> defaultTyping(ObjectMapper.DefaultTyping applicability, JsonTypeInfo.As includeAs) {
+    return defaultTyping(applicability, includeAs, BUILT_IN);
+  }
+
+  /**
+   * Default typing configuration that writes compact type ids from the supplied registry
+   *
+   * @param applicability Types default typing applies to
+   * @param ids Registry of compact type ids, see {@link #extend()}
+   * @return TypeResolverBuilder to pass to {@link ObjectMapper#setDefaultTyping(TypeResolverBuilder)}
+   */
+  public static TypeResolverBuilder<?> defaultTyping(ObjectMapper.DefaultTyping applicability, CyclopsTypeIds ids) {
+    return defaultTyping(applicability, JsonTypeInfo.As.WRAPPER_ARRAY, ids);
+  }
+
+  /**
+   * @see #defaultTyping(ObjectMapper.DefaultTyping, CyclopsTypeIds)
+   * @param includeAs How the type id is included
+   */
+  public static TypeResolverBuilder<?> defaultTyping(ObjectMapper.DefaultTyping applicability, JsonTypeInfo.As includeAs,
+                                                     CyclopsTypeIds ids) {
+    return new CyclopsTypeResolverBuilder(applicability, ids).init(JsonTypeInfo.Id.CLASS, null)
+                                                             .inclusion(includeAs);
+  }
+}
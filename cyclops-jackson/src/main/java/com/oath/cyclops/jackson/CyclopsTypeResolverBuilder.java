@@ -0,0 +1,36 @@
+package com.oath.cyclops.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+
+import java.util.Collection;
+
+/**
+ * Default typing TypeResolverBuilder that writes compact type ids for cyclops types, see {@link CyclopsTypeIds#defaultTyping(ObjectMapper.DefaultTyping)}
+ */
+public class CyclopsTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+  private static final long serialVersionUID = 1L;
+
+  private final CyclopsTypeIds ids;
+
+  public CyclopsTypeResolverBuilder(ObjectMapper.DefaultTyping applicability) {
+    this(applicability, CyclopsTypeIds.builtIn());
+  }
+
+  public CyclopsTypeResolverBuilder(ObjectMapper.DefaultTyping applicability, CyclopsTypeIds ids) {
+    super(applicability);
+    this.ids = ids;
+  }
+
+  @Override
+  protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+    if (_customIdResolver == null && _idType == JsonTypeInfo.Id.CLASS)
+      return new CyclopsTypeIdResolver(baseType, config.getTypeFactory(), ids);
+    return super.idResolver(config, baseType, subtypes, forSer, forDeser);
+  }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.deser.Deserializers;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.ReferenceType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.oath.cyclops.jackson.deserializers.OptionDeserializer;
 import com.oath.cyclops.types.persistent.PersistentMap;
 import com.oath.cyclops.types.traversable.IterableX;
@@ -70,10 +71,10 @@ public class CyclopsDeserializers  extends Deserializers.Base {
       return new TupleDeserializer(raw);
     }
     if (IterableX.class.isAssignableFrom(type.getRawClass())) {
-      return new IterableXDeserializer(raw,type.containedTypeOrUnknown(0).getRawClass());
+      return new IterableXDeserializer(raw,typeParameter(type,IterableX.class,0));
     }
     if (PersistentMap.class.isAssignableFrom(type.getRawClass())) {
-      return new PersistentMapDeserializer(raw);
+      return new PersistentMapDeserializer(raw,typeParameter(type,PersistentMap.class,0),typeParameter(type,PersistentMap.class,1));
     }
     return super.findBeanDeserializer(type, config, beanDesc);
   }
@@ -82,11 +83,16 @@ public class CyclopsDeserializers  extends Deserializers.Base {
   public JsonDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config, BeanDescription beanDesc, TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer) throws JsonMappingException {
     Class<?> raw = type.getRawClass();
     if (IterableX.class.isAssignableFrom(type.getRawClass())) {
-      return new IterableXDeserializer(raw,type.containedTypeOrUnknown(0).getRawClass());
+      return new IterableXDeserializer(raw,typeParameter(type,IterableX.class,0));
     }
     return super.findCollectionDeserializer(type, config, beanDesc, elementTypeDeserializer, elementDeserializer);
   }
 
+  private static JavaType typeParameter(JavaType type, Class<?> superType, int index) {
+    JavaType[] params = type.findTypeParameters(superType);
+    return index < params.length ? params[index] : TypeFactory.unknownType();
+  }
+
   @Override
   public JsonDeserializer<?> findReferenceDeserializer(ReferenceType type,
                                                        DeserializationConfig config, BeanDescription bean,
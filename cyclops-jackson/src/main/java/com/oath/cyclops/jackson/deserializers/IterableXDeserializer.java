@@ -2,11 +2,16 @@ package com.oath.cyclops.jackson.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.deser.std.ObjectArrayDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.jsontype.impl.AsArrayTypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ObjectBuffer;
 import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.data.*;
@@ -16,7 +21,6 @@ import cyclops.reactive.Streamable;
 import java.io.IOException;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.ConstantCallSite;
-import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Comparator;
@@ -25,50 +29,85 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
-public class IterableXDeserializer extends StdDeserializer<IterableX<?>> {
-  private final Class<?> elementType;
+public class IterableXDeserializer extends StdDeserializer<IterableX<?>> implements ResolvableDeserializer {
+  private final JavaType elementType;
   private final Class<?> itX;
+  private JsonDeserializer<Object> elementDeserializer;
+  private TypeDeserializer elementTypeDeserializer;
 
 
   public IterableXDeserializer(Class<?> vc, Class<?> elementType) {
+    this(vc, TypeFactory.defaultInstance().constructType(elementType));
+  }
+
+  public IterableXDeserializer(Class<?> vc, JavaType elementType) {
     super(vc);
     this.itX = vc;
     this.elementType = elementType;
   }
 
   @Override
-  public IterableX<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    elementDeserializer = ctxt.findContextualValueDeserializer(elementType, null);
+    elementTypeDeserializer = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), elementType);
+  }
 
-    JsonDeserializer deser = ctxt.findRootValueDeserializer(ctxt.getTypeFactory().constructArrayType(Object.class));
+  @Override
+  public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+    return typeDeserializer.deserializeTypedFromArray(p, ctxt);
+  }
 
-    Object o = deser.deserialize(p, ctxt);
+  @Override
+  public IterableX<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+    if (!p.isExpectedStartArrayToken()) {
+      return (IterableX<?>) ctxt.handleUnexpectedToken(itX, p);
+    }
+    ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+    Object[] chunk = buffer.resetAndStart();
+    int ix = 0;
+    JsonToken t;
+    while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+      Object value;
+      if (t == JsonToken.VALUE_NULL)
+        value = elementDeserializer.getNullValue(ctxt);
+      else if (elementTypeDeserializer == null)
+        value = elementDeserializer.deserialize(p, ctxt);
+      else
+        value = elementDeserializer.deserializeWithType(p, ctxt, elementTypeDeserializer);
+      if (ix >= chunk.length) {
+        chunk = buffer.appendCompletedChunk(chunk);
+        ix = 0;
+      }
+      chunk[ix++] = value;
+    }
+    Object[] o = buffer.completeAndClearBuffer(chunk, ix);
+    ctxt.returnObjectBuffer(buffer);
 
-    if(Vector.class.isAssignableFrom(elementType))
-      return Vector.of((Object[])o);
+    if(Vector.class.isAssignableFrom(itX))
+      return Vector.of(o);
 
-    if(Seq.class.isAssignableFrom(elementType))
-      return Seq.of((Object[])o);
-    if(LazySeq.class.isAssignableFrom(elementType))
-      return LazySeq.of((Object[])o);
-    if(LazyString.class.isAssignableFrom(elementType))
-      return LazyString.fromLazySeq((LazySeq)LazySeq.of((Object[])o));
-    if(IntMap.class.isAssignableFrom(elementType))
-      return IntMap.of((Object[])o);
-    if(ReactiveSeq.class.isAssignableFrom(elementType))
-      return ReactiveSeq.of((Object[])o);
-    if(Streamable.class.isAssignableFrom(elementType))
-      return Streamable.of((Object[])o);
-    if(BankersQueue.class.isAssignableFrom(elementType))
-      return BankersQueue.of((Object[])o);
-    if(Bag.class.isAssignableFrom(elementType))
-      return Bag.of((Object[])o);
-    if(cyclops.data.HashSet.class.isAssignableFrom(elementType))
-      return HashSet.of((Object[])o);
-    if(cyclops.data.TrieSet.class.isAssignableFrom(elementType))
-      return TrieSet.of((Object[])o);
-    if(cyclops.data.TreeSet.class.isAssignableFrom(elementType))
-      return TreeSet.of((Comparator)Comparator.naturalOrder(),(Object[])o);
+    if(Seq.class.isAssignableFrom(itX))
+      return Seq.of(o);
+    if(LazySeq.class.isAssignableFrom(itX))
+      return LazySeq.of(o);
+    if(LazyString.class.isAssignableFrom(itX))
+      return LazyString.fromLazySeq((LazySeq)LazySeq.of(o));
+    if(IntMap.class.isAssignableFrom(itX))
+      return IntMap.of(o);
+    if(ReactiveSeq.class.isAssignableFrom(itX))
+      return ReactiveSeq.of(o);
+    if(Streamable.class.isAssignableFrom(itX))
+      return Streamable.of(o);
+    if(BankersQueue.class.isAssignableFrom(itX))
+      return BankersQueue.of(o);
+    if(Bag.class.isAssignableFrom(itX))
+      return Bag.of(o);
+    if(cyclops.data.HashSet.class.isAssignableFrom(itX))
+      return HashSet.of(o);
+    if(cyclops.data.TrieSet.class.isAssignableFrom(itX))
+      return TrieSet.of(o);
+    if(cyclops.data.TreeSet.class.isAssignableFrom(itX))
+      return TreeSet.of((Comparator)Comparator.naturalOrder(),o);
 
     Optional<Method> m = streamMethod.computeIfAbsent(itX, c->Stream.of(c.getMethods())
       .filter(method -> "of".equals(method.getName()))
@@ -2,9 +2,16 @@ package com.oath.cyclops.jackson.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.oath.cyclops.types.persistent.PersistentMap;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.data.HashMap;
@@ -16,26 +23,68 @@ import java.lang.invoke.ConstantCallSite;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 
-public class PersistentMapDeserializer extends StdDeserializer<PersistentMap<?,?>> {
+public class PersistentMapDeserializer extends StdDeserializer<PersistentMap<?,?>> implements ResolvableDeserializer {
 
   private final Class<?> mapType;
+  private final JavaType keyType;
+  private final JavaType valueType;
+  private KeyDeserializer keyDeserializer;
+  private JsonDeserializer<Object> valueDeserializer;
+  private TypeDeserializer valueTypeDeserializer;
 
   public PersistentMapDeserializer(Class<?> vc) {
+    this(vc, TypeFactory.unknownType(), TypeFactory.unknownType());
+  }
+
+  public PersistentMapDeserializer(Class<?> vc, JavaType keyType, JavaType valueType) {
     super(vc);
     this.mapType = vc;
+    this.keyType = keyType;
+    this.valueType = valueType;
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    keyDeserializer = ctxt.findKeyDeserializer(keyType, null);
+    valueDeserializer = ctxt.findContextualValueDeserializer(valueType, null);
+    valueTypeDeserializer = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), valueType);
+  }
+
+  @Override
+  public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+    return typeDeserializer.deserializeTypedFromObject(p, ctxt);
   }
 
   @Override
   public PersistentMap<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-    JsonDeserializer deser = ctxt.findRootValueDeserializer(ctxt.getTypeFactory().constructRawMapType(Map.class));
+    JsonToken t = p.getCurrentToken();
+    if (t == JsonToken.START_OBJECT) {
+      t = p.nextToken();
+    } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+      return (PersistentMap<?, ?>) ctxt.handleUnexpectedToken(mapType, p);
+    }
+    Map<Object, Object> o = new LinkedHashMap<>();
+    for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+      String name = p.getCurrentName();
+      Object key = keyDeserializer.deserializeKey(name, ctxt);
+      t = p.nextToken();
+      Object value;
+      if (t == JsonToken.VALUE_NULL)
+        value = valueDeserializer.getNullValue(ctxt);
+      else if (valueTypeDeserializer == null)
+        value = valueDeserializer.deserialize(p, ctxt);
+      else
+        value = valueDeserializer.deserializeWithType(p, ctxt, valueTypeDeserializer);
+      o.put(key, value);
+    }
 
-    Object o = deser.deserialize(p, ctxt);
     if(HashMap.class.isAssignableFrom(mapType))
       return HashMap.fromMap((Map)o);
     if(TreeMap.class.isAssignableFrom(mapType))
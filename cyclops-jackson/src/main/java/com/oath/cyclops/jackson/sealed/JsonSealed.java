@@ -0,0 +1,38 @@
+package com.oath.cyclops.jackson.sealed;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a Sealed2 - Sealed5 implementation for which {@link SealedProcessor} should generate a specialised
+ * Jackson serializer and deserializer. The generated code is registered with the CyclopsModule automatically.
+ *
+ * <pre>
+ * {@code
+ *   @JsonSealed
+ *   public abstract class Payment implements Sealed2<Card,Cash> {
+ *       public static Payment card(Card card){ ... }
+ *       public static Payment cash(Cash cash){ ... }
+ *   }
+ *
+ *   //{"left":{...card...}} or {"right":{...cash...}}
+ * }
+ * </pre>
+ *
+ * Each sealed case is rebuilt on deserialization by a static factory method on the annotated type that accepts the
+ * case type. Factories are detected automatically where there is a single candidate per case, or may be named explicitly
+ * (in the same order as the Sealed type parameters) via {@link #factories()}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonSealed {
+
+  /**
+   * @return Names of the static factory methods used to rebuild each sealed case, in type parameter order
+   */
+  String[] factories() default {};
+}
@@ -0,0 +1,379 @@
+package com.oath.cyclops.jackson.sealed;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor that generates reflection free Jackson serializers and deserializers for types annotated with
+ * {@link JsonSealed}.
+ *
+ * For each annotated type a {@link SealedRegistry} implementation named [Type]SealedJson is generated in the same package
+ * and listed in META-INF/services, so that the CyclopsModule picks it up when registered. The generated serializer
+ * writes the same format as the Sealed2 - Sealed5 serializers (e.g. {"left":..} / {"right":..} for a Sealed2) without
+ * creating a wrapper bean per value, and the generated deserializer dispatches on the field name directly to the
+ * static factory for that case.
+ */
+@SupportedAnnotationTypes("com.oath.cyclops.jackson.sealed.JsonSealed")
+public class SealedProcessor extends AbstractProcessor {
+
+  private static final String SERVICE_FILE = "META-INF/services/" + SealedRegistry.class.getName();
+  private static final List<String> SEALED_TYPES = Arrays.asList("com.oath.cyclops.matching.Sealed2",
+                                                                  "com.oath.cyclops.matching.Sealed3",
+                                                                  "com.oath.cyclops.matching.Sealed4",
+                                                                  "com.oath.cyclops.matching.Sealed5");
+
+  private final Set<String> registries = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(JsonSealed.class)) {
+      if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+        error(element, "@JsonSealed can only be applied to classes and interfaces");
+        continue;
+      }
+      TypeElement type = (TypeElement) element;
+      if (type.getModifiers().contains(Modifier.PRIVATE)) {
+        error(element, "@JsonSealed types must not be private");
+        continue;
+      }
+      DeclaredType sealed = sealedType(type.asType());
+      if (sealed == null || sealed.getTypeArguments().isEmpty()) {
+        error(element, "@JsonSealed types must implement a parameterized Sealed2, Sealed3, Sealed4 or Sealed5");
+        continue;
+      }
+      List<? extends TypeMirror> cases = sealed.getTypeArguments();
+      String[] explicit = type.getAnnotation(JsonSealed.class).factories();
+      if (explicit.length != 0 && explicit.length != cases.size()) {
+        error(element, "@JsonSealed factories must name one factory method per sealed case (" + cases.size() + ")");
+        continue;
+      }
+      List<String> factories = new ArrayList<>();
+      for (int i = 0; i < cases.size(); i++) {
+        String factory = factory(type, cases.get(i), explicit.length == 0 ? null : explicit[i]);
+        if (factory == null)
+          break;
+        factories.add(factory);
+      }
+      if (factories.size() != cases.size())
+        continue;
+      try {
+        registries.add(generate(type, cases, factories));
+      } catch (IOException e) {
+        error(element, "Unable to generate Jackson support for @JsonSealed type : " + e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  private DeclaredType sealedType(TypeMirror type) {
+    Types types = processingEnv.getTypeUtils();
+    Deque<TypeMirror> toVisit = new ArrayDeque<>();
+    toVisit.add(type);
+    while (!toVisit.isEmpty()) {
+      for (TypeMirror next : types.directSupertypes(toVisit.poll())) {
+        if (next.getKind() == TypeKind.DECLARED) {
+          TypeElement element = (TypeElement) ((DeclaredType) next).asElement();
+          if (SEALED_TYPES.contains(element.getQualifiedName().toString()))
+            return (DeclaredType) next;
+        }
+        toVisit.add(next);
+      }
+    }
+    return null;
+  }
+
+  private String factory(TypeElement owner, TypeMirror caseType, String name) {
+    Types types = processingEnv.getTypeUtils();
+    TypeMirror erasedCase = types.erasure(caseType);
+    TypeMirror erasedOwner = types.erasure(owner.asType());
+    List<ExecutableElement> candidates = ElementFilter.methodsIn(owner.getEnclosedElements())
+                                                      .stream()
+                                                      .filter(m -> m.getModifiers().contains(Modifier.STATIC))
+                                                      .filter(m -> !m.getModifiers().contains(Modifier.PRIVATE))
+                                                      .filter(m -> m.getParameters().size() == 1)
+                                                      .filter(m -> name == null || m.getSimpleName().contentEquals(name))
+                                                      .filter(m -> types.isAssignable(erasedCase, types.erasure(m.getParameters().get(0).asType())))
+                                                      .filter(m -> types.isAssignable(types.erasure(m.getReturnType()), erasedOwner))
+                                                      .collect(Collectors.toList());
+    if (candidates.size() > 1) {
+      List<ExecutableElement> exact = candidates.stream()
+                                                .filter(m -> types.isSameType(erasedCase, types.erasure(m.getParameters().get(0).asType())))
+                                                .collect(Collectors.toList());
+      if (exact.size() == 1)
+        candidates = exact;
+    }
+    if (candidates.size() == 1)
+      return candidates.get(0).getSimpleName().toString();
+    if (candidates.isEmpty())
+      error(owner, "No static factory method accepting " + caseType + " and returning " + owner.getSimpleName()
+        + (name == null ? "" : " named " + name) + " found for @JsonSealed type");
+    else
+      error(owner, "Ambiguous static factory methods for sealed case " + caseType + ", name them via @JsonSealed(factories=..)");
+    return null;
+  }
+
+  private String generate(TypeElement type, List<? extends TypeMirror> cases, List<String> factories) throws IOException {
+    Types types = processingEnv.getTypeUtils();
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String ownerName = type.getQualifiedName().toString();
+    String nestedName = packageName.isEmpty() ? ownerName : ownerName.substring(packageName.length() + 1);
+    String simpleName = nestedName.replace('.', '_') + "SealedJson";
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    int size = cases.size();
+
+    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter();
+         PrintWriter out = new PrintWriter(writer)) {
+      if (!packageName.isEmpty()) {
+        out.println("package " + packageName + ";");
+        out.println();
+      }
+      out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+      out.println("import com.fasterxml.jackson.core.JsonParser;");
+      out.println("import com.fasterxml.jackson.core.JsonToken;");
+      out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+      out.println("import com.fasterxml.jackson.databind.DeserializationContext;");
+      out.println("import com.fasterxml.jackson.databind.JsonDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.JsonMappingException;");
+      out.println("import com.fasterxml.jackson.databind.JsonSerializer;");
+      out.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+      out.println("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;");
+      out.println("import com.fasterxml.jackson.databind.module.SimpleDeserializers;");
+      out.println("import com.fasterxml.jackson.databind.module.SimpleSerializers;");
+      out.println("import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;");
+      out.println("import com.fasterxml.jackson.databind.ser.std.StdSerializer;");
+      out.println("import com.fasterxml.jackson.databind.type.TypeFactory;");
+      out.println("import com.oath.cyclops.jackson.sealed.SealedRegistry;");
+      out.println();
+      out.println("import java.io.IOException;");
+      out.println("import java.util.function.Function;");
+      out.println();
+      out.println("/**");
+      out.println(" * Jackson support for " + ownerName + ", generated by " + SealedProcessor.class.getName());
+      out.println(" */");
+      out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+      out.println("public final class " + simpleName + " implements SealedRegistry {");
+      out.println();
+      out.println("  private static final SerializedString[] FIELDS = {" + Arrays.stream(fieldNames(size))
+                                                                                 .map(f -> "new SerializedString(\"" + f + "\")")
+                                                                                 .collect(Collectors.joining(", ")) + "};");
+      for (int i = 0; i < size; i++)
+        out.println("  private static final Function<Object, Case> CASE_" + i + " = v -> new Case(FIELDS[" + i + "], v);");
+      out.println();
+      out.println("  static final class Case {");
+      out.println("    final SerializedString field;");
+      out.println("    final Object payload;");
+      out.println();
+      out.println("    Case(SerializedString field, Object payload) {");
+      out.println("      this.field = field;");
+      out.println("      this.payload = payload;");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+      out.println("  @Override");
+      out.println("  public void register(SimpleSerializers serializers, SimpleDeserializers deserializers) {");
+      out.println("    serializers.addSerializer(" + ownerName + ".class, new Serializer());");
+      out.println("    deserializers.addDeserializer(" + ownerName + ".class, new Deserializer());");
+      out.println("  }");
+      out.println();
+      out.println("  static final class Serializer extends StdSerializer<" + ownerName + "> {");
+      out.println();
+      out.println("    private static final long serialVersionUID = 1L;");
+      out.println();
+      out.println("    private transient PropertySerializerMap dynamic = PropertySerializerMap.emptyForProperties();");
+      out.println();
+      out.println("    Serializer() {");
+      out.println("      super(" + ownerName + ".class);");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public void serialize(" + ownerName + " value, JsonGenerator gen, SerializerProvider provider) throws IOException {");
+      out.println("      Case c = (Case) value.fold(" + caseFunctions(size) + ");");
+      out.println("      Object payload = c.payload;");
+      out.println("      gen.writeStartObject();");
+      out.println("      gen.writeFieldName(c.field);");
+      out.println("      if (payload == null) {");
+      out.println("        provider.defaultSerializeNull(gen);");
+      out.println("      } else {");
+      out.println("        Class<?> payloadType = payload.getClass();");
+      out.println("        JsonSerializer<Object> ser = dynamic.serializerFor(payloadType);");
+      out.println("        if (ser == null) {");
+      out.println("          PropertySerializerMap.SerializerAndMapResult result = dynamic.findAndAddSecondarySerializer(payloadType, provider, null);");
+      out.println("          dynamic = result.map;");
+      out.println("          ser = result.serializer;");
+      out.println("        }");
+      out.println("        ser.serialize(payload, gen, provider);");
+      out.println("      }");
+      out.println("      gen.writeEndObject();");
+      out.println("    }");
+      out.println("  }");
+      out.println();
+      out.println("  static final class Deserializer extends StdDeserializer<" + ownerName + "> implements ResolvableDeserializer {");
+      out.println();
+      out.println("    private static final long serialVersionUID = 1L;");
+      out.println();
+      out.println("    private JsonDeserializer<Object>[] cases;");
+      out.println();
+      out.println("    Deserializer() {");
+      out.println("      super(" + ownerName + ".class);");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public void resolve(DeserializationContext ctxt) throws JsonMappingException {");
+      out.println("      TypeFactory typeFactory = ctxt.getTypeFactory();");
+      out.println("      cases = new JsonDeserializer[" + size + "];");
+      for (int i = 0; i < size; i++)
+        out.println("      cases[" + i + "] = ctxt.findRootValueDeserializer(" + javaType(cases.get(i)) + ");");
+      out.println("    }");
+      out.println();
+      out.println("    @Override");
+      out.println("    public " + ownerName + " deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {");
+      out.println("      JsonToken token = p.getCurrentToken();");
+      out.println("      if (token == JsonToken.START_OBJECT)");
+      out.println("        token = p.nextToken();");
+      out.println("      if (token != JsonToken.FIELD_NAME)");
+      out.println("        return (" + ownerName + ") ctxt.handleUnexpectedToken(handledType(), p);");
+      out.println("      String field = p.getCurrentName();");
+      out.println("      p.nextToken();");
+      out.println("      " + ownerName + " result;");
+      out.println("      switch (field) {");
+      String[] fields = fieldNames(size);
+      for (int i = 0; i < size; i++) {
+        out.println("        case \"" + fields[i] + "\":");
+        out.println("          result = " + ownerName + "." + factories.get(i) + "((" + types.erasure(cases.get(i))
+          + ") value(" + i + ", p, ctxt));");
+        out.println("          break;");
+      }
+      out.println("        default:");
+      out.println("          return ctxt.reportInputMismatch(this, \"Unexpected field '%s' for sealed type %s\", field, handledType().getName());");
+      out.println("      }");
+      out.println("      if (p.nextToken() != JsonToken.END_OBJECT)");
+      out.println("        ctxt.reportWrongTokenException(this, JsonToken.END_OBJECT, \"Expected a single field for sealed type %s\", handledType().getName());");
+      out.println("      return result;");
+      out.println("    }");
+      out.println();
+      out.println("    private Object value(int index, JsonParser p, DeserializationContext ctxt) throws IOException {");
+      out.println("      if (p.getCurrentToken() == JsonToken.VALUE_NULL)");
+      out.println("        return cases[index].getNullValue(ctxt);");
+      out.println("      return cases[index].deserialize(p, ctxt);");
+      out.println("    }");
+      out.println("  }");
+      out.println("}");
+    }
+    return qualifiedName;
+  }
+
+  private static String[] fieldNames(int size) {
+    if (size == 2)
+      return new String[]{"left", "right"};
+    String[] fields = new String[size];
+    for (int i = 0; i < size - 1; i++)
+      fields[i] = "left" + (i + 1);
+    fields[size - 1] = "right";
+    return fields;
+  }
+
+  private static String caseFunctions(int size) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < size; i++)
+      b.append(i == 0 ? "" : ", ").append("CASE_").append(i);
+    return b.toString();
+  }
+
+  private String javaType(TypeMirror type) {
+    Types types = processingEnv.getTypeUtils();
+    switch (type.getKind()) {
+      case DECLARED:
+        DeclaredType declared = (DeclaredType) type;
+        String raw = types.erasure(declared) + ".class";
+        if (declared.getTypeArguments().isEmpty())
+          return "typeFactory.constructType(" + raw + ")";
+        return "typeFactory.constructParametricType(" + raw + ", " + declared.getTypeArguments()
+                                                                              .stream()
+                                                                              .map(this::javaType)
+                                                                              .collect(Collectors.joining(", ")) + ")";
+      case ARRAY:
+        return "typeFactory.constructArrayType(" + javaType(((ArrayType) type).getComponentType()) + ")";
+      case WILDCARD:
+        TypeMirror bound = ((WildcardType) type).getExtendsBound();
+        return bound == null ? "typeFactory.constructType(Object.class)" : javaType(bound);
+      case TYPEVAR:
+        return javaType(types.erasure(type));
+      default:
+        return "typeFactory.constructType(Object.class)";
+    }
+  }
+
+  private void writeServiceFile() {
+    if (registries.isEmpty())
+      return;
+    Filer filer = processingEnv.getFiler();
+    Set<String> all = new TreeSet<>(registries);
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          String entry = line.trim();
+          if (!entry.isEmpty() && !entry.startsWith("#"))
+            all.add(entry);
+        }
+      }
+    } catch (IOException e) {
+      //no existing service file for this compilation
+    }
+    try {
+      FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (PrintWriter out = new PrintWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+        all.forEach(out::println);
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + SERVICE_FILE + " : " + e.getMessage());
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
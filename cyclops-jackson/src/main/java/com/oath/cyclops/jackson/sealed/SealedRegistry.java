@@ -0,0 +1,13 @@
+package com.oath.cyclops.jackson.sealed;
+
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+
+/**
+ * Service interface implemented by the code generated for {@link JsonSealed} types. Implementations are discovered via
+ * {@link java.util.ServiceLoader} when the CyclopsModule is registered with an ObjectMapper.
+ */
+public interface SealedRegistry {
+
+  void register(SimpleSerializers serializers, SimpleDeserializers deserializers);
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ser.impl.BeanAsArraySerializer;
 import com.fasterxml.jackson.databind.ser.std.SerializableSerializer;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
 import com.fasterxml.jackson.databind.type.ReferenceType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.oath.cyclops.matching.Sealed2;
 import com.oath.cyclops.matching.Sealed3;
 import com.oath.cyclops.matching.Sealed4;
@@ -91,10 +92,10 @@ public class CyclopsSerializers extends Serializers.Base {
       return new Tuple8Serializer();
     }
     if(PersistentMap.class.isAssignableFrom(type.getRawClass())) {
-      return new PersistentMapSerializer();
+      return new PersistentMapSerializer(typeParameter(type,PersistentMap.class,0),typeParameter(type,PersistentMap.class,1));
     }
     if (IterableX.class.isAssignableFrom(type.getRawClass())) {
-      return new IterableXSerializer();
+      return new IterableXSerializer(typeParameter(type,IterableX.class,0));
     }
     if (Either.class.isAssignableFrom(type.getRawClass())) {
       return new Sealed2Serializer();
@@ -114,4 +115,9 @@ public class CyclopsSerializers extends Serializers.Base {
     }
     return super.findSerializer(config, type, beanDesc);
   }
+
+  private static JavaType typeParameter(JavaType type, Class<?> superType, int index) {
+    JavaType[] params = type.findTypeParameters(superType);
+    return index < params.length ? params[index] : TypeFactory.unknownType();
+  }
 }
@@ -1,12 +1,46 @@
 package com.oath.cyclops.jackson.serializers;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import java.io.IOException;
 
-public class IterableXSerializer extends JsonSerializer<Iterable<?>>{
+public class IterableXSerializer extends JsonSerializer<Iterable<?>> implements ContextualSerializer {
+
+  private final JavaType elementType;
+  private final TypeSerializer elementTypeSerializer;
+  private transient PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
+
+  public IterableXSerializer() {
+    this(TypeFactory.unknownType());
+  }
+
+  public IterableXSerializer(JavaType elementType) {
+    this(elementType,null);
+  }
+
+  private IterableXSerializer(JavaType elementType, TypeSerializer elementTypeSerializer) {
+    this.elementType = elementType;
+    this.elementTypeSerializer = elementTypeSerializer;
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+    TypeSerializer typeSer = prov.findTypeSerializer(elementType);
+    if(typeSer==elementTypeSerializer)
+      return this;
+    return new IterableXSerializer(elementType,typeSer);
+  }
 
   @Override
   public void serialize(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
@@ -15,10 +49,34 @@ public class IterableXSerializer extends JsonSerializer<Iterable<?>>{
       return;
     }
     gen.writeStartArray();
+    serializeContents(value,gen,serializers);
+    gen.writeEndArray();
+  }
+
+  @Override
+  public void serializeWithType(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_ARRAY));
+    serializeContents(value,gen,serializers);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
+
+  private void serializeContents(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
     for(Object o : value) {
-      JsonSerializer<Object> ser = serializers.findValueSerializer(o.getClass());
-      ser.serialize(o, gen, serializers);
+      if(o==null){
+        serializers.defaultSerializeNull(gen);
+        continue;
+      }
+      Class<?> type = o.getClass();
+      JsonSerializer<Object> ser = dynamicSerializers.serializerFor(type);
+      if(ser==null) {
+        PropertySerializerMap.SerializerAndMapResult result = dynamicSerializers.findAndAddSecondarySerializer(type, serializers, null);
+        dynamicSerializers = result.map;
+        ser = result.serializer;
+      }
+      if(elementTypeSerializer==null)
+        ser.serialize(o, gen, serializers);
+      else
+        ser.serializeWithType(o, gen, serializers, elementTypeSerializer);
     }
-    gen.writeEndArray();
   }
 }
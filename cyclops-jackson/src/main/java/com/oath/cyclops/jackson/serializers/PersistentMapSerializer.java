@@ -1,43 +1,91 @@
 package com.oath.cyclops.jackson.serializers;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.oath.cyclops.matching.Sealed2;
 import com.oath.cyclops.types.persistent.PersistentMap;
-import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.data.tuple.Tuple2;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.Setter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
-public class PersistentMapSerializer extends JsonSerializer<PersistentMap<?,?>> {
+public class PersistentMapSerializer extends JsonSerializer<PersistentMap<?,?>> implements ContextualSerializer {
 
   private static final long serialVersionUID = 1L;
 
+  private final JavaType keyType;
+  private final JavaType valueType;
+  private final JsonSerializer<Object> keySerializer;
+  private final TypeSerializer valueTypeSerializer;
+  private transient PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
 
+  public PersistentMapSerializer() {
+    this(TypeFactory.unknownType(),TypeFactory.unknownType());
+  }
+
+  public PersistentMapSerializer(JavaType keyType, JavaType valueType) {
+    this(keyType,valueType,null,null);
+  }
+
+  private PersistentMapSerializer(JavaType keyType, JavaType valueType, JsonSerializer<Object> keySerializer, TypeSerializer valueTypeSerializer) {
+    this.keyType = keyType;
+    this.valueType = valueType;
+    this.keySerializer = keySerializer;
+    this.valueTypeSerializer = valueTypeSerializer;
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+    return new PersistentMapSerializer(keyType,valueType,prov.findKeySerializer(keyType,property),prov.findTypeSerializer(valueType));
+  }
 
   @Override
   public void serialize(PersistentMap<?, ?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    gen.writeStartObject(value);
+    serializeContents(value,gen,serializers);
+    gen.writeEndObject();
+  }
 
-    if(value.iterator().hasNext()) {
-      Tuple2<?,?> keyAndValue = value.iterator().next();
-      MapType type = TypeFactory.defaultInstance().constructMapType(Map.class, keyAndValue._1().getClass(),
-        keyAndValue._2().getClass());
-      serializers.findTypedValueSerializer(type,true,null)
-        .serialize(value.mapView(),gen,serializers);
-    }
-    else{
-      serializers.findValueSerializer(Map.class)
-        .serialize(new HashMap<>(),gen,serializers);
-    }
+  @Override
+  public void serializeWithType(PersistentMap<?, ?> value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+    serializeContents(value,gen,serializers);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
 
+  private void serializeContents(PersistentMap<?, ?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    JsonSerializer<Object> keySer = keySerializer!=null ? keySerializer : serializers.findKeySerializer(keyType,null);
+    for(Tuple2<?,?> keyAndValue : value) {
+      Object key = keyAndValue._1();
+      if(key==null)
+        serializers.findNullKeySerializer(keyType,null).serialize(null,gen,serializers);
+      else
+        keySer.serialize(key,gen,serializers);
 
+      Object v = keyAndValue._2();
+      if(v==null){
+        serializers.defaultSerializeNull(gen);
+        continue;
+      }
+      Class<?> type = v.getClass();
+      JsonSerializer<Object> ser = dynamicSerializers.serializerFor(type);
+      if(ser==null) {
+        PropertySerializerMap.SerializerAndMapResult result = dynamicSerializers.findAndAddSecondarySerializer(type, serializers, null);
+        dynamicSerializers = result.map;
+        ser = result.serializer;
+      }
+      if(valueTypeSerializer==null)
+        ser.serialize(v, gen, serializers);
+      else
+        ser.serializeWithType(v, gen, serializers, valueTypeSerializer);
+    }
   }
 }
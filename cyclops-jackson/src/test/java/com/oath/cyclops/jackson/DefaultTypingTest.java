@@ -0,0 +1,94 @@
+package com.oath.cyclops.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import cyclops.data.HashMap;
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class DefaultTypingTest {
+
+  ObjectMapper mapper;
+
+  @Before
+  public void setup(){
+    mapper = new ObjectMapper().registerModule(new CyclopsModule())
+                               .registerModule(new Jdk8Module());
+    mapper.setDefaultTyping(CyclopsTypeIds.defaultTyping(DefaultTyping.NON_FINAL));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  static class Holder {
+    public Object value;
+  }
+
+  @Test
+  public void shortIdForRoot() throws Exception {
+    String json = mapper.writerFor(Seq.class).writeValueAsString(Seq.of(1,2,3));
+    assertThat(json,equalTo("[\"Seq\",[1,2,3]]"));
+    assertThat(mapper.readValue(json,Object.class),equalTo(Seq.of(1,2,3)));
+  }
+
+  @Test
+  public void shortIdsForNestedValues() throws Exception {
+    Holder h = new Holder(Vector.of(Seq.of("a"),HashMap.of("b",Vector.of(1L,2L))));
+    String json = mapper.writeValueAsString(h);
+    assertThat(json,not(containsString("cyclops.data")));
+    assertThat(json,containsString("\"Vector\""));
+    assertThat(json,containsString("\"HashMap\""));
+    assertThat(mapper.readValue(json,Holder.class),equalTo(h));
+  }
+
+  @Test
+  public void unregisteredTypesUseClassNames() throws Exception {
+    Holder h = new Holder(new java.util.ArrayList<>());
+    String json = mapper.writeValueAsString(h);
+    assertThat(json,containsString("java.util.ArrayList"));
+    assertThat(mapper.readValue(json,Holder.class),equalTo(h));
+  }
+
+  @Test
+  public void registeredId() throws Exception {
+    ObjectMapper extended = new ObjectMapper().registerModule(new CyclopsModule());
+    extended.setDefaultTyping(CyclopsTypeIds.defaultTyping(DefaultTyping.NON_FINAL,
+                                                           CyclopsTypeIds.extend().register("Holder",Holder.class)));
+    String json = extended.writeValueAsString(new Holder(Seq.of(1)));
+    assertThat(json,containsString("\"Holder\""));
+    assertThat(json,containsString("\"Seq\""));
+    assertThat(extended.readValue(json,Object.class),equalTo(new Holder(Seq.of(1))));
+  }
+
+  @Test
+  public void registeredIdsAreLocalToTheirMapper() throws Exception {
+    ObjectMapper extended = new ObjectMapper().registerModule(new CyclopsModule());
+    extended.setDefaultTyping(CyclopsTypeIds.defaultTyping(DefaultTyping.NON_FINAL,
+                                                           CyclopsTypeIds.extend().register("Holder",Holder.class)));
+    extended.writeValueAsString(new Holder(Seq.of(1)));
+
+    assertThat(mapper.writeValueAsString(new Holder(Seq.of(1))),not(containsString("\"Holder\"")));
+    assertThat(CyclopsTypeIds.builtIn().typeFor("Holder").isPresent(),equalTo(false));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void builtInIdsAreFixed() {
+    CyclopsTypeIds.builtIn().register("Holder",Holder.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builtInIdsCanNotBeRedefined() {
+    CyclopsTypeIds.extend().register("Seq",Holder.class);
+  }
+}
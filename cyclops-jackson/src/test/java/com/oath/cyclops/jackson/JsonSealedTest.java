@@ -0,0 +1,102 @@
+package com.oath.cyclops.jackson;
+
+import com.oath.cyclops.jackson.sealed.JsonSealed;
+import com.oath.cyclops.matching.Sealed2;
+import com.oath.cyclops.matching.Sealed3;
+import cyclops.data.Seq;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class JsonSealedTest {
+
+  @AllArgsConstructor @NoArgsConstructor @EqualsAndHashCode @ToString
+  public static class Card {
+    @Getter @Setter
+    private String number;
+  }
+
+  @JsonSealed
+  @AllArgsConstructor @EqualsAndHashCode @ToString
+  public static class Payment implements Sealed2<Card,Integer> {
+    private final Card card;
+    private final Integer cash;
+
+    public static Payment card(Card card){
+      return new Payment(card,null);
+    }
+    public static Payment cash(Integer cash){
+      return new Payment(null,cash);
+    }
+
+    @Override
+    public <R> R fold(Function<? super Card, ? extends R> fn1, Function<? super Integer, ? extends R> fn2) {
+      return card!=null ? fn1.apply(card) : fn2.apply(cash);
+    }
+  }
+
+  @JsonSealed(factories = {"a","b","c"})
+  @AllArgsConstructor @EqualsAndHashCode @ToString
+  public static class Triple implements Sealed3<String,String,Seq<Integer>> {
+    private final int index;
+    private final Object value;
+
+    public static Triple a(String a){
+      return new Triple(0,a);
+    }
+    public static Triple b(String b){
+      return new Triple(1,b);
+    }
+    public static Triple c(Seq<Integer> c){
+      return new Triple(2,c);
+    }
+
+    @Override
+    public <R> R fold(Function<? super String, ? extends R> fn1, Function<? super String, ? extends R> fn2, Function<? super Seq<Integer>, ? extends R> fn3) {
+      return index==0 ? fn1.apply((String)value) : index==1 ? fn2.apply((String)value) : fn3.apply((Seq<Integer>)value);
+    }
+  }
+
+  @Test
+  public void left(){
+    assertThat(JacksonUtil.serializeToJson(Payment.card(new Card("1234"))),equalTo("{\"left\":{\"number\":\"1234\"}}"));
+  }
+  @Test
+  public void right(){
+    assertThat(JacksonUtil.serializeToJson(Payment.cash(10)),equalTo("{\"right\":10}"));
+  }
+  @Test
+  public void roundTripLeft(){
+    String json = JacksonUtil.serializeToJson(Payment.card(new Card("1234")));
+    assertThat(JacksonUtil.convertFromJson(json,Payment.class),equalTo(Payment.card(new Card("1234"))));
+  }
+  @Test
+  public void roundTripRight(){
+    String json = JacksonUtil.serializeToJson(Payment.cash(10));
+    assertThat(JacksonUtil.convertFromJson(json,Payment.class),equalTo(Payment.cash(10)));
+  }
+  @Test
+  public void left2(){
+    assertThat(JacksonUtil.serializeToJson(Triple.b("hello")),equalTo("{\"left2\":\"hello\"}"));
+  }
+  @Test
+  public void roundTripSealed3(){
+    String json = JacksonUtil.serializeToJson(Triple.c(Seq.of(1,2,3)));
+    assertThat(json,equalTo("{\"right\":[1,2,3]}"));
+    assertThat(JacksonUtil.convertFromJson(json,Triple.class),equalTo(Triple.c(Seq.of(1,2,3))));
+  }
+  @Test
+  public void nested(){
+    String json = JacksonUtil.serializeToJson(Seq.of(Payment.cash(1),Payment.card(new Card("99"))));
+    assertThat(json,equalTo("[{\"right\":1},{\"left\":{\"number\":\"99\"}}]"));
+  }
+}
@@ -0,0 +1,64 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crossing the boundary between Rx and cyclops-react in each direction, one element and one batch at a time.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BridgeBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public void observableToReactiveSeq(Blackhole bh) {
+        Observables.connectToReactiveSeq(Observable.range(0, size))
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void observableToReactiveSeqBatched(Blackhole bh) {
+        bh.consume(Observables.connectToReactiveSeqBatched(Observable.range(0, size), 256, 1, TimeUnit.MILLISECONDS)
+                              .count());
+    }
+
+    @Benchmark
+    public void reactiveSeqToObservable(Blackhole bh) {
+        Observables.observableFrom(ReactiveSeq.range(0, size))
+                   .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void spoutsToObservable(Blackhole bh) {
+        Observables.observableFrom(Spouts.range(0, size))
+                   .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole bh) {
+        Observables.observableFrom(Observables.connectToReactiveSeq(Observable.range(0, size)).map(i -> i + 1))
+                   .subscribe(bh::consume);
+    }
+}
@@ -0,0 +1,72 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fanning each element out to a small inner sequence with flatMap.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlatMapBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"1", "10"})
+    public int fanOut;
+
+    @Benchmark
+    public void observable(Blackhole bh) {
+        Observable.range(0, size)
+                  .flatMap(i -> Observable.range(i, fanOut))
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeq(Blackhole bh) {
+        Observables.range(0, size)
+                   .mergeMap(i -> Observables.range(i, fanOut))
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeqConcatMap(Blackhole bh) {
+        Observables.range(0, size)
+                   .concatMap(i -> ReactiveSeq.range(i, i + fanOut))
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeq(Blackhole bh) {
+        ReactiveSeq.range(0, size)
+                   .flatMap(i -> ReactiveSeq.range(i, i + fanOut))
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void spouts(Blackhole bh) {
+        Spouts.range(0, size)
+              .mergeMap(i -> Spouts.range(i, i + fanOut))
+              .forEach(bh::consume);
+    }
+}
@@ -0,0 +1,65 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grouping elements into fixed size batches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupedBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"16", "256"})
+    public int groupSize;
+
+    @Benchmark
+    public void observable(Blackhole bh) {
+        Observable.range(0, size)
+                  .buffer(groupSize)
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeq(Blackhole bh) {
+        Observables.range(0, size)
+                   .grouped(groupSize)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeq(Blackhole bh) {
+        ReactiveSeq.range(0, size)
+                   .grouped(groupSize)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void spouts(Blackhole bh) {
+        Spouts.range(0, size)
+              .grouped(groupSize)
+              .forEach(bh::consume);
+    }
+}
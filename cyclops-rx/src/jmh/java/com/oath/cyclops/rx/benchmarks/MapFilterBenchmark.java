@@ -0,0 +1,74 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chain of map and filter stages over raw Observable, ObservableReactiveSeq and cyclops-react ReactiveSeqs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapFilterBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public void observable(Blackhole bh) {
+        Observable.range(0, size)
+                  .map(i -> i + 1)
+                  .filter(i -> i % 3 != 0)
+                  .map(i -> i * 2)
+                  .filter(i -> i % 5 != 0)
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeq(Blackhole bh) {
+        Observables.range(0, size)
+                   .map(i -> i + 1)
+                   .filter(i -> i % 3 != 0)
+                   .map(i -> i * 2)
+                   .filter(i -> i % 5 != 0)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeq(Blackhole bh) {
+        ReactiveSeq.range(0, size)
+                   .map(i -> i + 1)
+                   .filter(i -> i % 3 != 0)
+                   .map(i -> i * 2)
+                   .filter(i -> i % 5 != 0)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void spouts(Blackhole bh) {
+        Spouts.range(0, size)
+              .map(i -> i + 1)
+              .filter(i -> i % 3 != 0)
+              .map(i -> i * 2)
+              .filter(i -> i % 5 != 0)
+              .forEach(bh::consume);
+    }
+}
@@ -0,0 +1,59 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reducing a sequence to a single value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReduceBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public int observable() {
+        return Observable.range(0, size)
+                         .reduce(0, (a, b) -> a + b)
+                         .toBlocking()
+                         .single();
+    }
+
+    @Benchmark
+    public int observableReactiveSeq() {
+        return Observables.range(0, size)
+                          .reduce(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public int reactiveSeq() {
+        return ReactiveSeq.range(0, size)
+                          .reduce(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public int spouts() {
+        return Spouts.range(0, size)
+                     .reduce(0, (a, b) -> a + b);
+    }
+}
@@ -0,0 +1,84 @@
+package com.oath.cyclops.rx.benchmarks;
+
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zipping two and four sequences together.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZipBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Benchmark
+    public void observable(Blackhole bh) {
+        Observable.zip(Observable.range(0, size), Observable.range(0, size), (a, b) -> a + b)
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeq(Blackhole bh) {
+        Observables.range(0, size)
+                   .zip(Observables.range(0, size), (a, b) -> a + b)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeq(Blackhole bh) {
+        ReactiveSeq.range(0, size)
+                   .zip(ReactiveSeq.range(0, size), (a, b) -> a + b)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void spouts(Blackhole bh) {
+        Spouts.range(0, size)
+              .zip(Spouts.range(0, size), (a, b) -> a + b)
+              .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void observableZip4(Blackhole bh) {
+        Observable.zip(Observable.range(0, size), Observable.range(0, size), Observable.range(0, size), Observable.range(0, size),
+                       (a, b, c, d) -> a + b + c + d)
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableReactiveSeqZip4(Blackhole bh) {
+        Observables.range(0, size)
+                   .zip4(Observables.range(0, size), Observables.range(0, size), Observables.range(0, size),
+                         (a, b, c, d) -> a + b + c + d)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeqZip4(Blackhole bh) {
+        ReactiveSeq.range(0, size)
+                   .zip4(ReactiveSeq.range(0, size), ReactiveSeq.range(0, size), ReactiveSeq.range(0, size),
+                         (a, b, c, d) -> a + b + c + d)
+                   .forEach(bh::consume);
+    }
+}
@@ -0,0 +1,193 @@
+package com.oath.cyclops.rx.adapter;
+
+import cyclops.reactive.ReactiveSeq;
+import org.reactivestreams.Subscription;
+import rx.Observable;
+import rx.Subscriber;
+import rx.exceptions.MissingBackpressureException;
+import rx.internal.operators.BackpressureUtils;
+import rx.subscriptions.Subscriptions;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscribes to a ReactiveSeq on behalf of an rx Subscriber, passing the Subscriber's demand on to the ReactiveSeq.
+ *
+ * Asynchronous (push) ReactiveSeqs may emit ahead of demand, up to capacity such elements are held until requested,
+ * beyond that the ReactiveSeq is cancelled, the held elements are discarded and the Subscriber is sent a
+ * MissingBackpressureException straight away rather than after the held elements.
+ *
+ * @param <T> Element type
+ */
+public class DemandOnSubscribe<T> implements Observable.OnSubscribe<T> {
+
+    private final ReactiveSeq<T> stream;
+    private final int capacity;
+
+    public DemandOnSubscribe(ReactiveSeq<T> stream, int capacity) {
+        this.stream = stream;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> child) {
+        Bridge<T> bridge = new Bridge<>(child, capacity);
+        child.add(Subscriptions.create(bridge::cancel));
+        stream.subscribe(bridge);
+        child.setProducer(bridge::request);
+    }
+
+    private static final Object NULL = new Object();
+
+    private static final class Bridge<T> implements org.reactivestreams.Subscriber<T> {
+        private final Subscriber<? super T> child;
+        private final int capacity;
+        private final ArrayDeque<Object> queue = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Subscription subscription;
+        private long pending;
+        private boolean cancelled;
+        private volatile boolean done;
+        private Throwable error;
+
+        Bridge(Subscriber<? super T> child, int capacity) {
+            this.child = child;
+            this.capacity = capacity;
+        }
+
+        void request(long n) {
+            if (n <= 0)
+                return;
+            BackpressureUtils.getAndAddRequest(requested, n);
+            Subscription s;
+            synchronized (this) {
+                s = subscription;
+                if (s == null)
+                    pending = BackpressureUtils.addCap(pending, n);
+            }
+            if (s != null)
+                s.request(n);
+            drain();
+        }
+
+        void cancel() {
+            Subscription s;
+            synchronized (this) {
+                cancelled = true;
+                s = subscription;
+            }
+            if (s != null)
+                s.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            long n;
+            boolean cancel;
+            synchronized (this) {
+                subscription = s;
+                n = pending;
+                pending = 0;
+                cancel = cancelled;
+            }
+            if (cancel)
+                s.cancel();
+            else if (n > 0)
+                s.request(n);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            boolean overflow;
+            synchronized (queue) {
+                overflow = queue.size() >= capacity;
+                if (overflow)
+                    queue.clear();
+                else
+                    queue.offer(t == null ? NULL : t);
+            }
+            if (overflow) {
+                cancel();
+                onError(new MissingBackpressureException("More than " + capacity + " elements were pushed ahead of demand"));
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done)
+                return;
+            error = e;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            drain();
+        }
+
+        private Object poll() {
+            synchronized (queue) {
+                return queue.poll();
+            }
+        }
+
+        private boolean isEmpty() {
+            synchronized (queue) {
+                return queue.isEmpty();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0;
+                while (e != r) {
+                    if (child.isUnsubscribed())
+                        return;
+                    boolean d = done;
+                    Object next = poll();
+                    if (next == null) {
+                        if (d)
+                            terminate();
+                        break;
+                    }
+                    child.onNext(next == NULL ? null : (T) next);
+                    e++;
+                }
+                if (e == r && done && isEmpty()) {
+                    terminate();
+                    return;
+                }
+                if (e != 0)
+                    BackpressureUtils.produced(requested, e);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private void terminate() {
+            if (child.isUnsubscribed())
+                return;
+            if (error != null)
+                child.onError(error);
+            else
+                child.onCompleted();
+            child.unsubscribe();
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.oath.cyclops.rx.adapter;
 
 
 import com.oath.cyclops.anym.extensability.AbstractMonadAdapter;
+import cyclops.companion.rx.FlatMapStrategy;
 import cyclops.companion.rx.Observables;
 import cyclops.monads.AnyM;
 import cyclops.monads.RxWitness.observable;
 
 import lombok.AllArgsConstructor;
 import rx.Observable;
+import rx.internal.util.RxRingBuffer;
 
 
 import java.util.function.Function;
@@ -18,10 +20,21 @@ import java.util.function.Predicate;
 @AllArgsConstructor
 public class ObservableAdapter extends AbstractMonadAdapter<observable> {
 
+    private final FlatMapStrategy strategy;
+    private final int prefetch;
+    private final int lowWater;
+
+    public ObservableAdapter() {
+        this(FlatMapStrategy.defaultStrategy());
+    }
+
+    public ObservableAdapter(FlatMapStrategy strategy) {
+        this(strategy,RxRingBuffer.SIZE,RxRingBuffer.SIZE/4);
+    }
 
     @Override
     public <T> Iterable<T> toIterable(AnyM<observable, T> t) {
-        return ()-> observable(t).toBlocking().toIterable().iterator();
+        return Observables.iterable(observable(t),prefetch,lowWater);
     }
 
     @Override
@@ -52,7 +65,7 @@ public class ObservableAdapter extends AbstractMonadAdapter<observable> {
     @Override
     public <T, R> AnyM<observable, R> flatMap(AnyM<observable, T> t,
                                               Function<? super T, ? extends AnyM<observable, ? extends R>> fn) {
-        return Observables.anyM(observable(t).flatMap(x->observable(fn.apply(x))));
+        return Observables.anyM(strategy.flatMap(observable(t), x->observable(fn.apply(x))));
 
     }
 
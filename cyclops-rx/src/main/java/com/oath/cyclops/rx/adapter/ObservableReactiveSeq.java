@@ -8,9 +8,16 @@ import com.oath.cyclops.types.stream.HeadAndTail;
 
 import cyclops.companion.rx.Observables;
 import cyclops.control.LazyEither;
+import cyclops.control.Future;
 import cyclops.control.Maybe;
 import cyclops.control.Option;
 import cyclops.data.Seq;
+import cyclops.function.Function3;
+import cyclops.function.Function4;
+import cyclops.function.Function5;
+import cyclops.function.Function6;
+import cyclops.function.Function7;
+import cyclops.function.Function8;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
@@ -25,13 +32,34 @@ import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
+import cyclops.data.tuple.Tuple5;
+import cyclops.data.tuple.Tuple6;
+import cyclops.data.tuple.Tuple7;
+import cyclops.data.tuple.Tuple8;
+import com.oath.cyclops.rx.buffer.Codec;
+import com.oath.cyclops.rx.buffer.ExternalSorter;
+import com.oath.cyclops.rx.metrics.Instrumentation;
+import com.oath.cyclops.rx.metrics.MetricsSink;
+import com.oath.cyclops.rx.operators.BloomFilter;
+import com.oath.cyclops.rx.operators.FusedObservable;
+import com.oath.cyclops.rx.operators.Hedger;
+import com.oath.cyclops.rx.operators.OperatorCountAggregate;
+import com.oath.cyclops.rx.operators.OperatorInstrument;
+import com.oath.cyclops.rx.operators.OperatorGroupedUntil;
+import com.oath.cyclops.rx.operators.OperatorSliding;
+import com.oath.cyclops.rx.operators.OperatorTimeAggregate;
+import com.oath.cyclops.rx.operators.PrefetchIterator;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import rx.Observable;
+import rx.Scheduler;
+import rx.internal.util.RxRingBuffer;
+import rx.schedulers.Schedulers;
 
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.*;
@@ -44,8 +72,27 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
     Observable<T> observable;
 
     public <R> ObservableReactiveSeq<R> observable(Observable<R> observable){
+        if(Instrumentation.isAutomatic())
+            return new ObservableReactiveSeq<>(instrumented(observable));
         return new ObservableReactiveSeq<>(observable);
     }
+    private static <R> Observable<R> instrumented(Observable<R> observable){
+        MetricsSink sink = Instrumentation.sink().orElse(null);
+        if(sink==null)
+            return observable;
+        StackTraceElement[] trace = new Throwable().getStackTrace();
+        String adapter = ObservableReactiveSeq.class.getPackage().getName();
+        String operator = "observable";
+        String caller = "Unknown Source";
+        for(int i=2;i<trace.length;i++){
+            if(!trace[i].getClassName().startsWith(adapter)){
+                caller = trace[i].getFileName()+":"+trace[i].getLineNumber();
+                break;
+            }
+            operator = trace[i].getMethodName();
+        }
+        return observable.lift(new OperatorInstrument<>(operator+"("+caller+")",sink));
+    }
     public <R> ObservableReactiveSeq<R> observable(ReactiveSeq<R> observable){
         if(observable instanceof ObservableReactiveSeq){
             return  (ObservableReactiveSeq)observable;
@@ -165,58 +212,153 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a._1(),a._2(),b));
+        return zipN(a->Tuple.tuple((T)a[0],(S)a[1],(U)a[2]),second,third);
+    }
+
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Function3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        return zipN(a->fn3.apply((T)a[0],(S)a[1],(U)a[2]),second,third);
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a._1(),a._2(),b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a._1(),a._2(),a._3(),b));
+        return zipN(a->Tuple.tuple((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),second,third,fourth);
+    }
+
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth, Function4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return zipN(a->fn.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),second,third,fourth);
+    }
+
+    public <T2, T3, T4, T5> ReactiveSeq<Tuple5<T, T2, T3, T4, T5>> zip5(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                                         Iterable<? extends T5> fifth) {
+        return zip5(second,third,fourth,fifth,Tuple::tuple);
+    }
+
+    public <T2, T3, T4, T5, R> ReactiveSeq<R> zip5(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                   Iterable<? extends T5> fifth,
+                                                   Function5<? super T, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        return zipN(a->fn.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3],(T5)a[4]),second,third,fourth,fifth);
+    }
+
+    public <T2, T3, T4, T5, T6> ReactiveSeq<Tuple6<T, T2, T3, T4, T5, T6>> zip6(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                                                 Iterable<? extends T5> fifth, Iterable<? extends T6> sixth) {
+        return zip6(second,third,fourth,fifth,sixth,Tuple::tuple);
+    }
+
+    public <T2, T3, T4, T5, T6, R> ReactiveSeq<R> zip6(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                       Iterable<? extends T5> fifth, Iterable<? extends T6> sixth,
+                                                       Function6<? super T, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> fn) {
+        return zipN(a->fn.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3],(T5)a[4],(T6)a[5]),second,third,fourth,fifth,sixth);
+    }
+
+    public <T2, T3, T4, T5, T6, T7> ReactiveSeq<Tuple7<T, T2, T3, T4, T5, T6, T7>> zip7(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                                                         Iterable<? extends T5> fifth, Iterable<? extends T6> sixth, Iterable<? extends T7> seventh) {
+        return zip7(second,third,fourth,fifth,sixth,seventh,Tuple::tuple);
+    }
+
+    public <T2, T3, T4, T5, T6, T7, R> ReactiveSeq<R> zip7(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                           Iterable<? extends T5> fifth, Iterable<? extends T6> sixth, Iterable<? extends T7> seventh,
+                                                           Function7<? super T, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> fn) {
+        return zipN(a->fn.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3],(T5)a[4],(T6)a[5],(T7)a[6]),second,third,fourth,fifth,sixth,seventh);
+    }
+
+    public <T2, T3, T4, T5, T6, T7, T8> ReactiveSeq<Tuple8<T, T2, T3, T4, T5, T6, T7, T8>> zip8(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                                                                 Iterable<? extends T5> fifth, Iterable<? extends T6> sixth, Iterable<? extends T7> seventh,
+                                                                                                 Iterable<? extends T8> eighth) {
+        return zip8(second,third,fourth,fifth,sixth,seventh,eighth,Tuple::tuple);
+    }
+
+    public <T2, T3, T4, T5, T6, T7, T8, R> ReactiveSeq<R> zip8(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                                               Iterable<? extends T5> fifth, Iterable<? extends T6> sixth, Iterable<? extends T7> seventh,
+                                                               Iterable<? extends T8> eighth,
+                                                               Function8<? super T, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> fn) {
+        return zipN(a->fn.apply((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3],(T5)a[4],(T6)a[5],(T7)a[6],(T8)a[7]),second,third,fourth,fifth,sixth,seventh,eighth);
+    }
+
+    /**
+     * Zip this ReactiveSeq with any number of Publishers in a single operator. The zipper receives an array holding
+     * the next element from this ReactiveSeq followed by the next element from each Publisher, in iteration order.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<BigDecimal> mid = bids.zip(Arrays.asList(asks), a -> ((BigDecimal)a[0]).add((BigDecimal)a[1]).divide(TWO));
+     * }
+     * </pre>
+     *
+     * @param others Publishers to zip with
+     * @param zipper Function that combines one element from each source
+     * @return ReactiveSeq of combined elements, completing when the shortest source completes
+     */
+    public <R> ReactiveSeq<R> zip(Iterable<? extends Publisher<?>> others, Function<? super Object[], ? extends R> zipper) {
+        List<Observable<?>> sources = new ArrayList<>();
+        sources.add(observable);
+        for (Publisher<?> next : others)
+            sources.add(Observables.observable(next));
+        return observable(Observable.zip(sources, a->zipper.apply(a)));
+    }
+
+    private <R> ReactiveSeq<R> zipN(Function<Object[], ? extends R> zipper, Iterable<?>... others) {
+        List<Observable<?>> sources = new ArrayList<>(others.length + 1);
+        sources.add(observable);
+        for (Iterable<?> next : others)
+            sources.add(Observable.from(next));
+        return observable(Observable.zip(sources, a->zipper.apply(a)));
     }
 
     @Override
     public ReactiveSeq<Seq<T>> sliding(int windowSize, int increment) {
-        return observable(Observables.connectToReactiveSeq(observable).sliding(windowSize,increment));
+        return observable(observable.lift(new OperatorSliding<>(windowSize,increment)));
     }
 
     @Override
     public ReactiveSeq<Vector<T>> grouped(int groupSize) {
-        return observable(Observables.connectToReactiveSeq(observable).grouped(groupSize));
+        return observable(observable.buffer(groupSize).map(Vector::fromIterable));
     }
 
     @Override
     public ReactiveSeq<Vector<T>> groupedUntil(BiPredicate<Vector<? super T>, ? super T> predicate) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedUntil(predicate));
+        return observable(observable.lift(new OperatorGroupedUntil<T,Vector<T>,Vector<T>>((BiPredicate)predicate,Vector::empty,Function.identity())));
     }
 
     @Override
     public <C extends PersistentCollection<T>, R> ReactiveSeq<R> groupedUntil(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedUntil(predicate,factory,finalizer));
+        return observable(observable.lift(new OperatorGroupedUntil<>(predicate,factory,finalizer)));
     }
 
     @Override
     public ReactiveSeq<Vector<T>> groupedWhile(BiPredicate<Vector<? super T>, ? super T> predicate) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedWhile(predicate));
+        return observable(observable.lift(new OperatorGroupedUntil<T,Vector<T>,Vector<T>>(((BiPredicate)predicate).negate(),Vector::empty,Function.identity())));
     }
 
     @Override
     public <C extends PersistentCollection<T>, R> ReactiveSeq<R> groupedWhile(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedWhile(predicate,factory,finalizer));
+        return groupedUntil(predicate.negate(),factory,finalizer);
     }
 
     @Override
     public ReactiveSeq<Vector<T>> groupedBySizeAndTime(int size, long time, TimeUnit t) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedBySizeAndTime(size, time, t));
+        return groupedBySizeAndTime(size,time,t,Vector::empty);
     }
 
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedBySizeAndTime(int size, long time, TimeUnit unit, Supplier<C> factory) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedBySizeAndTime(size,time,unit,factory));
+        return groupedBySizeAndTime(size,time,unit,factory,Function.identity());
     }
 
     @Override
     public <C extends PersistentCollection<? super T>, R> ReactiveSeq<R> groupedBySizeAndTime(int size, long time, TimeUnit unit, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedBySizeAndTime(size,time,unit,factory,finalizer));
+        return observable(Observable.defer(()->{
+            long nanos = unit.toNanos(time);
+            long[] start = {System.nanoTime()};
+            return observable.lift(new OperatorGroupedUntil<T,C,R>((c,t)->{
+                long now = System.nanoTime();
+                if(c.size()<size && now-start[0]<nanos)
+                    return false;
+                start[0]=now;
+                return true;
+            },factory,finalizer));
+        }));
     }
 
     @Override
@@ -226,27 +368,126 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<Vector<T>> groupedByTime(long time, TimeUnit t) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedByTime(time, t));
+        return groupedByTime(time,t,Vector::empty);
     }
 
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedByTime(long time, TimeUnit unit, Supplier<C> factory) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedByTime(time, unit, factory));
+        return groupedByTime(time,unit,factory,Function.identity());
+    }
+
+    /**
+     * Aggregate consecutive, non-overlapping windows of size elements with the supplied Monoid. Only the running
+     * aggregate of the current window is retained. A trailing partial window is emitted on completion.
+     *
+     * <pre>
+     * {@code
+     *   Observables.of(1,2,3,4,5).tumblingAggregate(2,Monoids.intSum);
+     *   //[3,7,5]
+     * }
+     * </pre>
+     *
+     * @param size Number of elements per window
+     * @param monoid Monoid to aggregate with
+     * @return ReactiveSeq with an aggregate per window
+     */
+    public ReactiveSeq<T> tumblingAggregate(int size, Monoid<T> monoid) {
+        return observable(observable.lift(new OperatorCountAggregate<>(size,size,monoid)));
+    }
+
+    /**
+     * Aggregate the last size elements with the supplied Monoid, emitting once per element after the first window
+     * fills. Partial aggregates are maintained incrementally (two-stack), so each element costs O(1) amortised
+     * regardless of the window size and the Monoid need not be invertible.
+     *
+     * <pre>
+     * {@code
+     *   Observables.of(1,2,3,4,5).slidingAggregate(3,Monoids.intSum);
+     *   //[6,9,12]
+     * }
+     * </pre>
+     *
+     * @param size Number of elements per window
+     * @param monoid Monoid to aggregate with
+     * @return ReactiveSeq with an aggregate per window
+     */
+    public ReactiveSeq<T> slidingAggregate(int size, Monoid<T> monoid) {
+        return slidingAggregate(size,1,monoid);
+    }
+
+    /**
+     * @see #slidingAggregate(int, Monoid)
+     * @param increment Number of elements between the starts of consecutive windows, size must be a multiple of increment
+     */
+    public ReactiveSeq<T> slidingAggregate(int size, int increment, Monoid<T> monoid) {
+        return observable(observable.lift(new OperatorCountAggregate<>(size,increment,monoid)));
+    }
+
+    /**
+     * Aggregate the elements arriving in each consecutive, non-overlapping period of time with the supplied Monoid.
+     * A window is emitted for every period, including empty periods (which aggregate to the Monoid's zero).
+     *
+     * @param time Length of each window
+     * @param unit Time unit for time
+     * @param monoid Monoid to aggregate with
+     * @return ReactiveSeq with an aggregate per window
+     */
+    public ReactiveSeq<T> tumblingAggregate(long time, TimeUnit unit, Monoid<T> monoid) {
+        return tumblingAggregate(time,unit,monoid,Schedulers.computation());
+    }
+
+    /**
+     * @see #tumblingAggregate(long, TimeUnit, Monoid)
+     * @param scheduler Scheduler on which windows are closed
+     */
+    public ReactiveSeq<T> tumblingAggregate(long time, TimeUnit unit, Monoid<T> monoid, Scheduler scheduler) {
+        return slidingAggregate(time,time,unit,monoid,scheduler);
+    }
+
+    /**
+     * Aggregate the elements that arrived during the last window of time with the supplied Monoid, emitting every
+     * slide. Elements are aggregated into a pane per slide and panes into windows incrementally, so each element
+     * costs O(1) amortised and only window / slide partial aggregates are retained.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Integer> requestsPerMinute = requests.map(r->1)
+     *                                                    .slidingAggregate(60,5,TimeUnit.SECONDS,Monoids.intSum);
+     * }
+     * </pre>
+     *
+     * @param window Length of each window, must be a multiple of slide
+     * @param slide Time between emissions
+     * @param unit Time unit for window and slide
+     * @param monoid Monoid to aggregate with
+     * @return ReactiveSeq with an aggregate per slide
+     */
+    public ReactiveSeq<T> slidingAggregate(long window, long slide, TimeUnit unit, Monoid<T> monoid) {
+        return slidingAggregate(window,slide,unit,monoid,Schedulers.computation());
+    }
+
+    /**
+     * @see #slidingAggregate(long, long, TimeUnit, Monoid)
+     * @param scheduler Scheduler on which windows are closed
+     */
+    public ReactiveSeq<T> slidingAggregate(long window, long slide, TimeUnit unit, Monoid<T> monoid, Scheduler scheduler) {
+        return observable(observable.lift(new OperatorTimeAggregate<>(window,slide,unit,scheduler,monoid))
+                                    .onBackpressureBuffer());
     }
 
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> grouped(int size, Supplier<C> supplier) {
-        return observable(Observables.connectToReactiveSeq(observable).grouped(size,supplier));
+        return observable(observable.lift(new OperatorGroupedUntil<T,C,C>((c,t)->c.size()>=size,supplier,Function.identity())));
     }
 
     @Override
     public ReactiveSeq<Vector<T>> groupedWhile(Predicate<? super T> predicate) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedWhile(predicate));
+        return groupedWhile(predicate,Vector::empty);
     }
 
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
-        return observable(Observables.connectToReactiveSeq(observable).groupedWhile(predicate,factory));
+        return observable(observable.lift(new OperatorGroupedUntil<T,C,C>((c,t)->!predicate.test(t),factory,Function.identity())));
     }
 
     @Override
@@ -261,7 +502,172 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> sorted() {
-        return observable(Observables.connectToReactiveSeq(observable).sorted());
+        return observable(observable.toSortedList().flatMapIterable(l->l));
+    }
+
+    /**
+     * Sort this ReactiveSeq holding at most maxInMemory elements on heap. Sorted runs of maxInMemory elements are
+     * spilled to a temporary file with the supplied Codec and merged lazily as downstream requests. At most 64 runs
+     * are merged at once, larger inputs are first merged in passes back to the file, and the read buffers share a fixed
+     * 1 MB budget, so heap used while merging is bounded regardless of input size. Sequences no larger than
+     * maxInMemory are sorted entirely in memory. The sort is stable and the temporary file is removed on completion,
+     * error or unsubscription.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Event> byTime = events.sorted(Comparator.comparing(Event::timestamp), 100_000, eventCodec);
+     * }
+     * </pre>
+     *
+     * @param comparator Ordering to sort by
+     * @param maxInMemory Maximum number of elements held on heap while sorting
+     * @param codec Codec used to write runs to disk
+     * @return Sorted ReactiveSeq
+     */
+    public ReactiveSeq<T> sorted(Comparator<? super T> comparator, int maxInMemory, Codec<T> codec) {
+        return observable(Observable.using(() -> new ExternalSorter<T>(comparator, maxInMemory, codec),
+                                           sorter -> observable.collect(() -> sorter, (s, t) -> s.add(t))
+                                                               .flatMapIterable(s -> s::iterator),
+                                           ExternalSorter::close));
+    }
+
+    /**
+     * Sort this ReactiveSeq holding at most maxInMemory elements on heap, spilling runs with Java serialization.
+     * Elements must be Serializable if more than maxInMemory are sorted.
+     *
+     * @see #sorted(Comparator, int, Codec)
+     */
+    public ReactiveSeq<T> sorted(Comparator<? super T> comparator, int maxInMemory) {
+        return sorted(comparator,maxInMemory,(Codec<T>)Codec.serializable());
+    }
+
+    /**
+     * Remove elements equal to one of the last maxKeys distinct elements. Memory is bounded by maxKeys; an element
+     * is emitted again once maxKeys other distinct elements have been seen since it was last emitted.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<String> fresh = ids.distinctWithin(10_000);
+     * }
+     * </pre>
+     *
+     * @param maxKeys Number of most recent distinct elements to remember
+     * @return ReactiveSeq without recently repeated elements
+     */
+    public ReactiveSeq<T> distinctWithin(int maxKeys) {
+        if (maxKeys <= 0)
+            throw new IllegalArgumentException("maxKeys must be positive, was " + maxKeys);
+        return observable(Observable.defer(() -> {
+            LinkedHashMap<T, Boolean> seen = new LinkedHashMap<T, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<T, Boolean> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+            return observable.filter(t -> seen.put(t, Boolean.TRUE) == null);
+        }));
+    }
+
+    /**
+     * Remove elements equal to an element emitted within the last period of time. Only elements emitted within the
+     * period are remembered, so memory is bounded by the arrival rate rather than the length of the sequence.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Alert> deduplicated = alerts.distinctWithin(5,TimeUnit.MINUTES);
+     * }
+     * </pre>
+     *
+     * @param time Period for which emitted elements are remembered
+     * @param unit Time unit for period
+     * @return ReactiveSeq without elements repeated within the period
+     */
+    public ReactiveSeq<T> distinctWithin(long time, TimeUnit unit) {
+        return distinctWithin(time,unit,Schedulers.computation());
+    }
+
+    /**
+     * @see #distinctWithin(long, TimeUnit)
+     * @param scheduler Scheduler used as the clock
+     */
+    public ReactiveSeq<T> distinctWithin(long time, TimeUnit unit, Scheduler scheduler) {
+        long period = unit.toMillis(time);
+        return observable(Observable.defer(() -> {
+            LinkedHashMap<T, Long> seen = new LinkedHashMap<>();
+            return observable.filter(t -> {
+                long now = scheduler.now();
+                Iterator<Long> expiry = seen.values().iterator();
+                while (expiry.hasNext() && expiry.next() <= now)
+                    expiry.remove();
+                if (seen.containsKey(t))
+                    return false;
+                seen.put(t, now + period);
+                return true;
+            });
+        }));
+    }
+
+    /**
+     * Hedge this ReactiveSeq : subscribe to it again (re-issuing the call behind a cold Observable) if it has not
+     * signalled within the Hedger's delay, keeping whichever subscription signals first.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Row> row = Observables.reactiveSeq(client.read(key))
+     *                                     .hedge(Hedger.adaptive(0.95, 50, TimeUnit.MILLISECONDS, 1));
+     * }
+     * </pre>
+     *
+     * @param hedger Determines the delay and number of backup subscriptions and counts them
+     * @return ReactiveSeq with the signals of the first subscription to respond
+     * @see Observables#hedge(Supplier, Hedger)
+     */
+    public ReactiveSeq<T> hedge(Hedger hedger) {
+        return observable(hedger.hedge(() -> observable));
+    }
+
+    /**
+     * Remove repeated elements using a fixed size Bloom filter sized for expectedElements distinct elements at the
+     * target false positive rate. Duplicates are never emitted, but roughly falsePositiveRate of distinct elements
+     * are wrongly dropped (more once expectedElements is exceeded). Memory use is fixed at about
+     * -expectedElements * ln(falsePositiveRate) / ln(2)^2 bits.
+     *
+     * Elements are keyed on their 32 bit hashCode, so distinct elements with equal hash codes (such as "Aa" and "BB")
+     * are always treated as duplicates, and with tens of millions of elements hashCode collisions alone exceed small
+     * false positive rates. Supply a 64 bit hash with {@link #distinctApproximate(long, double, ToLongFunction)}
+     * for large or adversarial inputs.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<String> firstVisits = visitorIds.distinctApproximate(10_000_000, 0.001);
+     * }
+     * </pre>
+     *
+     * @param expectedElements Expected number of distinct elements
+     * @param falsePositiveRate Target fraction of distinct elements wrongly treated as duplicates
+     * @return ReactiveSeq without repeated elements
+     */
+    public ReactiveSeq<T> distinctApproximate(long expectedElements, double falsePositiveRate) {
+        return distinctApproximate(expectedElements,falsePositiveRate,t -> t == null ? 0 : t.hashCode());
+    }
+
+    /**
+     * Remove repeated elements using a fixed size Bloom filter keyed on a 64 bit hash of each element
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<String> firstVisits = visitorIds.distinctApproximate(100_000_000, 0.001, id -> murmur3_64(id));
+     * }
+     * </pre>
+     *
+     * @see #distinctApproximate(long, double)
+     * @param hash 64 bit hash of each element
+     */
+    public ReactiveSeq<T> distinctApproximate(long expectedElements, double falsePositiveRate, ToLongFunction<? super T> hash) {
+        return observable(Observable.defer(() -> {
+            BloomFilter filter = new BloomFilter(expectedElements, falsePositiveRate);
+            return observable.filter(t -> filter.addHash(hash.applyAsLong(t)));
+        }));
     }
 
     @Override
@@ -302,7 +708,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> limitWhile(Predicate<? super T> p) {
-        return observable(Observables.connectToReactiveSeq(observable).takeWhile(p));
+        return observable(observable.takeWhile(t->p.test(t)));
     }
     @Override
     public ReactiveSeq<T> limitWhileClosed(Predicate<? super T> p) {
@@ -311,7 +717,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> limitUntil(Predicate<? super T> p) {
-       return observable(Observables.connectToReactiveSeq(observable).limitUntil(p));
+       return observable(observable.takeWhile(t->!p.test(t)));
     }
 
     @Override
@@ -321,17 +727,66 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> parallel() {
-        return this;
+        return parallel(Runtime.getRuntime().availableProcessors(),Schedulers.computation());
+    }
+
+    /**
+     * Run subsequent map, filter, flatMap and concatMap stages on the supplied number of rails, each observed on
+     * its own worker of the supplied Scheduler. Encounter order is preserved unless {@link #unordered()} is called.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Data> enriched = seq.parallel(4,Schedulers.computation())
+     *                                   .map(this::enrich);
+     * }
+     * </pre>
+     *
+     * @param rails Number of rails to split work across
+     * @param scheduler Scheduler to run each rail on
+     * @return ReactiveSeq that processes elements in parallel
+     */
+    public ObservableReactiveSeq<T> parallel(int rails, Scheduler scheduler) {
+        return new ParallelObservableReactiveSeq<>(observable,rails,scheduler,true);
+    }
+
+    /**
+     * Run subsequent map, filter, flatMap and concatMap stages on a fixed number of serial lanes, each observed on its
+     * own worker of the supplied Scheduler. Elements are assigned to a lane by the hash of their key, so elements with
+     * the same key are processed one at a time in encounter order, while different keys are processed in parallel.
+     * Only one group is created per lane, so no state is held per key.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Receipt> receipts = orders.parallelByKey(Order::getCustomerId,8,Schedulers.computation())
+     *                                         .map(this::process);
+     * }
+     * </pre>
+     *
+     * @param key Function that extracts the key of each element
+     * @param lanes Number of lanes to split work across
+     * @param scheduler Scheduler to run each lane on
+     * @return ReactiveSeq that processes elements in parallel across keys and in order within each key
+     */
+    public <K> ObservableReactiveSeq<T> parallelByKey(Function<? super T, ? extends K> key, int lanes, Scheduler scheduler) {
+        return parallelByKey(key,lanes,scheduler,RxRingBuffer.SIZE);
+    }
+
+    /**
+     * @see #parallelByKey(Function, int, Scheduler)
+     * @param capacity Maximum number of elements queued on each lane
+     */
+    public <K> ObservableReactiveSeq<T> parallelByKey(Function<? super T, ? extends K> key, int lanes, Scheduler scheduler, int capacity) {
+        return new ParallelObservableReactiveSeq<>(observable,key,lanes,scheduler,capacity);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).allMatch(c);
+        return observable.all(t->c.test(t)).toBlocking().single();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).anyMatch(c);
+        return observable.exists(t->c.test(t)).toBlocking().single();
     }
 
     @Override
@@ -341,7 +796,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).noneMatch(c);
+        return !anyMatch(c);
     }
 
     @Override
@@ -366,7 +821,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findFirst() {
-        return Observables.connectToReactiveSeq(observable).findFirst();
+        return observable.take(1).map(Optional::of).toBlocking().firstOrDefault(Optional.empty());
     }
 
     @Override
@@ -381,7 +836,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findAny() {
-        return Observables.connectToReactiveSeq(observable).findAny();
+        return findFirst();
     }
 
     @Override
@@ -406,7 +861,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity,accumulator);
+        return observable.reduce(identity,(a,b)->accumulator.apply(a,b)).toBlocking().single();
     }
 
     @Override
@@ -459,7 +914,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
-        return observable(observable.map(e->fn.apply(e)));
+        return observable(FusedObservable.map(observable,fn));
     }
 
     @Override
@@ -512,17 +967,35 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> filter(Predicate<? super T> fn) {
-        return observable(observable.filter(t->fn.test(t)));
+        return observable(FusedObservable.filter(observable,fn));
     }
 
     @Override
     public Iterator<T> iterator() {
-        return Observables.connectToReactiveSeq(observable).iterator();
+        return iterator(RxRingBuffer.SIZE,RxRingBuffer.SIZE/4);
+    }
+
+    /**
+     * A blocking Iterator that keeps at most prefetch elements requested ahead of the consumer, requesting more once
+     * the number outstanding falls to lowWater.
+     *
+     * <pre>
+     * {@code
+     *   Iterator<Row> rows = seq.iterator(1024,256);
+     * }
+     * </pre>
+     *
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWater Number of outstanding elements at (or below) which more are requested
+     * @return Iterator over this ReactiveSeq
+     */
+    public Iterator<T> iterator(int prefetch, int lowWater) {
+        return PrefetchIterator.subscribe(observable,prefetch,lowWater);
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return Observables.connectToReactiveSeq(observable).spliterator();
+        return Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED);
     }
 
     @Override
@@ -542,7 +1015,10 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> reverse() {
-        return observable(Observables.connectToReactiveSeq(observable).reverse());
+        return observable(observable.toList().flatMapIterable(l->{
+            Collections.reverse(l);
+            return l;
+        }));
     }
 
     @Override
@@ -557,27 +1033,27 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> prependStream(Stream<? extends T> stream) {
-        return observable(Observables.connectToReactiveSeq(observable).prependStream(stream));
+        return observable(observable.startWith(Observables.fromStream((Stream<T>)stream)));
     }
 
     @Override
     public ReactiveSeq<T> appendAll(T... values) {
-        return observable(Observables.connectToReactiveSeq(observable).appendAll(values));
+        return observable(observable.concatWith(Observable.from(values)));
     }
 
     @Override
     public ReactiveSeq<T> append(T value) {
-        return observable(Observables.connectToReactiveSeq(observable).appendAll(value));
+        return observable(observable.concatWith(Observable.just(value)));
     }
 
     @Override
     public ReactiveSeq<T> prepend(T value) {
-        return observable(Observables.connectToReactiveSeq(observable).prepend(value));
+        return observable(observable.startWith(value));
     }
 
     @Override
     public ReactiveSeq<T> prependAll(T... values) {
-        return observable(Observables.connectToReactiveSeq(observable).prependAll(values));
+        return observable(observable.startWith(Observable.from(values)));
     }
 
     @Override
@@ -618,17 +1094,17 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> onEmptySwitch(Supplier<? extends Stream<T>> switchTo) {
-        return observable(Observables.connectToReactiveSeq(observable).onEmptySwitch(switchTo));
+        return observable(observable.switchIfEmpty(Observable.defer(()->Observables.fromStream(switchTo.get()))));
     }
 
     @Override
     public ReactiveSeq<T> onEmptyGet(Supplier<? extends T> supplier) {
-        return observable(Observables.connectToReactiveSeq(observable).onEmptyGet(supplier));
+        return observable(observable.switchIfEmpty(Observable.fromCallable(supplier::get)));
     }
 
     @Override
     public <X extends Throwable> ReactiveSeq<T> onEmptyError(Supplier<? extends X> supplier) {
-        return observable(Observables.connectToReactiveSeq(observable).onEmptyError(supplier));
+        return observable(observable.switchIfEmpty(Observable.defer(()->Observable.error(supplier.get()))));
     }
 
     @Override
@@ -638,27 +1114,68 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> xPer(int x, long time, TimeUnit t) {
-        return observable(Observables.connectToReactiveSeq(observable).xPer(x,time,t));
+        return xPer(x,time,t,Schedulers.computation());
+    }
+
+    /**
+     * @see #xPer(int, long, TimeUnit)
+     * @param scheduler Scheduler used as the clock and on which delayed elements are emitted
+     */
+    public ReactiveSeq<T> xPer(int x, long time, TimeUnit t, Scheduler scheduler) {
+        return observable(ratePer(x,t.toNanos(time),scheduler));
     }
 
     @Override
     public ReactiveSeq<T> onePer(long time, TimeUnit t) {
-        return observable(Observables.connectToReactiveSeq(observable).onePer(time,t));
+        return onePer(time,t,Schedulers.computation());
+    }
+
+    /**
+     * @see #onePer(long, TimeUnit)
+     * @param scheduler Scheduler used as the clock and on which delayed elements are emitted
+     */
+    public ReactiveSeq<T> onePer(long time, TimeUnit t, Scheduler scheduler) {
+        return observable(ratePer(1,t.toNanos(time),scheduler));
     }
 
     @Override
     public ReactiveSeq<T> debounce(long time, TimeUnit t) {
-        return observable(Observables.connectToReactiveSeq(observable).debounce(time,t));
+        return debounce(time,t,Schedulers.computation());
+    }
+
+    /**
+     * @see #debounce(long, TimeUnit)
+     * @param scheduler Scheduler used to time the debounce window
+     */
+    public ReactiveSeq<T> debounce(long time, TimeUnit t, Scheduler scheduler) {
+        return observable(observable.throttleFirst(time,t,scheduler));
     }
 
     @Override
     public ReactiveSeq<T> fixedDelay(long l, TimeUnit unit) {
-        return observable(Observables.connectToReactiveSeq(observable).fixedDelay(l,unit));
+        return fixedDelay(l,unit,Schedulers.computation());
+    }
+
+    /**
+     * @see #fixedDelay(long, TimeUnit)
+     * @param scheduler Scheduler on which delayed elements are emitted
+     */
+    public ReactiveSeq<T> fixedDelay(long l, TimeUnit unit, Scheduler scheduler) {
+        return observable(observable.concatMap(e->Observable.just(e).delay(l,unit,scheduler)));
     }
 
     @Override
     public ReactiveSeq<T> jitter(long maxJitterPeriodInNanos) {
-        return observable(Observables.connectToReactiveSeq(observable).jitter(maxJitterPeriodInNanos));
+        return jitter(maxJitterPeriodInNanos,Schedulers.computation());
+    }
+
+    /**
+     * @see #jitter(long)
+     * @param scheduler Scheduler on which delayed elements are emitted
+     */
+    public ReactiveSeq<T> jitter(long maxJitterPeriodInNanos, Scheduler scheduler) {
+        return observable(observable.concatMap(e->Observable.just(e)
+                                                     .delay((long)(ThreadLocalRandom.current().nextDouble()*maxJitterPeriodInNanos),TimeUnit.NANOSECONDS,scheduler)));
     }
 
     @Override
@@ -668,32 +1185,32 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> recover(Function<? super Throwable, ? extends T> fn) {
-        return observable(Observables.connectToReactiveSeq(observable).recover(fn));
+        return observable(observable.onErrorReturn(e->fn.apply(e)));
     }
 
     @Override
     public <EX extends Throwable> ReactiveSeq<T> recover(Class<EX> exceptionClass, Function<? super EX, ? extends T> fn) {
-        return observable(Observables.connectToReactiveSeq(observable).recover(exceptionClass,fn));
+        return observable(observable.onErrorResumeNext(e->exceptionClass.isInstance(e) ? Observable.just(fn.apply((EX)e)) : Observable.error(e)));
     }
 
     @Override
     public long count() {
-        return Observables.connectToReactiveSeq(observable).count();
+        return observable.countLong().toBlocking().single();
     }
 
     @Override
     public ReactiveSeq<T> appendStream(Stream<? extends T> other) {
-        return observable(Observables.connectToReactiveSeq(observable).appendStream(other));
+        return observable(observable.concatWith(Observables.fromStream((Stream<T>)other)));
     }
 
     @Override
     public ReactiveSeq<T> appendAll(Iterable<? extends T> other) {
-        return  observable(Observables.connectToReactiveSeq(observable).appendAll(other));
+        return  observable(observable.concatWith(Observable.from(other)));
     }
 
     @Override
     public ReactiveSeq<T> prependAll(Iterable<? extends T> other) {
-        return observable(Observables.connectToReactiveSeq(observable).prependAll(other));
+        return observable(observable.startWith((Iterable<T>)other));
     }
 
     @Override
@@ -703,13 +1220,13 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> skipWhileClosed(Predicate<? super T> predicate) {
-        return observable(Observables.connectToReactiveSeq(observable).skipWhileClosed(predicate));
+        return observable(observable.skipWhile(t->predicate.test(t)));
     }
 
 
     @Override
     public ReactiveSeq<T> changes() {
-        return observable(Observables.connectToReactiveSeq(observable).changes());
+        return observable(observable.distinctUntilChanged());
     }
 
 
@@ -737,7 +1254,8 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R, A> ReactiveSeq<R> collectAll(Collector<? super T, A, R> collector) {
-        return observable(Observables.connectToReactiveSeq(observable).collectAll(collector));
+        return observable(observable.collect(collector.supplier()::get,collector.accumulator()::accept)
+                                    .map(collector.finisher()::apply));
     }
 
     @Override
@@ -758,7 +1276,41 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Seq<ReactiveSeq<T>> multicast(int num) {
-        return Observables.connectToReactiveSeq(observable).multicast(num).map(s->observable(s));
+        Observable<T> shared = observable.publish().autoConnect(num);
+        return Seq.range(0,num).map(i->observable(shared));
+    }
+
+    /**
+     * Share a single upstream subscription between all subscribers to the returned ReactiveSeq, replaying at most
+     * the last size elements to late subscribers. The upstream subscription is made by the first subscriber.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Quote> quotes = Observables.reactiveSeq(feed).replay(100);
+     * }
+     * </pre>
+     *
+     * @param size Maximum number of elements to retain for replay
+     * @return ReactiveSeq sharing one upstream subscription
+     */
+    public ObservableReactiveSeq<T> replay(int size) {
+        return observable(observable.replay(size).autoConnect());
+    }
+
+    /**
+     * @see #replay(int)
+     * @return ReactiveSeq sharing one upstream subscription, replaying elements emitted within the last time period
+     */
+    public ObservableReactiveSeq<T> replay(long time, TimeUnit unit) {
+        return observable(observable.replay(time,unit).autoConnect());
+    }
+
+    /**
+     * @see #replay(int)
+     * @return ReactiveSeq sharing one upstream subscription, replaying at most size elements emitted within the last time period
+     */
+    public ObservableReactiveSeq<T> replay(int size, long time, TimeUnit unit) {
+        return observable(observable.replay(size,time,unit).autoConnect());
     }
 
     @Override
@@ -774,4 +1326,115 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
     public void forEachAsync(Consumer<? super T> action) {
         observable.subscribe(a->action.accept(a));
     }
+
+    /**
+     * @return Future completed with the number of elements once the Observable completes
+     */
+    public Future<Long> countAsync() {
+        return future(observable.countLong());
+    }
+
+    /**
+     * @return Future completed with the result of reducing all elements, starting from identity
+     */
+    public Future<T> reduceAsync(T identity, BinaryOperator<T> accumulator) {
+        return future(observable.reduce(identity,(a,b)->accumulator.apply(a,b)));
+    }
+
+    /**
+     * @return Future completed with the result of reducing all elements, or None if there were none
+     */
+    public Future<Option<T>> reduceAsync(BinaryOperator<T> accumulator) {
+        return future(observable.reduce(Option.<T>none(),(a,b)->a.isPresent() ? Option.some(accumulator.apply(a.orElse(null),b))
+                                                                              : Option.some(b)));
+    }
+
+    /**
+     * @return Future completed with the result of folding all elements from the right
+     */
+    public <U> Future<U> foldRightAsync(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return future(observable.toList().map(l->{
+            U result = identity;
+            for(ListIterator<T> it = l.listIterator(l.size()); it.hasPrevious();)
+                result = accumulator.apply(it.previous(),result);
+            return result;
+        }));
+    }
+
+    /**
+     * @return Future completed with all elements collected by the supplied Collector
+     */
+    public <R, A> Future<R> collectAsync(Collector<? super T, A, R> collector) {
+        return future(observable.collect(collector.supplier()::get,collector.accumulator()::accept)
+                                .map(collector.finisher()::apply));
+    }
+
+    /**
+     * @return Future completed with the first element (the Observable is unsubscribed from as soon as it arrives),
+     * or None if there are no elements
+     */
+    public Future<Option<T>> findFirstAsync() {
+        return future(observable.take(1)
+                                .map(Option::some)
+                                .defaultIfEmpty(Option.none()));
+    }
+
+    /**
+     * @return Future completed with the first element, or alt if there are no elements
+     */
+    public Future<T> firstValueAsync(T alt) {
+        return future(observable.take(1).defaultIfEmpty(alt));
+    }
+
+    /**
+     * @return Future completed with the only element, or None if there are none or more than one
+     */
+    public Future<Option<T>> singleAsync() {
+        return future(observable.take(2)
+                                .toList()
+                                .map(l->l.size()==1 ? Option.some(l.get(0)) : Option.none()));
+    }
+
+    /**
+     * @return Future completed with true as soon as an element matches, or false once the Observable completes
+     */
+    public Future<Boolean> anyMatchAsync(Predicate<? super T> c) {
+        return future(observable.exists(t->c.test(t)));
+    }
+
+    /**
+     * @return Future completed with false as soon as an element does not match, or true once the Observable completes
+     */
+    public Future<Boolean> allMatchAsync(Predicate<? super T> c) {
+        return future(observable.all(t->c.test(t)));
+    }
+
+    private static <R> Future<R> future(Observable<R> single){
+        Future<R> result = Future.future();
+        single.subscribe(result::complete,result::completeExceptionally);
+        return result;
+    }
+
+    /*
+     * Emits at most x elements per period, later elements are delayed (not dropped) until the period they fall
+     * into begins. Release times are absolute so that time spent waiting on earlier elements is not counted twice.
+     * Time is read from the Scheduler so that virtual-time schedulers control the rate as well as the delays.
+     */
+    private Observable<T> ratePer(int x, long periodNanos, Scheduler scheduler){
+        return Observable.defer(()->{
+            long[] window = {Long.MIN_VALUE, 0};
+            return observable.concatMap(t->{
+                long now = TimeUnit.MILLISECONDS.toNanos(scheduler.now());
+                if(window[0]==Long.MIN_VALUE || now - window[0] >= periodNanos + periodNanos * ((window[1]-1)/x)){
+                    window[0]=now;
+                    window[1]=0;
+                }
+                long release = window[0] + periodNanos * (window[1]++ / x);
+                return Observable.defer(()->{
+                    long wait = release - TimeUnit.MILLISECONDS.toNanos(scheduler.now());
+                    return wait<=0 ? Observable.just(t) : Observable.just(t).delay(wait,TimeUnit.NANOSECONDS,scheduler);
+                });
+            });
+        });
+    }
 }
@@ -0,0 +1,195 @@
+package com.oath.cyclops.rx.adapter;
+
+import com.oath.cyclops.rx.operators.FusedObservable;
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import rx.Observable;
+import rx.Scheduler;
+import rx.internal.util.RxRingBuffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An ObservableReactiveSeq whose map, filter, flatMap and concatMap stages run on a fixed number of rails, each
+ * observed on its own Scheduler worker. Elements are dealt to rails round-robin (or by the hash of their key when
+ * keyed) and the rails are merged back together before any other operator is applied.
+ *
+ * When ordered, each element travels its rail as a sequence number paired with the (possibly empty) list of results
+ * derived from it, so the rail's operators are assembled once per rail rather than once per element, and the merged
+ * output is re-sequenced so downstream operators see the source encounter order. When keyed, all elements with the
+ * same key share a rail and are processed serially in encounter order, while elements with different keys may be
+ * reordered.
+ *
+ * @param <T> Element type
+ */
+public class ParallelObservableReactiveSeq<T> extends ObservableReactiveSeq<T> {
+
+    private final Observable<Object> source;
+    private final Function<Observable<Object>, Observable<T>> rail;
+    private final Function<Observable<Sequenced<List<Object>>>, Observable<Sequenced<List<T>>>> orderedRail;
+    private final int rails;
+    private final Scheduler scheduler;
+    private final boolean ordered;
+    private final Function<Object, ?> key;
+    private final int capacity;
+
+    public ParallelObservableReactiveSeq(Observable<T> source, int rails, Scheduler scheduler, boolean ordered) {
+        this((Observable) source, o -> (Observable) o, o -> (Observable) o, rails, scheduler, ordered, null, RxRingBuffer.SIZE);
+    }
+
+    /**
+     * Construct a keyed ParallelObservableReactiveSeq, elements are assigned to a rail by the hash of their key
+     *
+     * @param source Observable to process
+     * @param key Function that extracts the key of each element
+     * @param rails Number of rails
+     * @param scheduler Scheduler to run each rail on
+     * @param capacity Maximum number of elements queued on each rail
+     */
+    public ParallelObservableReactiveSeq(Observable<T> source, Function<? super T, ?> key, int rails, Scheduler scheduler, int capacity) {
+        this((Observable) source, o -> (Observable) o, o -> (Observable) o, rails, scheduler, false, (Function<Object, ?>) key, capacity);
+    }
+
+    private ParallelObservableReactiveSeq(Observable<Object> source, Function<Observable<Object>, Observable<T>> rail,
+                                          Function<Observable<Sequenced<List<Object>>>, Observable<Sequenced<List<T>>>> orderedRail,
+                                          int rails, Scheduler scheduler, boolean ordered, Function<Object, ?> key, int capacity) {
+        super(ordered ? ordered(source, orderedRail, rails, scheduler) : unordered(source, rail, rails, scheduler, key, capacity));
+        if (rails <= 0)
+            throw new IllegalArgumentException("rails must be positive, was " + rails);
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive, was " + capacity);
+        this.source = source;
+        this.rail = rail;
+        this.orderedRail = orderedRail;
+        this.rails = rails;
+        this.scheduler = scheduler;
+        this.ordered = ordered;
+        this.key = key;
+        this.capacity = capacity;
+    }
+
+    private <R> ParallelObservableReactiveSeq<R> onRails(Function<Observable<T>, Observable<R>> stage,
+                                                         Function<Observable<Sequenced<List<T>>>, Observable<Sequenced<List<R>>>> orderedStage) {
+        return new ParallelObservableReactiveSeq<>(source, rail.andThen(stage), orderedRail.andThen(orderedStage),
+                                                   rails, scheduler, ordered, key, capacity);
+    }
+
+    private <R> ParallelObservableReactiveSeq<R> onRails(Function<Observable<T>, Observable<R>> stage,
+                                                         BiConsumer<T, List<R>> orderedStage) {
+        return onRails(stage, o -> FusedObservable.map(o, s -> {
+            List<R> results = new ArrayList<>(s.value.size());
+            for (T t : s.value)
+                orderedStage.accept(t, results);
+            return new Sequenced<>(s.index, results);
+        }));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        return onRails(o -> FusedObservable.map(o, fn), (t, results) -> results.add(fn.apply(t)));
+    }
+
+    @Override
+    public ReactiveSeq<T> filter(Predicate<? super T> fn) {
+        return onRails(o -> FusedObservable.filter(o, fn), (t, results) -> {
+            if (fn.test(t))
+                results.add(t);
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        return onRails(o -> o.flatMap(s -> Observables.fromStream(fn.apply(s))),
+                       o -> o.concatMap(s -> Observable.from(s.value)
+                                                       .concatMap(t -> Observables.<R>fromStream((Stream<R>) fn.apply(t)))
+                                                       .toList()
+                                                       .map(l -> new Sequenced<>(s.index, l))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return onRails(o -> o.flatMapIterable(a -> fn.apply(a)), (t, results) -> {
+            for (R r : fn.apply(t))
+                results.add(r);
+        });
+    }
+
+    @Override
+    public ReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    @Override
+    public ObservableReactiveSeq<T> parallel(int rails, Scheduler scheduler) {
+        return new ParallelObservableReactiveSeq<>(source, rail, orderedRail, rails, scheduler, ordered, key, capacity);
+    }
+
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return new ObservableReactiveSeq<>(observable);
+    }
+
+    @Override
+    public ReactiveSeq<T> unordered() {
+        return ordered ? new ParallelObservableReactiveSeq<>(source, rail, orderedRail, rails, scheduler, false, key, capacity) : this;
+    }
+
+    private static <T> Observable<T> unordered(Observable<Object> source, Function<Observable<Object>, Observable<T>> rail,
+                                               int rails, Scheduler scheduler, Function<Object, ?> key, int capacity) {
+        return Observable.defer(() -> {
+            long[] next = {0};
+            return source.groupBy(t -> key == null ? (int) (next[0]++ % rails) : railOf(key.apply(t), rails))
+                         .flatMap(group -> rail.apply(group.observeOn(scheduler, capacity)), rails);
+        });
+    }
+
+    private static int railOf(Object key, int rails) {
+        int h = Objects.hashCode(key);
+        return Math.floorMod(h ^ (h >>> 16), rails);
+    }
+
+    private static <T> Observable<T> ordered(Observable<Object> source,
+                                             Function<Observable<Sequenced<List<Object>>>, Observable<Sequenced<List<T>>>> rail,
+                                             int rails, Scheduler scheduler) {
+        return Observable.defer(() -> {
+            long[] next = {0, 0};
+            Map<Long, List<T>> completed = new HashMap<>();
+            return source.map(t -> new Sequenced<>(next[0]++, Collections.singletonList(t)))
+                         .groupBy(s -> (int) (s.index % rails))
+                         .flatMap(group -> rail.apply(group.observeOn(scheduler)), rails)
+                         .concatMapIterable(s -> {
+                             completed.put(s.index, s.value);
+                             List<T> ready = new ArrayList<>();
+                             for (List<T> l = completed.remove(next[1]); l != null; l = completed.remove(next[1])) {
+                                 ready.addAll(l);
+                                 next[1]++;
+                             }
+                             return ready;
+                         });
+        });
+    }
+
+    private static final class Sequenced<T> {
+        final long index;
+        final T value;
+
+        Sequenced(long index, T value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+}
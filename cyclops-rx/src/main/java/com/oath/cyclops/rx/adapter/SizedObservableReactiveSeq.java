@@ -0,0 +1,28 @@
+package com.oath.cyclops.rx.adapter;
+
+import rx.Observable;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An ObservableReactiveSeq over a finite source whose size is known when it is constructed (a range or an array of
+ * values). Its Spliterator reports SIZED and SUBSIZED so that Stream consumers can split it evenly. Operators
+ * applied to it return unsized ObservableReactiveSeqs.
+ *
+ * @param <T> Element type
+ */
+public class SizedObservableReactiveSeq<T> extends ObservableReactiveSeq<T> {
+
+    private final long size;
+
+    public SizedObservableReactiveSeq(Observable<T> observable, long size) {
+        super(observable);
+        this.size = size;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+}
@@ -0,0 +1,49 @@
+package com.oath.cyclops.rx.buffer;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Converts elements to and from bytes so they can be spilled out of the heap.
+ *
+ * @param <T> Element type
+ */
+public interface Codec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+
+    /**
+     * @return Codec using standard Java serialization
+     */
+    static <T extends Serializable> Codec<T> serializable() {
+        return new Codec<T>() {
+            @Override
+            public byte[] encode(T value) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(value);
+                } catch (IOException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public T decode(byte[] bytes) {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) in.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package com.oath.cyclops.rx.buffer;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts an unbounded number of elements while holding at most maxInMemory of them on heap. Elements are collected
+ * into runs of maxInMemory, each run is sorted and appended to a temporary file, and {@link #iterator()} merges the
+ * runs lazily. If every element fits in memory nothing is written to disk. The sort is stable.
+ *
+ * At most 64 runs are merged at once. When more runs have been spilled, consecutive groups of 64 are first merged
+ * into longer runs appended to the same file, until the remaining runs can be merged in a single pass. Each such pass
+ * rewrites every element once, so the file grows by the size of the input per pass. Read buffers share a fixed budget
+ * of 1 MB, so heap used while merging does not grow with the number of runs.
+ *
+ * The temporary file is unlinked as soon as it is opened where the platform allows, and otherwise deleted on exit.
+ * Null elements are supported if the Comparator supports them. Not thread-safe.
+ *
+ * @param <T> Element type
+ */
+public class ExternalSorter<T> implements AutoCloseable {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FAN_IN = 64;
+    private static final int READ_BUFFER_BUDGET = 1024 * 1024;
+
+    private final Comparator<? super T> comparator;
+    private final int maxInMemory;
+    private final Codec<T> codec;
+    private final List<T> memory = new ArrayList<>();
+    private final List<long[]> runs = new ArrayList<>();
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private DataOutputStream out;
+    private int spilledRuns;
+    private int mergePasses;
+
+    public ExternalSorter(Comparator<? super T> comparator, int maxInMemory, Codec<T> codec) {
+        if (maxInMemory <= 0)
+            throw new IllegalArgumentException("maxInMemory must be positive, was " + maxInMemory);
+        this.comparator = comparator;
+        this.maxInMemory = maxInMemory;
+        this.codec = codec;
+    }
+
+    public void add(T value) {
+        memory.add(value);
+        if (memory.size() == maxInMemory)
+            spill();
+    }
+
+    /**
+     * @return Number of sorted runs written to disk so far
+     */
+    public int spilledRuns() {
+        return spilledRuns;
+    }
+
+    /**
+     * @return Number of intermediate passes that merged runs back to disk, 0 if the runs were merged directly
+     */
+    public int mergePasses() {
+        return mergePasses;
+    }
+
+    /**
+     * @return Iterator over every element added, in sorted order
+     */
+    public Iterator<T> iterator() {
+        if (runs.isEmpty()) {
+            memory.sort(comparator);
+            return memory.iterator();
+        }
+        if (!memory.isEmpty())
+            spill();
+        while (runs.size() > MAX_FAN_IN)
+            mergePass();
+        return new MergeIterator(runs);
+    }
+
+    private void spill() {
+        memory.sort(comparator);
+        try {
+            if (file == null) {
+                File temp = File.createTempFile("cyclops-rx-sort", ".bin");
+                file = new RandomAccessFile(temp, "rw");
+                if (!temp.delete())
+                    temp.deleteOnExit();
+                channel = file.getChannel();
+                out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            }
+            long start = channel.position();
+            for (T value : memory)
+                write(value);
+            out.flush();
+            runs.add(new long[]{start, channel.position(), memory.size()});
+            spilledRuns++;
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        memory.clear();
+    }
+
+    /**
+     * Merge consecutive groups of MAX_FAN_IN runs into single runs appended to the file. Groups keep their relative
+     * order, so the final merge remains stable.
+     */
+    private void mergePass() {
+        List<long[]> merged = new ArrayList<>((runs.size() + MAX_FAN_IN - 1) / MAX_FAN_IN);
+        try {
+            for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                List<long[]> group = runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                long start = channel.position();
+                long count = 0;
+                for (Iterator<T> it = new MergeIterator(group); it.hasNext(); count++)
+                    write(it.next());
+                out.flush();
+                merged.add(new long[]{start, channel.position(), count});
+            }
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        runs.clear();
+        runs.addAll(merged);
+        mergePasses++;
+    }
+
+    private void write(T value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            byte[] bytes = codec.encode(value);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        memory.clear();
+        runs.clear();
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                //ignore, the file is already unlinked or deleted on exit
+            }
+            file = null;
+            channel = null;
+            out = null;
+        }
+    }
+
+    private final class MergeIterator implements Iterator<T> {
+        private final PriorityQueue<Run> heads;
+
+        MergeIterator(List<long[]> runs) {
+            Comparator<Run> byHead = (a, b) -> comparator.compare(a.head, b.head);
+            heads = new PriorityQueue<>(Math.max(1, runs.size()), byHead.thenComparingInt(r -> r.index));
+            int bufferSize = Math.max(1, READ_BUFFER_BUDGET / Math.max(1, runs.size()));
+            for (int i = 0; i < runs.size(); i++) {
+                long[] run = runs.get(i);
+                Run reader = new Run(i, run[0], run[1], run[2], bufferSize);
+                if (reader.advance())
+                    heads.add(reader);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Run run = heads.poll();
+            if (run == null)
+                throw new NoSuchElementException();
+            T value = run.head;
+            if (run.advance())
+                heads.add(run);
+            return value;
+        }
+    }
+
+    private final class Run {
+        final int index;
+        final DataInputStream in;
+        long remaining;
+        T head;
+
+        Run(int index, long start, long end, long count, int bufferSize) {
+            this.index = index;
+            this.remaining = count;
+            this.in = new DataInputStream(new BufferedInputStream(new RegionInputStream(channel, start, end), bufferSize));
+        }
+
+        boolean advance() {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            remaining--;
+            try {
+                int length = in.readInt();
+                if (length == NULL_LENGTH) {
+                    head = null;
+                } else {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    head = codec.decode(bytes);
+                }
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            return true;
+        }
+    }
+
+    private static final class RegionInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RegionInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end)
+                return -1;
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (read > 0)
+                position += read;
+            return read;
+        }
+    }
+}
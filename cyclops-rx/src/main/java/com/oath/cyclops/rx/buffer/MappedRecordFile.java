@@ -0,0 +1,229 @@
+package com.oath.cyclops.rx.buffer;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A sequence of byte[] records in a memory-mapped temporary file. Each record is framed by its length on both sides
+ * so it can be read and removed from either end. A length of -1 stands for a null record.
+ *
+ * The mapping grows by doubling, live records are compacted to the start of the file first if that makes room.
+ * The temporary file is unlinked as soon as it is opened where the platform allows, and otherwise deleted on exit.
+ * It is closed whenever the last record is removed and reopened by the next write, so an empty MappedRecordFile
+ * holds no file descriptor even if {@link #close()} is never called.
+ */
+class MappedRecordFile implements AutoCloseable {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int FRAME = 8;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private int start;
+    private int end;
+    private long count;
+
+    long count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void addLast(byte[] record) {
+        int length = length(record);
+        ensureCapacity(length + FRAME);
+        write(end, record);
+        end += length + FRAME;
+        count++;
+    }
+
+    /**
+     * @return true if the record was written, false if there was no room before the first record
+     */
+    boolean tryAddFirst(byte[] record) {
+        int length = length(record);
+        if (map == null || start < length + FRAME)
+            return false;
+        start -= length + FRAME;
+        write(start, record);
+        count++;
+        return true;
+    }
+
+    byte[] peekFirst() {
+        return read(start);
+    }
+
+    byte[] peekLast() {
+        return read(previous(end));
+    }
+
+    byte[] pollFirst() {
+        byte[] record = read(start);
+        start = next(start);
+        removed();
+        return record;
+    }
+
+    byte[] pollLast() {
+        end = previous(end);
+        byte[] record = read(end);
+        removed();
+        return record;
+    }
+
+    /**
+     * Remove the record at position, shifting whichever side of it holds fewer bytes over the gap
+     *
+     * @param position Position of a live record, as returned by {@link #first()}, {@link #next(int)} etc.
+     */
+    void remove(int position) {
+        int size = length(map.getInt(position)) + FRAME;
+        if (position - start <= end - position - size) {
+            move(start, start + size, position - start);
+            start += size;
+        } else {
+            move(position + size, position, end - position - size);
+            end -= size;
+        }
+        removed();
+    }
+
+    /**
+     * @return Position of the first record, for iteration with {@link #next(int)} and {@link #read(int)}
+     */
+    int first() {
+        return start;
+    }
+
+    int last() {
+        return previous(end);
+    }
+
+    int next(int position) {
+        return position + length(map.getInt(position)) + FRAME;
+    }
+
+    int previous(int position) {
+        return position - length(map.getInt(position - 4)) - FRAME;
+    }
+
+    byte[] read(int position) {
+        int length = map.getInt(position);
+        if (length == NULL_LENGTH)
+            return null;
+        byte[] record = new byte[length];
+        at(position + 4).get(record);
+        return record;
+    }
+
+    private void write(int position, byte[] record) {
+        int length = record == null ? NULL_LENGTH : record.length;
+        map.putInt(position, length);
+        if (record != null)
+            at(position + 4).put(record);
+        map.putInt(position + 4 + length(length), length);
+    }
+
+    private void removed() {
+        if (--count == 0)
+            close();
+    }
+
+    boolean isOpen() {
+        return file != null;
+    }
+
+    private ByteBuffer at(int position) {
+        ByteBuffer buffer = map.duplicate();
+        buffer.position(position);
+        return buffer;
+    }
+
+    private static int length(byte[] record) {
+        return record == null ? 0 : record.length;
+    }
+
+    private static int length(int framed) {
+        return framed == NULL_LENGTH ? 0 : framed;
+    }
+
+    private void ensureCapacity(int needed) {
+        try {
+            if (map == null) {
+                File temp = File.createTempFile("cyclops-rx-deque", ".bin");
+                file = new RandomAccessFile(temp, "rw");
+                if (!temp.delete())
+                    temp.deleteOnExit();
+                channel = file.getChannel();
+                map = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_CAPACITY, needed));
+            }
+            if (end + needed <= map.capacity())
+                return;
+            if (start > 0)
+                compact();
+            if (end + needed <= map.capacity())
+                return;
+            long capacity = Math.max((long) map.capacity() * 2, (long) end + needed);
+            if (capacity > Integer.MAX_VALUE)
+                throw new IllegalStateException("Spill file can not exceed " + Integer.MAX_VALUE + " bytes");
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private void compact() {
+        int live = end - start;
+        move(start, 0, live);
+        start = 0;
+        end = live;
+    }
+
+    /**
+     * Copy length bytes from one position to another, the regions may overlap
+     */
+    private void move(int from, int to, int length) {
+        byte[] chunk = new byte[8192];
+        if (to < from) {
+            for (int copied = 0; copied < length; copied += chunk.length) {
+                int size = Math.min(chunk.length, length - copied);
+                at(from + copied).get(chunk, 0, size);
+                at(to + copied).put(chunk, 0, size);
+            }
+        } else {
+            for (int remaining = length; remaining > 0; remaining -= chunk.length) {
+                int size = Math.min(chunk.length, remaining);
+                at(from + remaining - size).get(chunk, 0, size);
+                at(to + remaining - size).put(chunk, 0, size);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        count = 0;
+        start = 0;
+        end = 0;
+        map = null;
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                //ignore, the file is already unlinked or deleted on exit
+            }
+            file = null;
+            channel = null;
+        }
+    }
+}
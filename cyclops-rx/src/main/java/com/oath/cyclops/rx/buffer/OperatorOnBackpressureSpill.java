@@ -0,0 +1,128 @@
+package com.oath.cyclops.rx.buffer;
+
+import rx.Observable;
+import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+import rx.subscriptions.Subscriptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Requests everything from upstream, and buffers elements the downstream Subscriber has not yet requested in a
+ * {@link SpillingQueue}, so that at most maxInMemory of them are held on heap.
+ *
+ * @param <T> Element type
+ */
+public class OperatorOnBackpressureSpill<T> implements Observable.Operator<T, T> {
+
+    private final Supplier<SpillingQueue<T>> queueFactory;
+
+    public OperatorOnBackpressureSpill(int maxInMemory, Codec<T> codec) {
+        this.queueFactory = () -> new SpillingQueue<>(maxInMemory, codec);
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super T> child) {
+        SpillSubscriber<T> parent = new SpillSubscriber<>(child, queueFactory.get());
+        child.add(parent);
+        child.add(Subscriptions.create(parent.queue::close));
+        child.setProducer(parent::requestMore);
+        return parent;
+    }
+
+    private static final class SpillSubscriber<T> extends Subscriber<T> {
+        private final Subscriber<? super T> child;
+        private final SpillingQueue<T> queue;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private Throwable error;
+
+        SpillSubscriber(Subscriber<? super T> child, SpillingQueue<T> queue) {
+            this.child = child;
+            this.queue = queue;
+        }
+
+        @Override
+        public void onStart() {
+            request(Long.MAX_VALUE);
+        }
+
+        void requestMore(long n) {
+            if (n > 0) {
+                BackpressureUtils.getAndAddRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done)
+                return;
+            try {
+                queue.offer(t);
+            } catch (RuntimeException e) {
+                unsubscribe();
+                onError(e);
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompleted() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0;
+                while (e != r) {
+                    if (child.isUnsubscribed())
+                        return;
+                    boolean d = done;
+                    boolean empty = queue.isEmpty();
+                    if (d && empty) {
+                        terminate();
+                        return;
+                    }
+                    if (empty)
+                        break;
+                    child.onNext(queue.poll());
+                    e++;
+                }
+                if (e == r && done && queue.isEmpty()) {
+                    terminate();
+                    return;
+                }
+                if (e != 0)
+                    BackpressureUtils.produced(requested, e);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private void terminate() {
+            queue.close();
+            if (error != null)
+                child.onError(error);
+            else
+                child.onCompleted();
+        }
+    }
+}
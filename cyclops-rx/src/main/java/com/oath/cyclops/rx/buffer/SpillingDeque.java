@@ -0,0 +1,374 @@
+package com.oath.cyclops.rx.buffer;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A Deque that holds at most maxInMemory elements on heap, the oldest at the head and the newest at the tail. Elements
+ * in between are encoded with a Codec and spilled to a memory-mapped temporary file, from which they are read back
+ * as the head drains. Intended as the buffer for duplicate / triplicate / quadruplicate where one consumer runs far
+ * ahead of another.
+ *
+ * <pre>
+ * {@code
+ *   Tuple2<ReactiveSeq<Event>, ReactiveSeq<Event>> copies = events.duplicate(SpillingDeque.factory(10_000, codec));
+ * }
+ * </pre>
+ *
+ * Null elements are supported, so a null result from poll / peek methods may be an element, check {@link #isEmpty()}
+ * first. removeFirstOccurrence and removeLastOccurrence decode the disk segment to search it, Iterator#remove is not
+ * supported. Elements pushed onto the head while the tail is empty may be kept on heap beyond maxInMemory if the
+ * spill file has no room before its first record. All methods are thread-safe. The spill file is released whenever
+ * the disk segment drains, and by {@link #close()}, so buffers that are never closed (such as those created by
+ * {@link #factory(int, Codec)}) do not hold a file descriptor once their consumers catch up.
+ *
+ * The disk segment is a single mapping of at most {@link Integer#MAX_VALUE} bytes (about 2 GB), including 8 bytes of
+ * framing per element. Spilling beyond that, e.g. when one consumer of a duplicate runs that far ahead of the other,
+ * fails with an IllegalStateException; size maxInMemory or bound the lead between consumers accordingly.
+ *
+ * @param <T> Element type
+ */
+public class SpillingDeque<T> extends AbstractCollection<T> implements Deque<T>, AutoCloseable {
+
+    private static final Object NULL = new Object();
+
+    private final int maxInMemory;
+    private final Codec<T> codec;
+    private final ArrayDeque<Object> head = new ArrayDeque<>();
+    private final ArrayDeque<Object> tail = new ArrayDeque<>();
+    private final MappedRecordFile spill = new MappedRecordFile();
+
+    public SpillingDeque(int maxInMemory, Codec<T> codec) {
+        if (maxInMemory <= 0)
+            throw new IllegalArgumentException("maxInMemory must be positive, was " + maxInMemory);
+        this.maxInMemory = maxInMemory;
+        this.codec = codec;
+    }
+
+    /**
+     * @return Supplier of SpillingDeques, for use as a buffer factory
+     */
+    public static <T> Supplier<Deque<T>> factory(int maxInMemory, Codec<T> codec) {
+        return () -> new SpillingDeque<>(maxInMemory, codec);
+    }
+
+    /**
+     * @return Supplier of SpillingDeques that spill using Java serialization, for use as a buffer factory
+     */
+    public static <T extends Serializable> Supplier<Deque<T>> factory(int maxInMemory) {
+        return factory(maxInMemory, Codec.serializable());
+    }
+
+    /**
+     * @return Number of elements currently held on disk
+     */
+    public synchronized long spilled() {
+        return spill.count();
+    }
+
+    @Override
+    public synchronized int size() {
+        return (int) Math.min(Integer.MAX_VALUE, head.size() + spill.count() + tail.size());
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return head.isEmpty() && spill.isEmpty() && tail.isEmpty();
+    }
+
+    @Override
+    public synchronized void addFirst(T t) {
+        head.addFirst(mask(t));
+        shrink();
+    }
+
+    @Override
+    public synchronized void addLast(T t) {
+        if (spill.isEmpty() && tail.isEmpty() && head.size() < maxInMemory)
+            head.addLast(mask(t));
+        else
+            tail.addLast(mask(t));
+        shrink();
+    }
+
+    @Override
+    public boolean offerFirst(T t) {
+        addFirst(t);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T t) {
+        addLast(t);
+        return true;
+    }
+
+    @Override
+    public synchronized T pollFirst() {
+        if (head.isEmpty())
+            refill();
+        if (!head.isEmpty())
+            return unmask(head.pollFirst());
+        return unmask(tail.pollFirst());
+    }
+
+    @Override
+    public synchronized T pollLast() {
+        if (!tail.isEmpty())
+            return unmask(tail.pollLast());
+        if (!spill.isEmpty())
+            return decode(spill.pollLast());
+        return unmask(head.pollLast());
+    }
+
+    @Override
+    public synchronized T peekFirst() {
+        if (head.isEmpty())
+            refill();
+        if (!head.isEmpty())
+            return unmask(head.peekFirst());
+        return unmask(tail.peekFirst());
+    }
+
+    @Override
+    public synchronized T peekLast() {
+        if (!tail.isEmpty())
+            return unmask(tail.peekLast());
+        if (!spill.isEmpty())
+            return decode(spill.peekLast());
+        return unmask(head.peekLast());
+    }
+
+    @Override
+    public synchronized T removeFirst() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    @Override
+    public synchronized T removeLast() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    @Override
+    public synchronized T getFirst() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return peekFirst();
+    }
+
+    @Override
+    public synchronized T getLast() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return peekLast();
+    }
+
+    @Override
+    public synchronized boolean removeFirstOccurrence(Object o) {
+        if (head.removeFirstOccurrence(mask(o)))
+            return true;
+        int position = spill.isEmpty() ? 0 : spill.first();
+        for (long remaining = spill.count(); remaining > 0; remaining--) {
+            if (Objects.equals(o, decode(spill.read(position)))) {
+                spill.remove(position);
+                return true;
+            }
+            if (remaining > 1)
+                position = spill.next(position);
+        }
+        return tail.removeFirstOccurrence(mask(o));
+    }
+
+    @Override
+    public synchronized boolean removeLastOccurrence(Object o) {
+        if (tail.removeLastOccurrence(mask(o)))
+            return true;
+        int position = spill.isEmpty() ? 0 : spill.last();
+        for (long remaining = spill.count(); remaining > 0; remaining--) {
+            if (Objects.equals(o, decode(spill.read(position)))) {
+                spill.remove(position);
+                return true;
+            }
+            if (remaining > 1)
+                position = spill.previous(position);
+        }
+        return head.removeLastOccurrence(mask(o));
+    }
+
+    @Override
+    public boolean add(T t) {
+        addLast(t);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T t) {
+        return offerLast(t);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T t) {
+        addFirst(t);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public synchronized void clear() {
+        head.clear();
+        tail.clear();
+        spill.close();
+    }
+
+    /**
+     * Iterates from head to tail over a snapshot of the disk segment's current records, not safe for use
+     * concurrently with modifications
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        return new Iterator<T>() {
+            Iterator<Object> memory = head.iterator();
+            boolean onHead = true;
+            long remaining = spill.count();
+            int position = spill.first();
+
+            @Override
+            public boolean hasNext() {
+                return memory.hasNext() || remaining > 0 || (onHead && !tail.isEmpty());
+            }
+
+            @Override
+            public T next() {
+                if (memory.hasNext())
+                    return unmask(memory.next());
+                if (remaining > 0) {
+                    remaining--;
+                    T next = decode(spill.read(position));
+                    if (remaining > 0)
+                        position = spill.next(position);
+                    return next;
+                }
+                if (onHead) {
+                    onHead = false;
+                    memory = tail.iterator();
+                    return next();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @Override
+    public synchronized Iterator<T> descendingIterator() {
+        return new Iterator<T>() {
+            Iterator<Object> memory = tail.descendingIterator();
+            boolean onTail = true;
+            long remaining = spill.count();
+            int position = remaining > 0 ? spill.last() : 0;
+
+            @Override
+            public boolean hasNext() {
+                return memory.hasNext() || remaining > 0 || (onTail && !head.isEmpty());
+            }
+
+            @Override
+            public T next() {
+                if (memory.hasNext())
+                    return unmask(memory.next());
+                if (remaining > 0) {
+                    remaining--;
+                    T next = decode(spill.read(position));
+                    if (remaining > 0)
+                        position = spill.previous(position);
+                    return next;
+                }
+                if (onTail) {
+                    onTail = false;
+                    memory = head.descendingIterator();
+                    return next();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+        clear();
+    }
+
+    private void shrink() {
+        while (head.size() + tail.size() > maxInMemory) {
+            if (!tail.isEmpty()) {
+                spill.addLast(encode(tail.pollFirst()));
+            } else if (spill.isEmpty()) {
+                spill.addLast(encode(head.pollLast()));
+            } else {
+                Object last = head.peekLast();
+                if (!spill.tryAddFirst(encode(last)))
+                    return;
+                head.pollLast();
+            }
+        }
+    }
+
+    private void refill() {
+        int room = Math.max(1, maxInMemory - tail.size());
+        for (int i = 0; i < room && !spill.isEmpty(); i++)
+            head.addLast(mask(decode(spill.pollFirst())));
+    }
+
+    private byte[] encode(Object masked) {
+        return masked == NULL ? null : codec.encode((T) masked);
+    }
+
+    private T decode(byte[] bytes) {
+        return bytes == null ? null : codec.decode(bytes);
+    }
+
+    private static Object mask(Object t) {
+        return t == null ? NULL : t;
+    }
+
+    private static <T> T unmask(Object o) {
+        return o == NULL ? null : (T) o;
+    }
+}
@@ -0,0 +1,136 @@
+package com.oath.cyclops.rx.buffer;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayDeque;
+
+/**
+ * A FIFO queue that holds at most maxInMemory elements on heap. Once that is reached further elements are encoded
+ * and appended to a temporary file, and are read back in order (maxInMemory at a time) once the in-memory elements
+ * have been consumed. The temporary file is created lazily and removed by {@link #close()}.
+ *
+ * Null elements are supported. All methods are thread-safe.
+ *
+ * @param <T> Element type
+ */
+public class SpillingQueue<T> implements AutoCloseable {
+
+    private static final Object NULL = new Object();
+    private static final int NULL_LENGTH = -1;
+
+    private final int maxInMemory;
+    private final Codec<T> codec;
+    private final ArrayDeque<Object> memory = new ArrayDeque<>();
+    private File file;
+    private RandomAccessFile spill;
+    private long readPosition;
+    private long writePosition;
+    private long spilled;
+
+    public SpillingQueue(int maxInMemory, Codec<T> codec) {
+        if (maxInMemory <= 0)
+            throw new IllegalArgumentException("maxInMemory must be positive, was " + maxInMemory);
+        this.maxInMemory = maxInMemory;
+        this.codec = codec;
+    }
+
+    public synchronized void offer(T value) {
+        if (spilled == 0 && memory.size() < maxInMemory) {
+            memory.add(value == null ? NULL : value);
+            return;
+        }
+        try {
+            RandomAccessFile out = spillFile();
+            out.seek(writePosition);
+            if (value == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                byte[] bytes = codec.encode(value);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            writePosition = out.getFilePointer();
+            spilled++;
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @return Next element, or null if the queue is empty or the next element is null (check {@link #isEmpty()} first)
+     */
+    public synchronized T poll() {
+        if (memory.isEmpty() && spilled > 0)
+            refill();
+        Object next = memory.poll();
+        return next == NULL ? null : (T) next;
+    }
+
+    public synchronized boolean isEmpty() {
+        return memory.isEmpty() && spilled == 0;
+    }
+
+    public synchronized long size() {
+        return memory.size() + spilled;
+    }
+
+    /**
+     * @return Number of elements currently held on disk
+     */
+    public synchronized long spilled() {
+        return spilled;
+    }
+
+    private void refill() {
+        try {
+            spill.seek(readPosition);
+            for (int i = 0; i < maxInMemory && spilled > 0; i++, spilled--) {
+                int length = spill.readInt();
+                if (length == NULL_LENGTH) {
+                    memory.add(NULL);
+                } else {
+                    byte[] bytes = new byte[length];
+                    spill.readFully(bytes);
+                    T value = codec.decode(bytes);
+                    memory.add(value == null ? NULL : value);
+                }
+            }
+            readPosition = spill.getFilePointer();
+            if (spilled == 0) {
+                readPosition = 0;
+                writePosition = 0;
+                spill.setLength(0);
+            }
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private RandomAccessFile spillFile() throws IOException {
+        if (spill == null) {
+            file = File.createTempFile("cyclops-rx-spill", ".bin");
+            file.deleteOnExit();
+            spill = new RandomAccessFile(file, "rw");
+        }
+        return spill;
+    }
+
+    @Override
+    public synchronized void close() {
+        memory.clear();
+        spilled = 0;
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                //ignore, the file is deleted below
+            }
+            file.delete();
+            spill = null;
+            file = null;
+        }
+    }
+}
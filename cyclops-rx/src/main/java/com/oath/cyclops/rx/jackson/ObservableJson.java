@@ -0,0 +1,113 @@
+package com.oath.cyclops.rx.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import cyclops.control.Future;
+import lombok.experimental.UtilityClass;
+import rx.Observable;
+import rx.Subscriber;
+
+import java.io.IOException;
+
+/**
+ * Asynchronous JSON streaming for RxJava Observables
+ */
+@UtilityClass
+public class ObservableJson {
+
+    /**
+     * Write the Observable as a JSON array to the supplied generator, without blocking the calling thread.
+     * Each element is written on the thread that emits it, and further elements are requested in batches once written.
+     * Elements are written with a single ObjectWriter (reusing the root serializer while the element type is unchanged)
+     * and the generator is flushed once per batch rather than once per element.
+     *
+     * <pre>
+     * {@code
+     *   Future<Void> done = ObservableJson.writeAsync(mapper, generator, Observable.just(1,2,3));
+     *   done.peek(v->generator.close());
+     * }
+     * </pre>
+     *
+     * @param mapper ObjectMapper used to serialize each element
+     * @param gen JsonGenerator to write to (not closed on completion)
+     * @param observable Observable to write
+     * @return Future that completes once the Observable has completed and the closing bracket has been written and flushed
+     */
+    public static <T> Future<Void> writeAsync(ObjectMapper mapper, JsonGenerator gen, Observable<T> observable) {
+        return writeAsync(mapper, gen, observable, ObservableSerializer.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @see #writeAsync(ObjectMapper, JsonGenerator, Observable)
+     * @param batchSize Number of elements requested from the Observable at a time
+     */
+    public static <T> Future<Void> writeAsync(ObjectMapper mapper, JsonGenerator gen, Observable<T> observable, int batchSize) {
+        Future<Void> result = Future.future();
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        observable.subscribe(new Subscriber<T>() {
+            int written = 0;
+            Class<?> type;
+            ObjectWriter typed = writer;
+
+            @Override
+            public void onStart() {
+                try {
+                    gen.writeStartArray();
+                } catch (IOException e) {
+                    fail(e);
+                    return;
+                }
+                request(batchSize);
+            }
+
+            @Override
+            public void onNext(T t) {
+                try {
+                    writerFor(t).writeValue(gen, t);
+                    if (++written == batchSize) {
+                        written = 0;
+                        gen.flush();
+                        request(batchSize);
+                    }
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onCompleted() {
+                try {
+                    gen.writeEndArray();
+                    gen.flush();
+                } catch (IOException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                result.complete(null);
+            }
+
+            private ObjectWriter writerFor(T t) {
+                if (t == null)
+                    return writer;
+                if (t.getClass() != type) {
+                    type = t.getClass();
+                    typed = writer.forType(type);
+                }
+                return typed;
+            }
+
+            private void fail(IOException e) {
+                unsubscribe();
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+}
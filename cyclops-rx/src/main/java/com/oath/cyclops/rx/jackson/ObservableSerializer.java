@@ -0,0 +1,173 @@
+package com.oath.cyclops.rx.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import rx.Observable;
+import rx.Subscriber;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Serializes an Observable (or an ObservableReactiveSeq) as a JSON array.
+ *
+ * The Observable is subscribed to with a bounded demand of batchSize elements, the serializing thread takes each element
+ * as it arrives and writes it straight to the JsonGenerator, requesting more once three quarters of a batch has been written.
+ * At most batchSize elements are ever held in memory.
+ */
+public class ObservableSerializer extends JsonSerializer<Object> implements ContextualSerializer {
+
+    static final int DEFAULT_BATCH_SIZE = 128;
+
+    private final JavaType elementType;
+    private final TypeSerializer elementTypeSerializer;
+    private final int batchSize;
+    private transient PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
+
+    public ObservableSerializer(JavaType elementType, int batchSize) {
+        this(elementType, null, batchSize);
+    }
+
+    private ObservableSerializer(JavaType elementType, TypeSerializer elementTypeSerializer, int batchSize) {
+        this.elementType = elementType;
+        this.elementTypeSerializer = elementTypeSerializer;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        TypeSerializer typeSer = prov.findTypeSerializer(elementType);
+        if (typeSer == elementTypeSerializer)
+            return this;
+        return new ObservableSerializer(elementType, typeSer, batchSize);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        serializeContents(toObservable(value), gen, serializers);
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_ARRAY));
+        serializeContents(toObservable(value), gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    static Observable<?> toObservable(Object value) {
+        if (value instanceof ObservableReactiveSeq)
+            return ((ObservableReactiveSeq<?>) value).getObservable();
+        return (Observable<?>) value;
+    }
+
+    private void serializeContents(Observable<?> observable, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        BatchingSubscriber sub = new BatchingSubscriber(batchSize);
+        observable.subscribe(sub);
+        try {
+            for (;;) {
+                Object next = sub.take();
+                if (next == COMPLETE)
+                    return;
+                if (next instanceof ErrorSignal)
+                    throw JsonMappingException.from(gen, "Observable signalled an error during serialization",
+                                                    ((ErrorSignal) next).error);
+                write(next == NULL ? null : next, gen, serializers);
+                sub.consumed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next Observable element");
+        } finally {
+            sub.unsubscribe();
+        }
+    }
+
+    private void write(Object o, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (o == null) {
+            serializers.defaultSerializeNull(gen);
+            return;
+        }
+        Class<?> type = o.getClass();
+        JsonSerializer<Object> ser = dynamicSerializers.serializerFor(type);
+        if (ser == null) {
+            PropertySerializerMap.SerializerAndMapResult result = dynamicSerializers.findAndAddSecondarySerializer(type, serializers, null);
+            dynamicSerializers = result.map;
+            ser = result.serializer;
+        }
+        if (elementTypeSerializer == null)
+            ser.serialize(o, gen, serializers);
+        else
+            ser.serializeWithType(o, gen, serializers, elementTypeSerializer);
+    }
+
+    private static final Object COMPLETE = new Object();
+    private static final Object NULL = new Object();
+
+    private static final class ErrorSignal {
+        final Throwable error;
+
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Hands elements over to the serializing thread, never requesting more than it can hold.
+     */
+    private static final class BatchingSubscriber extends Subscriber<Object> {
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        private final int batchSize;
+        private final int limit;
+        private int consumed;
+
+        BatchingSubscriber(int batchSize) {
+            this.batchSize = batchSize;
+            this.limit = Math.max(1, batchSize - (batchSize >> 2));
+        }
+
+        @Override
+        public void onStart() {
+            request(batchSize);
+        }
+
+        @Override
+        public void onNext(Object o) {
+            queue.offer(o == null ? NULL : o);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            queue.offer(new ErrorSignal(e));
+        }
+
+        @Override
+        public void onCompleted() {
+            queue.offer(COMPLETE);
+        }
+
+        Object take() throws InterruptedException {
+            return queue.take();
+        }
+
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+                request(limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.oath.cyclops.rx.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module that streams RxJava Observables (and ObservableReactiveSeq) to JSON arrays, requesting
+ * elements from the Observable in batches rather than buffering the whole stream.
+ *
+ * Registered automatically via {@link com.fasterxml.jackson.databind.ObjectMapper#findAndRegisterModules()},
+ * when registering manually add it after the CyclopsModule so it takes precedence for ObservableReactiveSeq.
+ *
+ * <pre>
+ * {@code
+ *   ObjectMapper mapper = new ObjectMapper().registerModule(new CyclopsModule())
+ *                                           .registerModule(new RxModule());
+ *   mapper.writeValueAsString(Observable.just(1,2,3)); //[1,2,3]
+ * }
+ * </pre>
+ */
+public class RxModule extends SimpleModule {
+
+    private final int batchSize;
+
+    public RxModule() {
+        this(ObservableSerializer.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchSize Number of elements requested from each Observable at a time
+     */
+    public RxModule(int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new RxSerializers(batchSize));
+    }
+}
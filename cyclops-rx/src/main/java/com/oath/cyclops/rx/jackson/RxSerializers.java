@@ -0,0 +1,25 @@
+package com.oath.cyclops.rx.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import lombok.AllArgsConstructor;
+import rx.Observable;
+
+@AllArgsConstructor
+public class RxSerializers extends Serializers.Base {
+
+    private final int batchSize;
+
+    @Override
+    public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+        Class<?> raw = type.getRawClass();
+        if (Observable.class.isAssignableFrom(raw) || ObservableReactiveSeq.class.isAssignableFrom(raw)) {
+            return new ObservableSerializer(type.containedTypeOrUnknown(0), batchSize);
+        }
+        return super.findSerializer(config, type, beanDesc);
+    }
+}
@@ -0,0 +1,71 @@
+package com.oath.cyclops.rx.metrics;
+
+import cyclops.control.Option;
+
+/**
+ * Global switch for pipeline instrumentation. While disabled (the default) instrumentation points are not added to
+ * pipelines at all, so there is no cost per element.
+ *
+ * <pre>
+ * {@code
+ *   StageMetrics metrics = new StageMetrics();
+ *   Instrumentation.enable(metrics);
+ *   seq.to(RxOperators.instrument("parse"))
+ *      .map(this::enrich)
+ *      .to(RxOperators.instrument("enrich"));
+ * }
+ * </pre>
+ */
+public final class Instrumentation {
+
+    private static volatile MetricsSink sink;
+    private static volatile boolean automatic;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Record stages named with RxOperators.instrument into the supplied sink
+     *
+     * @param metricsSink Sink to record into
+     */
+    public static void enable(MetricsSink metricsSink) {
+        automatic = false;
+        sink = metricsSink;
+    }
+
+    /**
+     * Record stages named with RxOperators.instrument, and additionally every operator applied to an
+     * ObservableReactiveSeq, into the supplied sink. Automatically instrumented stages are named after the operator
+     * and the source location that applied it, e.g. {@code map(OrderService.java:42)}. Instrumented operators are not
+     * fused with one another.
+     *
+     * @param metricsSink Sink to record into
+     */
+    public static void enableAutomatic(MetricsSink metricsSink) {
+        sink = metricsSink;
+        automatic = true;
+    }
+
+    /**
+     * Stop instrumenting newly assembled pipelines. Pipelines that are already assembled keep recording.
+     */
+    public static void disable() {
+        automatic = false;
+        sink = null;
+    }
+
+    /**
+     * @return The current sink, or None while disabled
+     */
+    public static Option<MetricsSink> sink() {
+        return Option.ofNullable(sink);
+    }
+
+    /**
+     * @return true if operators applied to an ObservableReactiveSeq are instrumented automatically
+     */
+    public static boolean isAutomatic() {
+        return automatic;
+    }
+}
@@ -0,0 +1,35 @@
+package com.oath.cyclops.rx.metrics;
+
+/**
+ * Receives per-stage measurements from instrumented Rx pipelines (see {@link Instrumentation}). Implementations are
+ * called on the threads that signal through the pipeline and should be cheap and thread-safe.
+ */
+public interface MetricsSink {
+
+    /**
+     * Called when the stage downstream of an instrumentation point requests more elements.
+     *
+     * @param stage Name of the instrumented stage
+     * @param n Number of elements requested
+     */
+    void requested(String stage, long n);
+
+    /**
+     * Called after an element has been passed downstream.
+     *
+     * @param stage Name of the instrumented stage
+     * @param onNextNanos Time spent in the downstream onNext, which includes any downstream stages that run synchronously
+     * @param lagNanos Time the downstream stage waited, with demand outstanding, for this element
+     * @param outstanding Demand still outstanding after this element ({@link Long#MAX_VALUE} when unbounded)
+     */
+    void emitted(String stage, long onNextNanos, long lagNanos, long outstanding);
+
+    /**
+     * Called when the stage completes or fails.
+     *
+     * @param stage Name of the instrumented stage
+     * @param error Error the stage failed with, or null on completion
+     */
+    default void terminated(String stage, Throwable error) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.oath.cyclops.rx.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-memory {@link MetricsSink} that keeps counters and log2-bucketed latency histograms per stage.
+ *
+ * <pre>
+ * {@code
+ *   StageMetrics metrics = new StageMetrics();
+ *   Instrumentation.enableAutomatic(metrics);
+ *   ...
+ *   metrics.stages().forEach((name, stage) -> System.out.println(name + " " + stage));
+ * }
+ * </pre>
+ */
+public class StageMetrics implements MetricsSink {
+
+    private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+    @Override
+    public void requested(String stage, long n) {
+        stage(stage).requested.add(n);
+    }
+
+    @Override
+    public void emitted(String stage, long onNextNanos, long lagNanos, long outstanding) {
+        Stage s = stage(stage);
+        s.emitted.increment();
+        s.onNext.record(onNextNanos);
+        s.lag.record(lagNanos);
+        if (outstanding != Long.MAX_VALUE)
+            s.maxOutstanding.accumulate(outstanding);
+    }
+
+    @Override
+    public void terminated(String stage, Throwable error) {
+        Stage s = stage(stage);
+        if (error != null)
+            s.errors.increment();
+        else
+            s.completions.increment();
+    }
+
+    /**
+     * @param name Stage name
+     * @return Metrics recorded for the stage (empty if nothing has been recorded yet)
+     */
+    public Stage stage(String name) {
+        return stages.computeIfAbsent(name, k -> new Stage());
+    }
+
+    /**
+     * @return Metrics for every stage recorded so far
+     */
+    public Map<String, Stage> stages() {
+        return stages;
+    }
+
+    public static final class Stage {
+        private final LongAdder requested = new LongAdder();
+        private final LongAdder emitted = new LongAdder();
+        private final LongAdder completions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator maxOutstanding = new LongAccumulator(Math::max, 0);
+        private final Histogram onNext = new Histogram();
+        private final Histogram lag = new Histogram();
+
+        public long requested() {
+            return requested.sum();
+        }
+
+        public long emitted() {
+            return emitted.sum();
+        }
+
+        public long completions() {
+            return completions.sum();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        /**
+         * @return Largest bounded demand seen outstanding after an emission
+         */
+        public long maxOutstanding() {
+            return maxOutstanding.get();
+        }
+
+        /**
+         * @return Time spent in downstream onNext, in nanoseconds
+         */
+        public Histogram onNextNanos() {
+            return onNext;
+        }
+
+        /**
+         * @return Time downstream waited for each element, in nanoseconds
+         */
+        public Histogram lagNanos() {
+            return lag;
+        }
+
+        @Override
+        public String toString() {
+            return "Stage[emitted=" + emitted() + ", requested=" + requested() + ", maxOutstanding=" + maxOutstanding()
+                    + ", onNext p50/p99=" + onNext.percentile(0.5) + "/" + onNext.percentile(0.99)
+                    + "ns, lag p50/p99=" + lag.percentile(0.5) + "/" + lag.percentile(0.99) + "ns]";
+        }
+    }
+
+    /**
+     * A lock-free histogram with power-of-two buckets; percentiles are reported as the upper bound of the bucket
+     * they fall into.
+     */
+    public static final class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+
+        void record(long value) {
+            long v = Math.max(0, value);
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v) - (v == 0 ? 0 : 1));
+            count.increment();
+            sum.add(v);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double mean() {
+            long n = count();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        /**
+         * @param quantile Quantile between 0 and 1
+         * @return Upper bound of the bucket containing the quantile, or 0 if nothing has been recorded
+         */
+        public long percentile(double quantile) {
+            long total = 0;
+            long[] snapshot = new long[buckets.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = buckets.get(i);
+                total += snapshot[i];
+            }
+            if (total == 0)
+                return 0;
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                seen += snapshot[i];
+                if (seen >= rank && snapshot[i] > 0)
+                    return i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
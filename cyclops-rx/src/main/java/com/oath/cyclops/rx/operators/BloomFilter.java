@@ -0,0 +1,68 @@
+package com.oath.cyclops.rx.operators;
+
+/**
+ * A fixed size Bloom filter over 64 bit element hashes, sized for an expected number of insertions and a target false
+ * positive rate. Memory use does not grow with the number of insertions; once more than the expected number of
+ * elements have been added the false positive rate rises above the target. Not thread-safe.
+ *
+ * {@link #add(Object)} hashes with Object#hashCode, so distinct elements with equal hash codes (such as "Aa" and "BB")
+ * always collide regardless of the filter size. With many millions of elements 32 bit hash code collisions alone exceed
+ * typical false positive rates; use {@link #addHash(long)} with a 64 bit hash of the element instead.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long size;
+    private final int hashes;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("expectedInsertions must be positive, was " + expectedInsertions);
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1, was " + falsePositiveRate);
+        long optimal = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimal + 63) / 64))];
+        this.size = bits.length * 64L;
+        this.hashes = Math.max(1, (int) Math.round((double) size / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Add the value to the filter, keyed on its hashCode
+     *
+     * @param value To add
+     * @return true if the value was (probably) not already present
+     */
+    public boolean add(Object value) {
+        return addHash(value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * Add a value to the filter by its 64 bit hash
+     *
+     * @param valueHash Hash of the value to add
+     * @return true if the value was (probably) not already present
+     */
+    public boolean addHash(long valueHash) {
+        long hash = mix(valueHash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean added = false;
+        for (int i = 1; i <= hashes; i++) {
+            long combined = (h1 + (long) i * h2) & Long.MAX_VALUE;
+            long bit = combined % size;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
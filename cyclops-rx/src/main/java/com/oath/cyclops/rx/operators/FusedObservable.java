@@ -0,0 +1,152 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.exceptions.Exceptions;
+import rx.exceptions.OnErrorThrowable;
+import rx.plugins.RxJavaHooks;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An Observable that applies a block of consecutive stateless map and filter stages to its source with a single
+ * Subscriber. Mapping or filtering a FusedObservable appends a stage to the block rather than adding an operator
+ * layer; nothing is materialised until subscription.
+ *
+ * <pre>
+ * {@code
+ *   Observable<Integer> fused = FusedObservable.filter(FusedObservable.map(source, i -> i * 2), i -> i > 10);
+ * }
+ * </pre>
+ *
+ * @param <R> Element type
+ */
+public final class FusedObservable<R> extends Observable<R> {
+
+    private final Observable<Object> source;
+    private final Object[] stages;
+
+    private FusedObservable(Observable<Object> source, Object[] stages) {
+        super(new OnSubscribeFused<>(source, stages));
+        this.source = source;
+        this.stages = stages;
+    }
+
+    /**
+     * @return Observable that transforms each element of source with fn, fused with any stages already applied to it
+     */
+    public static <T, R> Observable<R> map(Observable<T> source, Function<? super T, ? extends R> fn) {
+        return fuse(source, fn);
+    }
+
+    /**
+     * @return Observable that keeps the elements of source that pass the predicate, fused with any stages already
+     * applied to it
+     */
+    public static <T> Observable<T> filter(Observable<T> source, Predicate<? super T> predicate) {
+        return fuse(source, new Filter(predicate));
+    }
+
+    int size() {
+        return stages.length;
+    }
+
+    private static <R> Observable<R> fuse(Observable<?> source, Object stage) {
+        if (source instanceof FusedObservable) {
+            FusedObservable<?> fused = (FusedObservable<?>) source;
+            Object[] stages = Arrays.copyOf(fused.stages, fused.stages.length + 1);
+            stages[fused.stages.length] = stage;
+            return new FusedObservable<>(fused.source, stages);
+        }
+        return new FusedObservable<>((Observable<Object>) source, new Object[]{stage});
+    }
+
+    private static final class Filter {
+        final Predicate<Object> predicate;
+
+        Filter(Predicate<?> predicate) {
+            this.predicate = (Predicate<Object>) predicate;
+        }
+    }
+
+    private static final class OnSubscribeFused<R> implements OnSubscribe<R> {
+        private final Observable<Object> source;
+        private final Object[] stages;
+
+        OnSubscribeFused(Observable<Object> source, Object[] stages) {
+            this.source = source;
+            this.stages = stages;
+        }
+
+        @Override
+        public void call(Subscriber<? super R> child) {
+            FusedSubscriber<R> parent = new FusedSubscriber<>(child, stages);
+            child.add(parent);
+            source.unsafeSubscribe(parent);
+        }
+    }
+
+    private static final class FusedSubscriber<R> extends Subscriber<Object> {
+        private final Subscriber<? super R> actual;
+        private final Object[] stages;
+        private boolean done;
+
+        FusedSubscriber(Subscriber<? super R> actual, Object[] stages) {
+            this.actual = actual;
+            this.stages = stages;
+            request(0);
+        }
+
+        @Override
+        public void onNext(Object t) {
+            if (done)
+                return;
+            Object value = t;
+            try {
+                for (Object stage : stages) {
+                    if (stage instanceof Filter) {
+                        if (!((Filter) stage).predicate.test(value)) {
+                            request(1);
+                            return;
+                        }
+                    } else {
+                        value = ((Function<Object, Object>) stage).apply(value);
+                    }
+                }
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                unsubscribe();
+                onError(OnErrorThrowable.addValueAsLastCause(ex, t));
+                return;
+            }
+            actual.onNext((R) value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaHooks.onError(e);
+                return;
+            }
+            done = true;
+            actual.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done)
+                return;
+            done = true;
+            actual.onCompleted();
+        }
+
+        @Override
+        public void setProducer(Producer p) {
+            super.setProducer(p);
+            actual.setProducer(p);
+        }
+    }
+}
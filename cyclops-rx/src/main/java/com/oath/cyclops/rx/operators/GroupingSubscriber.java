@@ -0,0 +1,94 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base Subscriber for operators that emit at most one group per upstream element, plus a final partial group on
+ * completion. Demand for n groups is requested upstream as n elements, elements absorbed into a group without
+ * emitting one are replaced with a further request(1). The final group is held until it is requested.
+ *
+ * @param <T> Upstream element type
+ * @param <R> Group type
+ */
+abstract class GroupingSubscriber<T, R> extends Subscriber<T> {
+
+    private final Subscriber<? super R> child;
+    private final AtomicLong requested = new AtomicLong();
+    private R last;
+    private boolean done;
+
+    GroupingSubscriber(Subscriber<? super R> child) {
+        this.child = child;
+    }
+
+    /**
+     * @return the group completed by this element, or null if it was absorbed into the current group
+     */
+    protected abstract R onElement(T t);
+
+    /**
+     * @return the final partial group, or null if there is none to emit
+     */
+    protected abstract R onEnd();
+
+    void connect() {
+        child.add(this);
+        child.setProducer(n -> {
+            if (n <= 0)
+                return;
+            if (BackpressureUtils.getAndAddRequest(requested, n) == 0 && emitLast())
+                return;
+            request(n);
+        });
+    }
+
+    @Override
+    public void onStart() {
+        request(0);
+    }
+
+    @Override
+    public void onNext(T t) {
+        R group = onElement(t);
+        if (group == null) {
+            request(1);
+            return;
+        }
+        BackpressureUtils.produced(requested, 1);
+        child.onNext(group);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        child.onError(e);
+    }
+
+    @Override
+    public void onCompleted() {
+        R group = onEnd();
+        synchronized (this) {
+            done = true;
+            last = group;
+        }
+        if (group == null || requested.get() > 0)
+            emitLast();
+    }
+
+    private boolean emitLast() {
+        R group;
+        synchronized (this) {
+            if (!done)
+                return false;
+            group = last;
+            last = null;
+            done = false;
+        }
+        if (group != null)
+            child.onNext(group);
+        child.onCompleted();
+        return true;
+    }
+}
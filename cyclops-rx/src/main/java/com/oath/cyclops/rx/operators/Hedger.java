@@ -0,0 +1,183 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Notification;
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Issues hedged requests : a call is subscribed to once, and if it has not signalled after a delay a backup call is
+ * subscribed to, up to maxHedges backups spaced one delay apart. The first call to signal (a value, completion or
+ * error) wins, and every other call is unsubscribed. The delay is either fixed or adapts to a percentile (typically
+ * p95) of the time to first value of recent winning calls, so backups are only sent for the slowest calls. Calls that
+ * win by failing or completing empty are not recorded, so a replica that fails fast does not shorten the delay.
+ *
+ * A Hedger is shared across calls to the same service so its latency window and counters cover all of them.
+ * Latencies are measured with the Scheduler's clock in milliseconds, and adaptive delays are at least 1ms.
+ *
+ * <pre>
+ * {@code
+ *   Hedger replicas = Hedger.adaptive(0.95, 50, TimeUnit.MILLISECONDS, 1);
+ *   Observable<Row> row = replicas.hedge(() -> client.read(key));
+ * }
+ * </pre>
+ */
+public final class Hedger {
+
+    private static final int WINDOW = 128;
+
+    private final double percentile;
+    private final long initialDelay;
+    private final int maxHedges;
+    private final Scheduler scheduler;
+    private final long[] latencies = new long[WINDOW];
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong won = new AtomicLong();
+    private int samples;
+    private int next;
+
+    private Hedger(double percentile, long initialDelay, TimeUnit unit, int maxHedges, Scheduler scheduler) {
+        if (maxHedges < 0)
+            throw new IllegalArgumentException("maxHedges must not be negative, was " + maxHedges);
+        if (initialDelay < 0)
+            throw new IllegalArgumentException("delay must not be negative, was " + initialDelay);
+        this.percentile = percentile;
+        this.initialDelay = unit.toMillis(initialDelay);
+        this.maxHedges = maxHedges;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param delay Time to wait for a call before sending each backup
+     * @param unit Time unit for delay
+     * @param maxHedges Maximum number of backup calls
+     * @return Hedger with a fixed delay
+     */
+    public static Hedger fixed(long delay, TimeUnit unit, int maxHedges) {
+        return fixed(delay, unit, maxHedges, Schedulers.computation());
+    }
+
+    /**
+     * @see #fixed(long, TimeUnit, int)
+     * @param scheduler Scheduler on which backups are sent and latencies measured
+     */
+    public static Hedger fixed(long delay, TimeUnit unit, int maxHedges, Scheduler scheduler) {
+        return new Hedger(Double.NaN, delay, unit, maxHedges, scheduler);
+    }
+
+    /**
+     * @param percentile Percentile of recent latencies used as the delay, between 0 and 1 (e.g. 0.95)
+     * @param initialDelay Delay used until enough latencies have been recorded
+     * @param unit Time unit for initialDelay
+     * @param maxHedges Maximum number of backup calls
+     * @return Hedger with a delay adapted to recent latencies
+     */
+    public static Hedger adaptive(double percentile, long initialDelay, TimeUnit unit, int maxHedges) {
+        return adaptive(percentile, initialDelay, unit, maxHedges, Schedulers.computation());
+    }
+
+    /**
+     * @see #adaptive(double, long, TimeUnit, int)
+     * @param scheduler Scheduler on which backups are sent and latencies measured
+     */
+    public static Hedger adaptive(double percentile, long initialDelay, TimeUnit unit, int maxHedges, Scheduler scheduler) {
+        if (!(percentile > 0 && percentile <= 1))
+            throw new IllegalArgumentException("percentile must be greater than 0 and at most 1, was " + percentile);
+        return new Hedger(percentile, initialDelay, unit, maxHedges, scheduler);
+    }
+
+    /**
+     * Hedge the supplied call. The call is made (and hedged) anew for each subscription to the returned Observable.
+     *
+     * @param call Makes the call, invoked once per attempt
+     * @return Observable with the signals of the first attempt to signal
+     */
+    public <T> Observable<T> hedge(Supplier<? extends Observable<? extends T>> call) {
+        return Observable.defer(() -> {
+            long delay = delay(TimeUnit.MILLISECONDS);
+            long start = scheduler.now();
+            List<Observable<Attempt<T>>> attempts = new ArrayList<>(maxHedges + 1);
+            attempts.add(attempt(0, Observable.<T>defer(() -> (Observable<T>) call.get())));
+            for (int i = 1; i <= maxHedges; i++) {
+                Observable<? extends T> backup = Observable.timer(delay * i, TimeUnit.MILLISECONDS, scheduler)
+                                                           .doOnNext(t -> issued.incrementAndGet())
+                                                           .flatMap(t -> call.get());
+                attempts.add(attempt(i, backup));
+            }
+            AtomicBoolean first = new AtomicBoolean(true);
+            return Observable.amb(attempts)
+                             .doOnNext(a -> {
+                                 if (first.compareAndSet(true, false))
+                                     record(a, scheduler.now() - start);
+                             })
+                             .map(a -> a.notification)
+                             .<T>dematerialize();
+        });
+    }
+
+    private static <T> Observable<Attempt<T>> attempt(int index, Observable<? extends T> call) {
+        return call.<T>map(t -> t).materialize().map(n -> new Attempt<>(index, n));
+    }
+
+    private void record(Attempt<?> winner, long latency) {
+        if (winner.index > 0)
+            won.incrementAndGet();
+        if (!winner.notification.isOnNext())
+            return;
+        synchronized (latencies) {
+            latencies[next] = latency;
+            next = (next + 1) % WINDOW;
+            samples = Math.min(samples + 1, WINDOW);
+        }
+    }
+
+    /**
+     * @param unit Time unit to return the delay in
+     * @return Delay before the next call would send a backup
+     */
+    public long delay(TimeUnit unit) {
+        if (Double.isNaN(percentile))
+            return unit.convert(initialDelay, TimeUnit.MILLISECONDS);
+        long[] sorted;
+        synchronized (latencies) {
+            if (samples < WINDOW / 4)
+                return unit.convert(initialDelay, TimeUnit.MILLISECONDS);
+            sorted = Arrays.copyOf(latencies, samples);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return unit.convert(Math.max(1, sorted[Math.max(0, rank)]), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return Number of backup calls sent
+     */
+    public long hedgesIssued() {
+        return issued.get();
+    }
+
+    /**
+     * @return Number of calls won by a backup
+     */
+    public long hedgesWon() {
+        return won.get();
+    }
+
+    private static final class Attempt<T> {
+        final int index;
+        final Notification<T> notification;
+
+        Attempt(int index, Notification<T> notification) {
+            this.index = index;
+            this.notification = notification;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.oath.cyclops.rx.operators;
+
+import cyclops.control.Either;
+import rx.Observable;
+import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+import rx.subscriptions.Subscriptions;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Trampolined tail recursion over Observables. Seeds (Either.left values) are held in a work queue and expanded one
+ * Observable at a time from a single drain loop, so stack depth is constant however many iterations are performed
+ * and memory is proportional to the number of unexpanded seeds rather than the number of iterations.
+ *
+ * Seeds are expanded in the order they were produced (breadth first), results (Either.right values) are emitted
+ * in the order their Observables produced them, subject to downstream demand.
+ *
+ * @param <T> Seed type
+ * @param <R> Result type
+ */
+public final class OnSubscribeTailRec<T, R> implements Observable.OnSubscribe<R> {
+
+    private final T initial;
+    private final Function<? super T, ? extends Observable<? extends Either<T, R>>> fn;
+
+    public OnSubscribeTailRec(T initial, Function<? super T, ? extends Observable<? extends Either<T, R>>> fn) {
+        this.initial = initial;
+        this.fn = fn;
+    }
+
+    @Override
+    public void call(Subscriber<? super R> child) {
+        Expander<T, R> expander = new Expander<>(child, fn);
+        expander.seeds.add(initial == null ? NULL : initial);
+        child.add(Subscriptions.create(expander::cancel));
+        child.setProducer(expander::request);
+    }
+
+    private static final Object NULL = new Object();
+
+    private static final class Expander<T, R> {
+        private final Subscriber<? super R> child;
+        private final Function<? super T, ? extends Observable<? extends Either<T, R>>> fn;
+        private final Queue<Object> seeds = new ArrayDeque<>();
+        private final Queue<Either<T, R>> inbox = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Frame frame;
+        private volatile boolean frameDone;
+        private volatile Throwable error;
+
+        Expander(Subscriber<? super R> child, Function<? super T, ? extends Observable<? extends Either<T, R>>> fn) {
+            this.child = child;
+            this.fn = fn;
+        }
+
+        void request(long n) {
+            if (n > 0) {
+                BackpressureUtils.getAndAddRequest(requested, n);
+                drain();
+            }
+        }
+
+        void cancel() {
+            Frame current = frame;
+            if (current != null)
+                current.unsubscribe();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (child.isUnsubscribed())
+                        return;
+                    if (error != null) {
+                        child.onError(error);
+                        return;
+                    }
+                    Either<T, R> next = inbox.peek();
+                    if (next != null) {
+                        if (next.isLeft()) {
+                            inbox.poll();
+                            T seed = next.leftOrElse(null);
+                            seeds.add(seed == null ? NULL : seed);
+                        } else if (requested.get() > 0) {
+                            inbox.poll();
+                            child.onNext(next.orElse(null));
+                            BackpressureUtils.produced(requested, 1);
+                        } else {
+                            break;
+                        }
+                        frame.requestOne();
+                        continue;
+                    }
+                    if (frame != null) {
+                        if (!frameDone)
+                            break;
+                        frame = null;
+                    }
+                    Object seed = seeds.poll();
+                    if (seed == null) {
+                        child.onCompleted();
+                        return;
+                    }
+                    Observable<? extends Either<T, R>> expansion;
+                    try {
+                        expansion = fn.apply(seed == NULL ? null : (T) seed);
+                    } catch (Throwable t) {
+                        child.onError(t);
+                        return;
+                    }
+                    Frame current = new Frame();
+                    frameDone = false;
+                    frame = current;
+                    expansion.unsafeSubscribe(current);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private final class Frame extends Subscriber<Either<T, R>> {
+
+            @Override
+            public void onStart() {
+                request(1);
+            }
+
+            void requestOne() {
+                request(1);
+            }
+
+            @Override
+            public void onNext(Either<T, R> e) {
+                inbox.offer(e);
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                error = e;
+                drain();
+            }
+
+            @Override
+            public void onCompleted() {
+                frameDone = true;
+                drain();
+            }
+        }
+    }
+}
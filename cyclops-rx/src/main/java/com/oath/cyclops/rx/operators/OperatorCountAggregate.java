@@ -0,0 +1,97 @@
+package com.oath.cyclops.rx.operators;
+
+import cyclops.function.Monoid;
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+
+/**
+ * Aggregates windows of size elements, starting a new window every step elements, with a Monoid. Elements are
+ * combined into panes of step elements as they arrive and only pane aggregates are retained, so each element costs
+ * O(1) amortised and memory is bounded by size / step partial aggregates.
+ *
+ * A tumbling window (step == size) emits a trailing partial window on completion. A sliding window emits only
+ * complete windows, unless the source completes before the first window fills, in which case the aggregate of
+ * everything seen is emitted.
+ *
+ * @param <T> Element type
+ */
+public final class OperatorCountAggregate<T> implements Observable.Operator<T, T> {
+
+    private final int size;
+    private final int step;
+    private final Monoid<T> monoid;
+
+    public OperatorCountAggregate(int size, int step, Monoid<T> monoid) {
+        if (size <= 0 || step <= 0)
+            throw new IllegalArgumentException("size and step must be positive, were " + size + " and " + step);
+        if (size % step != 0)
+            throw new IllegalArgumentException("size must be a multiple of step, was " + size + " and " + step);
+        this.size = size;
+        this.step = step;
+        this.monoid = monoid;
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super T> child) {
+        AggregateSubscriber parent = new AggregateSubscriber(child);
+        child.add(parent);
+        return parent;
+    }
+
+    private final class AggregateSubscriber extends Subscriber<T> {
+        private final Subscriber<? super T> child;
+        private final TwoStackAggregator<T> panes = new TwoStackAggregator<>(monoid);
+        private final int windowPanes = size / step;
+        private T pane = monoid.zero();
+        private int inPane;
+        private boolean emitted;
+
+        AggregateSubscriber(Subscriber<? super T> child) {
+            this.child = child;
+            request(0);
+        }
+
+        @Override
+        public void onNext(T t) {
+            pane = monoid.apply(pane, t);
+            if (++inPane < step) {
+                request(1);
+                return;
+            }
+            panes.push(pane);
+            pane = monoid.zero();
+            inPane = 0;
+            if (panes.size() > windowPanes)
+                panes.pop();
+            if (panes.size() < windowPanes) {
+                request(1);
+                return;
+            }
+            emitted = true;
+            child.onNext(panes.aggregate());
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            child.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (windowPanes == 1) {
+                if (inPane > 0)
+                    child.onNext(pane);
+            } else if (!emitted && (panes.size() > 0 || inPane > 0)) {
+                child.onNext(monoid.apply(panes.aggregate(), pane));
+            }
+            child.onCompleted();
+        }
+
+        @Override
+        public void setProducer(Producer p) {
+            super.setProducer(p);
+            child.setProducer(p);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.oath.cyclops.rx.operators;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import rx.Observable;
+import rx.Subscriber;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Groups elements with ReactiveSeq#groupedUntil semantics : each element is added to the current group, which is
+ * emitted (via the finalizer) as soon as the predicate holds for the group and the element just added.
+ *
+ * @param <T> Element type
+ * @param <C> Collection type elements are accumulated into
+ * @param <R> Emitted group type
+ */
+public final class OperatorGroupedUntil<T, C extends PersistentCollection<? super T>, R> implements Observable.Operator<R, T> {
+
+    private final BiPredicate<? super C, ? super T> predicate;
+    private final Supplier<C> factory;
+    private final Function<? super C, ? extends R> finalizer;
+
+    public OperatorGroupedUntil(BiPredicate<? super C, ? super T> predicate, Supplier<C> factory,
+                                Function<? super C, ? extends R> finalizer) {
+        this.predicate = predicate;
+        this.factory = factory;
+        this.finalizer = finalizer;
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super R> child) {
+        GroupingSubscriber<T, R> parent = new GroupingSubscriber<T, R>(child) {
+            private C group = factory.get();
+
+            @Override
+            protected R onElement(T t) {
+                group = (C) group.plus(t);
+                if (!predicate.test(group, t))
+                    return null;
+                R result = finalizer.apply(group);
+                group = factory.get();
+                return result;
+            }
+
+            @Override
+            protected R onEnd() {
+                return group.isEmpty() ? null : finalizer.apply(group);
+            }
+        };
+        parent.connect();
+        return parent;
+    }
+}
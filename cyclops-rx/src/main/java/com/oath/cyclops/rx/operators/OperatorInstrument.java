@@ -0,0 +1,88 @@
+package com.oath.cyclops.rx.operators;
+
+import com.oath.cyclops.rx.metrics.MetricsSink;
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes elements through unchanged, reporting requests, emissions and termination to a {@link MetricsSink} under
+ * the supplied stage name.
+ *
+ * @param <T> Element type
+ */
+public final class OperatorInstrument<T> implements Observable.Operator<T, T> {
+
+    private final String stage;
+    private final MetricsSink sink;
+
+    public OperatorInstrument(String stage, MetricsSink sink) {
+        this.stage = stage;
+        this.sink = sink;
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super T> child) {
+        InstrumentSubscriber parent = new InstrumentSubscriber(child);
+        child.add(parent);
+        return parent;
+    }
+
+    private final class InstrumentSubscriber extends Subscriber<T> {
+        private final Subscriber<? super T> child;
+        private final AtomicLong outstanding = new AtomicLong();
+        private volatile long waitingSince;
+
+        InstrumentSubscriber(Subscriber<? super T> child) {
+            this.child = child;
+        }
+
+        @Override
+        public void setProducer(Producer p) {
+            child.setProducer(n -> {
+                if (n > 0) {
+                    sink.requested(stage, n);
+                    if (BackpressureUtils.getAndAddRequest(outstanding, n) == 0)
+                        waitingSince = System.nanoTime();
+                }
+                p.request(n);
+            });
+        }
+
+        @Override
+        public void onNext(T t) {
+            long start = System.nanoTime();
+            long since = waitingSince;
+            long remaining = produced();
+            child.onNext(t);
+            long end = System.nanoTime();
+            waitingSince = remaining > 0 ? end : 0;
+            sink.emitted(stage, end - start, since == 0 ? 0 : Math.max(0, start - since), remaining);
+        }
+
+        private long produced() {
+            for (;;) {
+                long current = outstanding.get();
+                if (current == Long.MAX_VALUE || current == 0)
+                    return current;
+                if (outstanding.compareAndSet(current, current - 1))
+                    return current - 1;
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            sink.terminated(stage, e);
+            child.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            sink.terminated(stage, null);
+            child.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects elements into batches of at most maxBatch elements. A batch is emitted once it is full, when the source
+ * completes, or once its first element has waited maxLatency, so quiet sources are still flushed promptly. Each
+ * requested batch makes room for up to maxBatch elements : the source is only requested from for the shortfall between
+ * requested batches * maxBatch and the elements already buffered or requested, so credit left over by partial (flushed)
+ * batches is reused rather than accumulated, and memory is bounded by the outstanding demand. An error is signalled
+ * after any batches formed before it.
+ *
+ * @param <T> Element type
+ */
+public final class OperatorMicroBatch<T> implements Observable.Operator<List<T>, T> {
+
+    private final int maxBatch;
+    private final long maxLatency;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    public OperatorMicroBatch(int maxBatch, long maxLatency, TimeUnit unit, Scheduler scheduler) {
+        if (maxBatch <= 0)
+            throw new IllegalArgumentException("maxBatch must be positive, was " + maxBatch);
+        this.maxBatch = maxBatch;
+        this.maxLatency = maxLatency;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super List<T>> child) {
+        Scheduler.Worker worker = scheduler.createWorker();
+        child.add(worker);
+        BatchSubscriber parent = new BatchSubscriber(child, worker);
+        child.add(parent);
+        child.setProducer(parent::requestMore);
+        return parent;
+    }
+
+    private final class BatchSubscriber extends Subscriber<T> {
+        private final Subscriber<? super List<T>> child;
+        private final Scheduler.Worker worker;
+        private final ArrayDeque<List<T>> ready = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private List<T> batch;
+        private long generation;
+        private long requested;
+        private long credit;
+        private long buffered;
+        private boolean done;
+        private Throwable error;
+
+        BatchSubscriber(Subscriber<? super List<T>> child, Scheduler.Worker worker) {
+            this.child = child;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onStart() {
+            request(0);
+        }
+
+        void requestMore(long n) {
+            if (n < 0)
+                throw new IllegalArgumentException("n >= 0 required but it was " + n);
+            if (n == 0)
+                return;
+            long shortfall;
+            synchronized (this) {
+                requested = BackpressureUtils.addCap(requested, n);
+                if (credit == Long.MAX_VALUE) {
+                    shortfall = 0;
+                } else if (requested == Long.MAX_VALUE) {
+                    shortfall = Long.MAX_VALUE;
+                    credit = Long.MAX_VALUE;
+                } else {
+                    shortfall = BackpressureUtils.multiplyCap(requested, maxBatch) - credit - buffered;
+                    if (shortfall > 0)
+                        credit = BackpressureUtils.addCap(credit, shortfall);
+                }
+            }
+            if (shortfall > 0)
+                request(shortfall);
+            drain();
+        }
+
+        @Override
+        public void onNext(T t) {
+            boolean full;
+            long timed = -1;
+            synchronized (this) {
+                if (credit != Long.MAX_VALUE)
+                    credit--;
+                buffered++;
+                if (batch == null) {
+                    batch = new ArrayList<>(maxBatch);
+                    timed = ++generation;
+                }
+                batch.add(t);
+                full = batch.size() == maxBatch;
+                if (full) {
+                    ready.offer(batch);
+                    batch = null;
+                    timed = -1;
+                }
+            }
+            if (timed >= 0) {
+                long scheduled = timed;
+                worker.schedule(() -> flush(scheduled), maxLatency, unit);
+            }
+            if (full)
+                drain();
+        }
+
+        private void flush(long scheduled) {
+            synchronized (this) {
+                if (batch == null || generation != scheduled)
+                    return;
+                ready.offer(batch);
+                batch = null;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            synchronized (this) {
+                error = e;
+                close();
+            }
+            drain();
+        }
+
+        @Override
+        public void onCompleted() {
+            synchronized (this) {
+                close();
+            }
+            drain();
+        }
+
+        private void close() {
+            if (batch != null)
+                ready.offer(batch);
+            batch = null;
+            done = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (child.isUnsubscribed())
+                        return;
+                    List<T> next;
+                    boolean terminate = false;
+                    synchronized (this) {
+                        next = requested > 0 ? ready.poll() : null;
+                        if (next != null) {
+                            buffered -= next.size();
+                            if (requested != Long.MAX_VALUE)
+                                requested--;
+                        } else if (done && ready.isEmpty()) {
+                            done = false;
+                            terminate = true;
+                        }
+                    }
+                    if (terminate) {
+                        worker.unsubscribe();
+                        if (error != null)
+                            child.onError(error);
+                        else
+                            child.onCompleted();
+                        return;
+                    }
+                    if (next == null)
+                        break;
+                    child.onNext(next);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+    }
+}
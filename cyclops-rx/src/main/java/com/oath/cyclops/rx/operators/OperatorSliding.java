@@ -0,0 +1,53 @@
+package com.oath.cyclops.rx.operators;
+
+import cyclops.data.Seq;
+import rx.Observable;
+import rx.Subscriber;
+
+import java.util.ArrayDeque;
+
+/**
+ * Sliding windows with ReactiveSeq#sliding semantics : a window is emitted each time it fills, after which increment
+ * elements (at most windowSize) are dropped from its head. A trailing partial window is only emitted if it contains
+ * elements that have not been seen in an earlier window.
+ *
+ * @param <T> Element type
+ */
+public final class OperatorSliding<T> implements Observable.Operator<Seq<T>, T> {
+
+    private final int windowSize;
+    private final int increment;
+
+    public OperatorSliding(int windowSize, int increment) {
+        this.windowSize = windowSize;
+        this.increment = Math.max(1, Math.min(increment, windowSize));
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super Seq<T>> child) {
+        GroupingSubscriber<T, Seq<T>> parent = new GroupingSubscriber<T, Seq<T>>(child) {
+            private final ArrayDeque<T> window = new ArrayDeque<>(windowSize);
+            private int unseen;
+
+            @Override
+            protected Seq<T> onElement(T t) {
+                window.addLast(t);
+                unseen++;
+                if (window.size() < windowSize)
+                    return null;
+                Seq<T> result = Seq.fromIterable(window);
+                unseen = 0;
+                for (int i = 0; i < increment; i++)
+                    window.pollFirst();
+                return result;
+            }
+
+            @Override
+            protected Seq<T> onEnd() {
+                return unseen > 0 ? Seq.fromIterable(window) : null;
+            }
+        };
+        parent.connect();
+        return parent;
+    }
+}
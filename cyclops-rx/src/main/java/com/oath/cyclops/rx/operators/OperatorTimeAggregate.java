@@ -0,0 +1,110 @@
+package com.oath.cyclops.rx.operators;
+
+import cyclops.function.Monoid;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates the elements seen over a window of time with a Monoid, emitting once every slide. Elements are combined
+ * into a pane per slide as they arrive and only pane aggregates are retained, so each element costs O(1) amortised
+ * and memory is bounded by window / slide partial aggregates.
+ *
+ * Emission is driven by the Scheduler rather than by downstream demand (as with Observable#buffer(long, TimeUnit)),
+ * so the source is requested from without bound. A window is emitted at every pane boundary, including windows with
+ * no elements (which aggregate to the Monoid's zero), and the current partial pane is emitted on completion.
+ *
+ * @param <T> Element type
+ */
+public final class OperatorTimeAggregate<T> implements Observable.Operator<T, T> {
+
+    private final long window;
+    private final long slide;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private final Monoid<T> monoid;
+
+    public OperatorTimeAggregate(long window, long slide, TimeUnit unit, Scheduler scheduler, Monoid<T> monoid) {
+        if (window <= 0 || slide <= 0)
+            throw new IllegalArgumentException("window and slide must be positive, were " + window + " and " + slide);
+        if (window % slide != 0)
+            throw new IllegalArgumentException("window must be a multiple of slide, was " + window + " and " + slide);
+        this.window = window;
+        this.slide = slide;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.monoid = monoid;
+    }
+
+    @Override
+    public Subscriber<? super T> call(Subscriber<? super T> child) {
+        Scheduler.Worker worker = scheduler.createWorker();
+        child.add(worker);
+        AggregateSubscriber parent = new AggregateSubscriber(child, worker);
+        child.add(parent);
+        worker.schedulePeriodically(parent::closePane, slide, slide, unit);
+        return parent;
+    }
+
+    private final class AggregateSubscriber extends Subscriber<T> {
+        private final Subscriber<? super T> child;
+        private final Scheduler.Worker worker;
+        private final TwoStackAggregator<T> panes = new TwoStackAggregator<>(monoid);
+        private final long windowPanes = window / slide;
+        private T pane = monoid.zero();
+        private boolean paneUsed;
+        private boolean done;
+
+        AggregateSubscriber(Subscriber<? super T> child, Scheduler.Worker worker) {
+            this.child = child;
+            this.worker = worker;
+        }
+
+        @Override
+        public synchronized void onNext(T t) {
+            if (done)
+                return;
+            pane = monoid.apply(pane, t);
+            paneUsed = true;
+        }
+
+        synchronized void closePane() {
+            if (done)
+                return;
+            push();
+            child.onNext(panes.aggregate());
+        }
+
+        private void push() {
+            panes.push(pane);
+            pane = monoid.zero();
+            paneUsed = false;
+            if (panes.size() > windowPanes)
+                panes.pop();
+        }
+
+        @Override
+        public synchronized void onError(Throwable e) {
+            if (done)
+                return;
+            done = true;
+            worker.unsubscribe();
+            child.onError(e);
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            if (done)
+                return;
+            done = true;
+            worker.unsubscribe();
+            if (paneUsed) {
+                push();
+                child.onNext(panes.aggregate());
+            }
+            child.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Observable;
+import rx.Subscriber;
+import rx.exceptions.Exceptions;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A blocking Iterator over an Observable that keeps at most prefetch elements requested ahead of the consumer.
+ * Once the number of elements requested but not yet consumed falls to lowWater, the Observable is requested from
+ * again to top the buffer back up to prefetch. Large prefetch values favour throughput, small values bound memory.
+ * As with other cyclops-react iterators, an error is thrown once from hasNext, after which the iterator is exhausted.
+ *
+ * <pre>
+ * {@code
+ *   Iterator<Row> rows = PrefetchIterator.subscribe(query, 1024, 256);
+ * }
+ * </pre>
+ *
+ * @param <T> Element type
+ */
+public final class PrefetchIterator<T> extends Subscriber<T> implements Iterator<T> {
+
+    private static final Object COMPLETE = new Object();
+    private static final Object NULL = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final int prefetch;
+    private final int replenish;
+    private int consumed;
+    private Object next;
+
+    private PrefetchIterator(int prefetch, int lowWater) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("prefetch must be positive, was " + prefetch);
+        if (lowWater < 0 || lowWater >= prefetch)
+            throw new IllegalArgumentException("lowWater must be between 0 and prefetch - 1, was " + lowWater);
+        this.prefetch = prefetch;
+        this.replenish = prefetch - lowWater;
+    }
+
+    /**
+     * Subscribe to the Observable and return an Iterator over its elements
+     *
+     * @param source Observable to iterate over
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWater Number of outstanding elements at (or below) which more are requested
+     * @return Iterator over the Observable
+     */
+    public static <T> PrefetchIterator<T> subscribe(Observable<? extends T> source, int prefetch, int lowWater) {
+        PrefetchIterator<T> iterator = new PrefetchIterator<>(prefetch, lowWater);
+        source.subscribe(iterator);
+        return iterator;
+    }
+
+    @Override
+    public void onStart() {
+        request(prefetch);
+    }
+
+    @Override
+    public void onNext(T t) {
+        queue.offer(t == null ? NULL : t);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        queue.offer(new Failure(e));
+        queue.offer(COMPLETE);
+    }
+
+    @Override
+    public void onCompleted() {
+        queue.offer(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                unsubscribe();
+                Thread.currentThread().interrupt();
+                throw Exceptions.propagate(e);
+            }
+        }
+        if (next instanceof Failure) {
+            Throwable error = ((Failure) next).error;
+            next = null;
+            throw Exceptions.propagate(error);
+        }
+        return next != COMPLETE;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Object value = next;
+        next = null;
+        if (++consumed == replenish) {
+            consumed = 0;
+            request(replenish);
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    private static final class Failure {
+        final Throwable error;
+
+        Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+}
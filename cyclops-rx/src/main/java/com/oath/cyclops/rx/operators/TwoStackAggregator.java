@@ -0,0 +1,53 @@
+package com.oath.cyclops.rx.operators;
+
+import cyclops.function.Monoid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A FIFO of partial aggregates that can report the combination of everything it holds in O(1) amortised time per
+ * push and pop, without requiring the Monoid to be invertible. New values are pushed onto a back stack alongside a
+ * running aggregate; when the oldest value is popped and the front stack is empty, the back stack is flipped onto the
+ * front stack as suffix aggregates.
+ *
+ * @param <T> Aggregate type
+ */
+final class TwoStackAggregator<T> {
+
+    private final Monoid<T> monoid;
+    private final List<T> back = new ArrayList<>();
+    private final List<T> front = new ArrayList<>();
+    private T backAggregate;
+
+    TwoStackAggregator(Monoid<T> monoid) {
+        this.monoid = monoid;
+        this.backAggregate = monoid.zero();
+    }
+
+    void push(T value) {
+        back.add(value);
+        backAggregate = monoid.apply(backAggregate, value);
+    }
+
+    void pop() {
+        if (front.isEmpty()) {
+            T suffix = monoid.zero();
+            for (int i = back.size() - 1; i >= 0; i--) {
+                suffix = monoid.apply(back.get(i), suffix);
+                front.add(suffix);
+            }
+            back.clear();
+            backAggregate = monoid.zero();
+        }
+        front.remove(front.size() - 1);
+    }
+
+    int size() {
+        return front.size() + back.size();
+    }
+
+    T aggregate() {
+        return front.isEmpty() ? backAggregate : monoid.apply(front.get(front.size() - 1), backAggregate);
+    }
+}
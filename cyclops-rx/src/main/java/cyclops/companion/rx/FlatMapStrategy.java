@@ -0,0 +1,65 @@
+package cyclops.companion.rx;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.internal.util.RxRingBuffer;
+
+/**
+ * Determines how the inner Observables generated by a flatMap are subscribed to and combined, and how many may be
+ * active at once. Strategies are passed to the Observables.forEachWith, forEach3With and forEach4With comprehensions,
+ * which are named apart from the forEach overloads so that a strategy is never mistaken for a filter.
+ *
+ * <pre>
+ * {@code
+ *   Observable<Quote> quotes = Observables.forEachWith(symbols, s -> fetch(s), (s, q) -> q, FlatMapStrategy.merge(16));
+ * }
+ * </pre>
+ */
+public interface FlatMapStrategy {
+
+    <T, R> Observable<R> flatMap(Observable<? extends T> source, Func1<? super T, ? extends Observable<? extends R>> fn);
+
+    /**
+     * @return Bounded merge allowing as many concurrent inner subscriptions as an rx ring buffer holds
+     */
+    static FlatMapStrategy defaultStrategy() {
+        return merge(RxRingBuffer.SIZE);
+    }
+
+    /**
+     * Subscribe to at most maxConcurrency inner Observables at once, emitting their elements as they arrive
+     */
+    static FlatMapStrategy merge(int maxConcurrency) {
+        return new FlatMapStrategy() {
+            @Override
+            public <T, R> Observable<R> flatMap(Observable<? extends T> source, Func1<? super T, ? extends Observable<? extends R>> fn) {
+                return source.flatMap(fn, maxConcurrency);
+            }
+        };
+    }
+
+    /**
+     * Subscribe to one inner Observable at a time, preserving the order of the source
+     */
+    static FlatMapStrategy concat() {
+        return new FlatMapStrategy() {
+            @Override
+            public <T, R> Observable<R> flatMap(Observable<? extends T> source, Func1<? super T, ? extends Observable<? extends R>> fn) {
+                return source.concatMap(fn);
+            }
+        };
+    }
+
+    /**
+     * Subscribe to at most maxConcurrency inner Observables at once, buffering up to prefetch elements from each, and
+     * emit their elements in the order of the source
+     */
+    static FlatMapStrategy concatEager(int maxConcurrency, int prefetch) {
+        return new FlatMapStrategy() {
+            @Override
+            public <T, R> Observable<R> flatMap(Observable<? extends T> source, Func1<? super T, ? extends Observable<? extends R>> fn) {
+                return source.concatMapEager(fn, prefetch, maxConcurrency);
+            }
+        };
+    }
+}
@@ -1,8 +1,17 @@
 package cyclops.companion.rx;
 
 import com.oath.cyclops.anym.AnyMSeq;
+import com.oath.cyclops.rx.adapter.DemandOnSubscribe;
 import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import com.oath.cyclops.rx.adapter.SizedObservableReactiveSeq;
+import com.oath.cyclops.rx.buffer.Codec;
+import com.oath.cyclops.rx.buffer.SpillingDeque;
+import com.oath.cyclops.rx.operators.Hedger;
+import com.oath.cyclops.rx.operators.OnSubscribeTailRec;
+import com.oath.cyclops.rx.operators.OperatorMicroBatch;
+import com.oath.cyclops.rx.operators.PrefetchIterator;
 import cyclops.control.Either;
+import cyclops.control.Option;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.monads.AnyM;
@@ -15,17 +24,31 @@ import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import lombok.experimental.UtilityClass;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import rx.Observable;
 import rx.RxReactiveStreams;
 import rx.Scheduler;
+import rx.exceptions.MissingBackpressureException;
 import rx.internal.operators.OnSubscribeAmb;
 import rx.internal.operators.OnSubscribeFromArray;
 import rx.internal.operators.OnSubscribeTimerOnce;
+import rx.internal.operators.BackpressureUtils;
+import rx.internal.util.RxRingBuffer;
 import rx.observables.AsyncOnSubscribe;
 import rx.observables.SyncOnSubscribe;
 import rx.schedulers.Schedulers;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -48,25 +71,24 @@ public class Observables {
     public static <T,W extends WitnessType<W>> AnyM<W,Observable<T>> fromStream(AnyM<W,Stream<T>> anyM){
         return anyM.map(s->fromStream(s));
     }
+    /**
+     * Stack-safe tail recursion : fn is applied to the initial value, and then to every Either.left it emits, until
+     * only Either.right values remain. Expansion is trampolined on subscription so that any number of iterations
+     * runs in constant stack depth, see {@link OnSubscribeTailRec}.
+     *
+     * <pre>
+     * {@code
+     *   Observable<Integer> million = Observables.tailRec(0, i -> Observable.just(i < 1_000_000 ? Either.left(i + 1)
+     *                                                                                            : Either.right(i)));
+     * }
+     * </pre>
+     *
+     * @param initial Initial seed
+     * @param fn Expands a seed into further seeds and / or results
+     * @return Observable of results
+     */
     public static  <T,R> Observable<R> tailRec(T initial, Function<? super T, ? extends Observable<? extends Either<T, R>>> fn) {
-        Observable<Either<T, R>> next = Observable.just(Either.left(initial));
-
-        boolean newValue[] = {true};
-        for(;;){
-
-            next = next.flatMap(e -> e.visit(s -> {
-                        newValue[0]=true;
-                        return fn.apply(s); },
-                    p -> {
-                        newValue[0]=false;
-                        return Observable.just(e);
-                    }));
-            if(!newValue[0])
-                break;
-
-        }
-
-        return next.filter(Either::isRight).map(e->e.orElse(null));
+        return Observable.create(new OnSubscribeTailRec<>(initial,fn));
     }
     public static <T> Observable<T> raw(AnyM<observable,T> anyM){
         return RxWitness.observable(anyM);
@@ -74,22 +96,72 @@ public class Observables {
     public static <T> Observable<T> narrow(Observable<? extends T> observable) {
         return (Observable<T>)observable;
     }
+    /**
+     * Buffer factory for duplicate / triplicate / quadruplicate that keeps at most maxInMemory elements on heap,
+     * spilling the rest to a memory-mapped temporary file. The file is closed whenever the slowest copy catches up
+     * with the spilled elements, so the buffers need not be closed explicitly.
+     *
+     * <pre>
+     * {@code
+     *   Tuple2<ReactiveSeq<Event>, ReactiveSeq<Event>> copies = Observables.reactiveSeq(events)
+     *                                                                     .duplicate(Observables.spillingBuffer(10_000, codec));
+     * }
+     * </pre>
+     *
+     * @param maxInMemory Maximum number of buffered elements to keep on heap
+     * @param codec Codec used to encode spilled elements
+     * @return Supplier of SpillingDeques
+     */
+    public static <T> Supplier<Deque<T>> spillingBuffer(int maxInMemory, Codec<T> codec) {
+        return SpillingDeque.factory(maxInMemory,codec);
+    }
+
+    /**
+     * @see #spillingBuffer(int, Codec)
+     * @return Supplier of SpillingDeques that spill using Java serialization
+     */
+    public static <T extends Serializable> Supplier<Deque<T>> spillingBuffer(int maxInMemory) {
+        return SpillingDeque.factory(maxInMemory);
+    }
     public static <T> ReactiveSeq<T> reactiveSeq(Observable<T> observable) {
         return new ObservableReactiveSeq<>(observable);
     }
+    /**
+     * Convert a ReactiveSeq to an Observable. Demand from the Observable's Subscribers is passed on to the ReactiveSeq,
+     * asynchronous (push) ReactiveSeqs that cannot honour it may run ahead by up to 16 * RxRingBuffer.SIZE elements
+     * before a MissingBackpressureException is signalled - use {@link #observableFrom(ReactiveSeq, OverflowPolicy)}
+     * to choose a different policy.
+     *
+     * @param stream ReactiveSeq to convert
+     * @return Observable
+     */
     public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream){
         return stream.visit(sync->fromStream(stream),
                 rs->observable(stream),
-                async->Observable.create(new Observable.OnSubscribe<T>() {
-            @Override
-            public void call(final rx.Subscriber<? super T> rxSubscriber) {
-                rxSubscriber.onStart();
-                stream.forEach(rxSubscriber::onNext,rxSubscriber::onError,rxSubscriber::onCompleted);
-            }
-        }).onBackpressureBuffer(Long.MAX_VALUE));
+                async->demandDriven(stream));
 
 
     }
+
+    /**
+     * Convert a ReactiveSeq to an Observable, handling elements pushed by an asynchronous ReactiveSeq ahead of
+     * demand with the supplied OverflowPolicy
+     *
+     * <pre>
+     * {@code
+     *   Observable<Data> observable = Observables.observableFrom(asyncSeq, OverflowPolicy.spillToDisk(10_000));
+     * }
+     * </pre>
+     *
+     * @param stream ReactiveSeq to convert
+     * @param policy Overflow handling for asynchronous ReactiveSeqs
+     * @return Observable
+     */
+    public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream, OverflowPolicy<T> policy){
+        return stream.visit(sync->fromStream(stream),
+                rs->observable(stream),
+                async->policy.apply(pushed(stream)));
+    }
     public static  <T> Observable<T> fromStream(Stream<T> s){
 
         if(s instanceof  ReactiveSeq) {
@@ -97,16 +169,35 @@ public class Observables {
 
             return stream.visit(sync -> Observable.from(stream),
                     rs -> observable(stream),
-                    async -> Observable.create(new Observable.OnSubscribe<T>() {
-                        @Override
-                        public void call(final rx.Subscriber<? super T> rxSubscriber) {
-                            rxSubscriber.onStart();
-                            stream.forEach(rxSubscriber::onNext, rxSubscriber::onError, rxSubscriber::onCompleted);
-                        }
-                    }).onBackpressureBuffer(Long.MAX_VALUE));
+                    async -> demandDriven(stream));
+        }
+        return Observable.from(ReactiveSeq.fromStream(s));
+    }
+    public static  <T> Observable<T> fromStream(Stream<T> s, OverflowPolicy<T> policy){
+
+        if(s instanceof  ReactiveSeq) {
+            ReactiveSeq<T> stream = (ReactiveSeq<T>)s;
+
+            return stream.visit(sync -> Observable.from(stream),
+                    rs -> observable(stream),
+                    async -> policy.apply(pushed(stream)));
         }
         return Observable.from(ReactiveSeq.fromStream(s));
     }
+
+    private static <T> Observable<T> demandDriven(ReactiveSeq<T> stream){
+        return Observable.create(new DemandOnSubscribe<>(stream, 16 * RxRingBuffer.SIZE));
+    }
+
+    private static <T> Observable<T> pushed(ReactiveSeq<T> stream){
+        return Observable.create(new Observable.OnSubscribe<T>() {
+            @Override
+            public void call(final rx.Subscriber<? super T> rxSubscriber) {
+                rxSubscriber.onStart();
+                stream.forEach(rxSubscriber::onNext, rxSubscriber::onError, rxSubscriber::onCompleted);
+            }
+        });
+    }
     public static <W extends WitnessType<W>,T> StreamT<W,T> observablify(StreamT<W,T> nested){
         AnyM<W, Stream<T>> anyM = nested.unwrap();
         AnyM<W, ReactiveSeq<T>> fluxM = anyM.map(s -> {
@@ -162,20 +253,342 @@ public class Observables {
     /**
      * Convert an Observable to a cyclops-react ReactiveSeq
      *
+     * Downstream demand is propagated to the Observable, with at most {@link RxRingBuffer#SIZE} elements
+     * requested ahead at any one time. Observables that ignore backpressure (e.g. interval, throttleFirst) may push
+     * up to {@link RxRingBuffer#SIZE} elements ahead of demand, which are buffered until the ReactiveSeq requests them;
+     * beyond that the Observable is cancelled and a MissingBackpressureException is signalled.
+     *
      * @param observable To conver
      * @return ReactiveSeq
      */
     public static <T> ReactiveSeq<T> connectToReactiveSeq(Observable<T> observable) {
-        return Spouts.async(s->{
-           observable.subscribe(s::onNext,e->{
-               s.onError(e);
-               s.onComplete();
-           },s::onComplete);
+        return connectToReactiveSeq(observable, RxRingBuffer.SIZE);
+    }
 
+    /**
+     * Convert an Observable to a cyclops-react ReactiveSeq, requesting at most prefetch elements from the Observable
+     * at a time. Unbounded downstream demand is requested in batches (prefetch elements, then three quarters of prefetch
+     * each time that many have been delivered). At most prefetch elements pushed ahead of demand by an Observable that
+     * ignores backpressure are buffered, beyond that the Observable is cancelled and a MissingBackpressureException is
+     * signalled.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Integer> seq = Observables.connectToReactiveSeq(Observable.range(0,1_000_000),32);
+     *   //the Observable is requested from 32 (then 24) elements at a time
+     * }
+     * </pre>
+     *
+     * @param observable To convert
+     * @param prefetch Maximum number of elements outstanding from the Observable
+     * @return ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> connectToReactiveSeq(Observable<T> observable, int prefetch) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("prefetch must be positive, was " + prefetch);
+        return Spouts.from(new Publisher<T>() {
+            @Override
+            public void subscribe(Subscriber<? super T> subscriber) {
+                connect(observable, subscriber, prefetch);
+            }
         });
+    }
+
+    /**
+     * Convert an Observable to a cyclops-react ReactiveSeq, moving elements across the boundary in batches of at most
+     * maxBatch elements rather than one at a time. A partial batch is flushed once its first element has waited
+     * maxLatency. Ordering and backpressure are preserved, with at most two batches requested ahead of demand.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Tick> ticks = Observables.connectToReactiveSeqBatched(feed, 256, 5, TimeUnit.MILLISECONDS);
+     * }
+     * </pre>
+     *
+     * @param observable To convert
+     * @param maxBatch Maximum number of elements per batch
+     * @param maxLatency Maximum time an element waits for its batch to fill
+     * @param unit Time unit for maxLatency
+     * @return ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> connectToReactiveSeqBatched(Observable<T> observable, int maxBatch, long maxLatency, TimeUnit unit) {
+        return connectToReactiveSeqBatched(observable, maxBatch, maxLatency, unit, Schedulers.computation());
+    }
 
+    /**
+     * @see #connectToReactiveSeqBatched(Observable, int, long, TimeUnit)
+     * @param scheduler Scheduler on which partial batches are flushed
+     */
+    public static <T> ReactiveSeq<T> connectToReactiveSeqBatched(Observable<T> observable, int maxBatch, long maxLatency, TimeUnit unit,
+                                                                 Scheduler scheduler) {
+        Observable<List<T>> batches = observable.lift(new OperatorMicroBatch<>(maxBatch, maxLatency, unit, scheduler));
+        return connectToReactiveSeq(batches, 2).concatMap(batch -> batch);
     }
 
+    /**
+     * Bridge an Executor to an Rx Scheduler, so that native Rx operators (delays, intervals, parallel rails) and
+     * cyclops-react stages can share a single pool of threads.
+     *
+     * <pre>
+     * {@code
+     *   ExecutorService pool = Executors.newFixedThreadPool(4);
+     *   ReactiveSeq<Data> seq = Observables.reactiveSeq(source)
+     *                                      .parallel(4, Observables.scheduler(pool))
+     *                                      .map(this::enrich);
+     * }
+     * </pre>
+     *
+     * @param executor Executor to run scheduled work on
+     * @return Scheduler backed by the Executor
+     */
+    public static Scheduler scheduler(Executor executor) {
+        return Schedulers.from(executor);
+    }
+
+    /**
+     * Bridge an Rx Scheduler to an Executor, so that cyclops-react operators that accept an Executor run on the
+     * Scheduler's threads. Each task is run on its own worker of the Scheduler, which is released once the task
+     * completes.
+     *
+     * @param scheduler Scheduler to run tasks on
+     * @return Executor backed by the Scheduler
+     */
+    public static Executor executor(Scheduler scheduler) {
+        return task -> {
+            Scheduler.Worker worker = scheduler.createWorker();
+            worker.schedule(() -> {
+                try {
+                    task.run();
+                } finally {
+                    worker.unsubscribe();
+                }
+            });
+        };
+    }
+
+    /**
+     * @return A shared Executor that runs each task on a new virtual thread, if the running JVM supports virtual
+     * threads (Java 21+), otherwise None
+     */
+    public static Option<Executor> virtualThreadExecutor() {
+        return VirtualThreads.EXECUTOR;
+    }
+
+    /**
+     * A Scheduler for blocking I/O stages. On Java 21+ work is run on virtual threads (via
+     * {@link #virtualThreadExecutor()}), on earlier JVMs this is {@link Schedulers#io()}.
+     *
+     * @return Scheduler for blocking work
+     */
+    public static Scheduler blockingScheduler() {
+        return VirtualThreads.SCHEDULER;
+    }
+
+    private static final class VirtualThreads {
+        static final Option<Executor> EXECUTOR = create();
+        static final Scheduler SCHEDULER = EXECUTOR.map(Schedulers::from).orElseGet(Schedulers::io);
+
+        private static Option<Executor> create() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return Option.some((Executor) factory.invoke(null));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Option.none();
+            }
+        }
+    }
+
+    /**
+     * A blocking Iterator over an Observable that keeps at most prefetch elements requested ahead of the consumer,
+     * requesting more once the number outstanding falls to lowWater. Unlike Observable#toBlocking, the amount buffered
+     * ahead of a slow consumer can be tuned.
+     *
+     * <pre>
+     * {@code
+     *   Iterator<Row> rows = Observables.iterator(query, 1024, 256);
+     * }
+     * </pre>
+     *
+     * @param observable Observable to iterate over
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWater Number of outstanding elements at (or below) which more are requested
+     * @return Iterator that subscribes to the Observable
+     */
+    public static <T> Iterator<T> iterator(Observable<T> observable, int prefetch, int lowWater) {
+        return PrefetchIterator.subscribe(observable, prefetch, lowWater);
+    }
+
+    /**
+     * @see #iterator(Observable, int, int)
+     * @return Iterable that subscribes to the Observable each time it is iterated
+     */
+    public static <T> Iterable<T> iterable(Observable<T> observable, int prefetch, int lowWater) {
+        return () -> iterator(observable, prefetch, lowWater);
+    }
+
+    private static <T> void connect(Observable<T> observable, Subscriber<? super T> subscriber, int prefetch) {
+        DemandSubscriber<T> rxSubscriber = new DemandSubscriber<>(subscriber, prefetch);
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    rxSubscriber.unsubscribe();
+                    subscriber.onError(new IllegalArgumentException("Rule 3.9 violated: non-positive request " + n));
+                    return;
+                }
+                rxSubscriber.requestMore(n);
+            }
+
+            @Override
+            public void cancel() {
+                rxSubscriber.unsubscribe();
+            }
+        });
+        observable.subscribe(rxSubscriber);
+    }
+
+    /**
+     * Forwards reactive-streams demand to the Observable, keeping no more than prefetch elements outstanding.
+     * Up to prefetch elements emitted ahead of demand by operators that ignore backpressure (e.g. throttleFirst,
+     * interval) are held until requested; one more cancels the Observable and signals MissingBackpressureException.
+     * Errors are followed by onComplete, as ReactiveSeq errors are not terminal.
+     */
+    private static final class DemandSubscriber<T> extends rx.Subscriber<T> {
+        private static final Object NULL = new Object();
+
+        private final Subscriber<? super T> subscriber;
+        private final int prefetch;
+        private final int limit;
+        private final ArrayDeque<Object> queue = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private long demand;
+        private long pending;
+        private long outstanding;
+        private long unrequested;
+        private boolean done;
+        private Throwable error;
+
+        DemandSubscriber(Subscriber<? super T> subscriber, int prefetch) {
+            this.subscriber = subscriber;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch - (prefetch >> 2));
+        }
+
+        @Override
+        public void onStart() {
+            request(0);
+        }
+
+        void requestMore(long n) {
+            long r;
+            synchronized (this) {
+                demand = BackpressureUtils.addCap(demand, n);
+                long satisfied = Math.min(n, unrequested);
+                unrequested -= satisfied;
+                pending = BackpressureUtils.addCap(pending, n - satisfied);
+                r = nextRequest();
+            }
+            if (r > 0)
+                request(r);
+            drain();
+        }
+
+        private long nextRequest() {
+            long r = Math.min(pending, prefetch - outstanding);
+            if (r <= 0 || (r < limit && r < pending))
+                return 0;
+            if (pending != Long.MAX_VALUE)
+                pending -= r;
+            outstanding += r;
+            return r;
+        }
+
+        @Override
+        public void onNext(T t) {
+            long r;
+            boolean overflow = false;
+            synchronized (this) {
+                if (done)
+                    return;
+                if (outstanding > 0) {
+                    outstanding--;
+                } else if (unrequested >= prefetch) {
+                    overflow = true;
+                } else {
+                    unrequested++;
+                }
+                if (overflow) {
+                    queue.clear();
+                    error = new MissingBackpressureException("More than " + prefetch + " elements were pushed ahead of demand");
+                    done = true;
+                    r = 0;
+                } else {
+                    queue.offer(t == null ? NULL : t);
+                    r = nextRequest();
+                }
+            }
+            if (overflow)
+                unsubscribe();
+            else if (r > 0)
+                request(r);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            synchronized (this) {
+                if (done)
+                    return;
+                error = e;
+                done = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onCompleted() {
+            synchronized (this) {
+                if (done)
+                    return;
+                done = true;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    Object next;
+                    boolean terminate = false;
+                    synchronized (this) {
+                        next = demand > 0 ? queue.poll() : null;
+                        if (next != null) {
+                            if (demand != Long.MAX_VALUE)
+                                demand--;
+                        } else if (done && queue.isEmpty()) {
+                            done = false;
+                            terminate = true;
+                        }
+                    }
+                    if (terminate) {
+                        if (error != null)
+                            subscriber.onError(error);
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (next == null)
+                        break;
+                    subscriber.onNext(next == NULL ? null : (T) next);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+    }
 
     /**
      * Convert a Publisher to an observable
@@ -212,6 +625,46 @@ public class Observables {
         return create(OnSubscribeAmb.amb(sources));
     }
 
+    /**
+     * Make a call, sending up to maxHedges backup calls (one per delay) while no call has signalled. The first call to
+     * signal wins and the others are unsubscribed.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq<Row> row = Observables.hedge(() -> client.read(key), 20, TimeUnit.MILLISECONDS, 1);
+     * }
+     * </pre>
+     *
+     * @param call Makes the call, invoked once per attempt
+     * @param delay Time to wait before each backup call
+     * @param unit Time unit for delay
+     * @param maxHedges Maximum number of backup calls
+     * @return ReactiveSeq with the result of the first call to respond
+     * @see Hedger
+     */
+    public static <T> ReactiveSeq<T> hedge(Supplier<? extends Observable<? extends T>> call, long delay, TimeUnit unit, int maxHedges) {
+        return hedge(call, Hedger.fixed(delay, unit, maxHedges));
+    }
+
+    /**
+     * Make a call hedged by the supplied Hedger. Share a Hedger (for example an adaptive one tracking p95 latency)
+     * across calls to the same service, and read hedgesIssued / hedgesWon from it.
+     *
+     * <pre>
+     * {@code
+     *   Hedger replicas = Hedger.adaptive(0.95, 50, TimeUnit.MILLISECONDS, 1);
+     *   ReactiveSeq<Row> row = Observables.hedge(() -> client.read(key), replicas);
+     * }
+     * </pre>
+     *
+     * @param call Makes the call, invoked once per attempt
+     * @param hedger Determines the delay and number of backup calls and counts them
+     * @return ReactiveSeq with the result of the first call to respond
+     */
+    public static <T> ReactiveSeq<T> hedge(Supplier<? extends Observable<? extends T>> call, Hedger hedger) {
+        return reactiveSeq(hedger.hedge(call));
+    }
+
 
 
 
@@ -284,12 +737,12 @@ public class Observables {
 
 
     public static <T> ReactiveSeq<T> just(final T value) {
-        return reactiveSeq(Observable.just(value));
+        return new SizedObservableReactiveSeq<>(Observable.just(value), 1);
     }
     @SafeVarargs
     public static <T> ReactiveSeq<T> just(final T... values) {
         T[] array = values;
-        return reactiveSeq(Observable.from(array));
+        return new SizedObservableReactiveSeq<>(Observable.from(array), array.length);
     }
     public static <T> ReactiveSeq<T> of(final T value) {
         return just(value);
@@ -341,7 +794,7 @@ public class Observables {
     }
 
     public static ReactiveSeq<Integer> range(int start, int count) {
-       return reactiveSeq(Observable.range(start,count));
+       return new SizedObservableReactiveSeq<>(Observable.range(start,count), count);
     }
 
 
@@ -428,14 +881,27 @@ public class Observables {
                                                                      BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
                                                                      Function3<? super T1, ? super R1, ? super R2, ? extends Observable<R3>> value4,
                                                                      Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+        return forEach4With(value1, value2, value3, value4, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
+
+    /**
+     * @see #forEach4(Observable, Function, BiFunction, Function3, Function4)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T1, T2, T3, R1, R2, R3, R> Observable<R> forEach4With(Observable<? extends T1> value1,
+                                                                     Function<? super T1, ? extends Observable<R1>> value2,
+                                                                     BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
+                                                                     Function3<? super T1, ? super R1, ? super R2, ? extends Observable<R3>> value4,
+                                                                     Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction,
+                                                                     FlatMapStrategy strategy) {
 
 
-        return value1.flatMap(in -> {
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
-            return a.flatMap(ina -> {
+            return strategy.flatMap(a, ina -> {
                 Observable<R2> b = value3.apply(in,ina);
-                return b.flatMap(inb -> {
+                return strategy.flatMap(b, inb -> {
                     Observable<R3> c = value4.apply(in,ina,inb);
                     return c.map(in2 -> yieldingFunction.apply(in, ina, inb, in2));
                 });
@@ -479,13 +945,27 @@ public class Observables {
                                                                      Function3<? super T1, ? super R1, ? super R2, ? extends Observable<R3>> value4,
                                                                      Function4<? super T1, ? super R1, ? super R2, ? super R3, Boolean> filterFunction,
                                                                      Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+        return forEach4With(value1, value2, value3, value4, filterFunction, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
 
-        return value1.flatMap(in -> {
+    /**
+     * @see #forEach4(Observable, Function, BiFunction, Function3, Function4, Function4)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T1, T2, T3, R1, R2, R3, R> Observable<R> forEach4With(Observable<? extends T1> value1,
+                                                                     Function<? super T1, ? extends Observable<R1>> value2,
+                                                                     BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
+                                                                     Function3<? super T1, ? super R1, ? super R2, ? extends Observable<R3>> value4,
+                                                                     Function4<? super T1, ? super R1, ? super R2, ? super R3, Boolean> filterFunction,
+                                                                     Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction,
+                                                                     FlatMapStrategy strategy) {
+
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
-            return a.flatMap(ina -> {
+            return strategy.flatMap(a, ina -> {
                 Observable<R2> b = value3.apply(in,ina);
-                return b.flatMap(inb -> {
+                return strategy.flatMap(b, inb -> {
                     Observable<R3> c = value4.apply(in,ina,inb);
                     return c.filter(in2->filterFunction.apply(in,ina,inb,in2))
                             .map(in2 -> yieldingFunction.apply(in, ina, inb, in2));
@@ -524,11 +1004,23 @@ public class Observables {
                                                              Function<? super T1, ? extends Observable<R1>> value2,
                                                              BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
                                                              Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+        return forEach3With(value1, value2, value3, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
+
+    /**
+     * @see #forEach3(Observable, Function, BiFunction, Function3)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T1, T2, R1, R2, R> Observable<R> forEach3With(Observable<? extends T1> value1,
+                                                             Function<? super T1, ? extends Observable<R1>> value2,
+                                                             BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
+                                                             Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction,
+                                                             FlatMapStrategy strategy) {
 
-        return value1.flatMap(in -> {
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
-            return a.flatMap(ina -> {
+            return strategy.flatMap(a, ina -> {
                 Observable<R2> b = value3.apply(in, ina);
                 return b.map(in2 -> yieldingFunction.apply(in, ina, in2));
             });
@@ -537,6 +1029,7 @@ public class Observables {
         });
 
     }
+
     /**
      * Perform a For Comprehension over a Observable, accepting 2 generating functions.
      * This results in a three level nested internal iteration over the provided Observables.
@@ -565,11 +1058,24 @@ public class Observables {
                                                              BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
                                                              Function3<? super T1, ? super R1, ? super R2, Boolean> filterFunction,
                                                              Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+        return forEach3With(value1, value2, value3, filterFunction, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
+
+    /**
+     * @see #forEach3(Observable, Function, BiFunction, Function3, Function3)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T1, T2, R1, R2, R> Observable<R> forEach3With(Observable<? extends T1> value1,
+                                                             Function<? super T1, ? extends Observable<R1>> value2,
+                                                             BiFunction<? super T1, ? super R1, ? extends Observable<R2>> value3,
+                                                             Function3<? super T1, ? super R1, ? super R2, Boolean> filterFunction,
+                                                             Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction,
+                                                             FlatMapStrategy strategy) {
 
-        return value1.flatMap(in -> {
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
-            return a.flatMap(ina -> {
+            return strategy.flatMap(a, ina -> {
                 Observable<R2> b = value3.apply(in,ina);
                 return b.filter(in2->filterFunction.apply(in,ina,in2))
                         .map(in2 -> yieldingFunction.apply(in, ina, in2));
@@ -607,8 +1113,18 @@ public class Observables {
      */
     public static <T, R1, R> Observable<R> forEach(Observable<? extends T> value1, Function<? super T, Observable<R1>> value2,
                                                    BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+        return forEachWith(value1, value2, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
+
+    /**
+     * @see #forEach(Observable, Function, BiFunction)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T, R1, R> Observable<R> forEachWith(Observable<? extends T> value1, Function<? super T, Observable<R1>> value2,
+                                                   BiFunction<? super T, ? super R1, ? extends R> yieldingFunction,
+                                                   FlatMapStrategy strategy) {
 
-        return value1.flatMap(in -> {
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
             return a.map(in2 -> yieldingFunction.apply(in,  in2));
@@ -649,8 +1165,20 @@ public class Observables {
                                                    Function<? super T, ? extends Observable<R1>> value2,
                                                    BiFunction<? super T, ? super R1, Boolean> filterFunction,
                                                    BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+        return forEachWith(value1, value2, filterFunction, yieldingFunction, FlatMapStrategy.defaultStrategy());
+    }
 
-        return value1.flatMap(in -> {
+    /**
+     * @see #forEach(Observable, Function, BiFunction, BiFunction)
+     * @param strategy Determines the concurrency and ordering of nested Observables
+     */
+    public static <T, R1, R> Observable<R> forEachWith(Observable<? extends T> value1,
+                                                   Function<? super T, ? extends Observable<R1>> value2,
+                                                   BiFunction<? super T, ? super R1, Boolean> filterFunction,
+                                                   BiFunction<? super T, ? super R1, ? extends R> yieldingFunction,
+                                                   FlatMapStrategy strategy) {
+
+        return strategy.flatMap(value1, in -> {
 
             Observable<R1> a = value2.apply(in);
             return a.filter(in2->filterFunction.apply(in,in2))
@@ -659,5 +1187,4 @@ public class Observables {
 
     }
 
-
 }
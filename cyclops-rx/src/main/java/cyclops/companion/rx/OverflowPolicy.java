@@ -0,0 +1,70 @@
+package cyclops.companion.rx;
+
+import com.oath.cyclops.rx.buffer.Codec;
+import com.oath.cyclops.rx.buffer.OperatorOnBackpressureSpill;
+import rx.BackpressureOverflow;
+import rx.Observable;
+
+import java.io.Serializable;
+
+/**
+ * Determines what happens to elements pushed by a source that cannot honour backpressure (such as an asynchronous
+ * ReactiveSeq) when the downstream Subscriber has not requested them yet.
+ *
+ * <pre>
+ * {@code
+ *   Observable<Integer> observable = Observables.observableFrom(asyncSeq, OverflowPolicy.dropOldest(1024));
+ * }
+ * </pre>
+ *
+ * @param <T> Element type
+ */
+@FunctionalInterface
+public interface OverflowPolicy<T> {
+
+    Observable<T> apply(Observable<T> source);
+
+    /**
+     * Buffer up to capacity elements, then signal a MissingBackpressureException
+     */
+    static <T> OverflowPolicy<T> error(long capacity) {
+        return source -> source.onBackpressureBuffer(capacity, null, BackpressureOverflow.ON_OVERFLOW_ERROR);
+    }
+
+    /**
+     * Buffer up to capacity elements, then discard the oldest buffered element to make room
+     */
+    static <T> OverflowPolicy<T> dropOldest(long capacity) {
+        return source -> source.onBackpressureBuffer(capacity, null, BackpressureOverflow.ON_OVERFLOW_DROP_OLDEST);
+    }
+
+    /**
+     * Buffer up to capacity elements, then discard newly arriving elements until there is room
+     */
+    static <T> OverflowPolicy<T> dropLatest(long capacity) {
+        return source -> source.onBackpressureBuffer(capacity, null, BackpressureOverflow.ON_OVERFLOW_DROP_LATEST);
+    }
+
+    /**
+     * Keep only the most recently pushed element until it is requested
+     */
+    static <T> OverflowPolicy<T> keepLatest() {
+        return Observable::onBackpressureLatest;
+    }
+
+    /**
+     * Buffer without loss, holding at most maxInMemory elements on heap and spilling the rest to a temporary file
+     * using Java serialization
+     */
+    static <T extends Serializable> OverflowPolicy<T> spillToDisk(int maxInMemory) {
+        return spillToDisk(maxInMemory, Codec.serializable());
+    }
+
+    /**
+     * Buffer without loss, holding at most maxInMemory elements on heap and spilling the rest to a temporary file
+     * using the supplied Codec
+     */
+    static <T> OverflowPolicy<T> spillToDisk(int maxInMemory, Codec<T> codec) {
+        return source -> source.lift(new OperatorOnBackpressureSpill<>(maxInMemory, codec));
+    }
+}
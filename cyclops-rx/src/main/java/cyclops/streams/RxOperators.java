@@ -1,5 +1,8 @@
 package cyclops.streams;
 
+import com.oath.cyclops.rx.metrics.Instrumentation;
+import com.oath.cyclops.rx.metrics.MetricsSink;
+import com.oath.cyclops.rx.operators.OperatorInstrument;
 import cyclops.companion.rx.Observables;
 import cyclops.reactive.ReactiveSeq;
 import rx.Observable;
@@ -36,6 +39,34 @@ public class RxOperators {
     public static <T,R> Function<ReactiveSeq<T>,ReactiveSeq<R>> observable(final Function<? super Observable<? super T>,? extends Observable<? extends R>> fn){
         return s->Observables.<R>reactiveSeq(Observables.narrow(fn.apply(Observables.observableFrom(s))));
     }
+
+    /**
+     * Mark a stage boundary to be measured under the supplied name. Element counts, downstream onNext latency,
+     * request to emit lag and outstanding demand are recorded into the sink configured with
+     * {@link Instrumentation#enable(MetricsSink)}. While instrumentation is disabled no operator is added.
+     *
+     * <pre>
+     * {@code
+     *   seq.map(this::parse)
+     *      .to(RxOperators.instrument("parse"))
+     *      .map(this::enrich)
+     *      .to(RxOperators.instrument("enrich"));
+     * }
+     * </pre>
+     *
+     * @param name Stage name to record under
+     * @return Function that instruments a ReactiveSeq
+     */
+    public static <T> Function<ReactiveSeq<T>,ReactiveSeq<T>> instrument(String name){
+        return s->Instrumentation.sink().map(sink->RxOperators.<T>instrument(name,sink).apply(s)).orElse(s);
+    }
+    /**
+     * @see #instrument(String)
+     * @param sink Sink to record into, regardless of the global configuration
+     */
+    public static <T> Function<ReactiveSeq<T>,ReactiveSeq<T>> instrument(String name, MetricsSink sink){
+        return lift(new OperatorInstrument<T>(name,sink));
+    }
     public static <T,R> Function<Observable<T>,Observable<R>> seq(final Function<? super ReactiveSeq<? super T>,? extends ReactiveSeq<? extends R>> fn){
         return s-> Observables.observableFrom((ReactiveSeq<R>)fn.apply(Observables.reactiveSeq(s)));
     }
@@ -0,0 +1,114 @@
+package com.oath.cyclops.rx.buffer;
+
+import cyclops.companion.rx.Observables;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import org.junit.Test;
+import rx.observers.TestSubscriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ExternalSorterTest {
+
+    @Test
+    public void sortsAcrossSpilledRuns() {
+        List<Integer> values = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++)
+            values.add(random.nextInt(1000));
+        try (ExternalSorter<Integer> sorter = new ExternalSorter<>(Comparator.<Integer>naturalOrder(), 100, Codec.serializable())) {
+            values.forEach(sorter::add);
+            List<Integer> sorted = new ArrayList<>();
+            sorter.iterator().forEachRemaining(sorted::add);
+            assertThat(sorter.spilledRuns(), equalTo(100));
+            Collections.sort(values);
+            assertThat(sorted, equalTo(values));
+        }
+    }
+
+    @Test
+    public void inMemoryWhenSmall() {
+        try (ExternalSorter<String> sorter = new ExternalSorter<>(Comparator.<String>naturalOrder(), 10, Codec.serializable())) {
+            Arrays.asList("c", "a", "b").forEach(sorter::add);
+            List<String> sorted = new ArrayList<>();
+            sorter.iterator().forEachRemaining(sorted::add);
+            assertThat(sorter.spilledRuns(), equalTo(0));
+            assertThat(sorted, equalTo(Arrays.asList("a", "b", "c")));
+        }
+    }
+
+    @Test
+    public void stable() {
+        try (ExternalSorter<Tuple2<Integer, Integer>> sorter =
+                     new ExternalSorter<>(Comparator.comparing(Tuple2::_1), 3, Codec.serializable())) {
+            for (int i = 0; i < 20; i++)
+                sorter.add(Tuple.tuple(i % 2, i));
+            Iterator<Tuple2<Integer, Integer>> it = sorter.iterator();
+            Tuple2<Integer, Integer> previous = it.next();
+            while (it.hasNext()) {
+                Tuple2<Integer, Integer> next = it.next();
+                if (next._1().equals(previous._1()))
+                    assertThat(previous._2(), lessThan(next._2()));
+                previous = next;
+            }
+        }
+    }
+
+    @Test
+    public void mergesInPassesWhenManyRuns() {
+        try (ExternalSorter<Tuple2<Integer, Integer>> sorter =
+                     new ExternalSorter<>(Comparator.comparing(Tuple2::_1), 2, Codec.serializable())) {
+            Random random = new Random(7);
+            for (int i = 0; i < 10_000; i++)
+                sorter.add(Tuple.tuple(random.nextInt(100), i));
+            List<Tuple2<Integer, Integer>> sorted = new ArrayList<>();
+            sorter.iterator().forEachRemaining(sorted::add);
+
+            assertThat(sorter.mergePasses(), equalTo(2));
+            assertThat(sorter.spilledRuns(), equalTo(5_000));
+            assertThat(sorted.size(), equalTo(10_000));
+            for (int i = 1; i < sorted.size(); i++) {
+                Tuple2<Integer, Integer> previous = sorted.get(i - 1);
+                Tuple2<Integer, Integer> next = sorted.get(i);
+                assertTrue(previous._1() < next._1() || (previous._1().equals(next._1()) && previous._2() < next._2()));
+            }
+        }
+    }
+
+    @Test
+    public void sortedWithMaxInMemory() {
+        List<Integer> result = rx(Observables.range(0, 1000).map(i -> 999 - i)).sorted(Comparator.naturalOrder(), 64)
+                                                                              .toList();
+        assertThat(result, equalTo(ReactiveSeq.range(0, 1000).toList()));
+    }
+
+    @Test
+    public void sortedHonoursBackpressure() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0);
+        rx(rx(Observables.range(0, 500).map(i -> 499 - i)).sorted(Comparator.naturalOrder(), 50)).getObservable()
+                                                                                                .subscribe(sub);
+        sub.requestMore(3);
+        sub.assertValues(0, 1, 2);
+        sub.assertNotCompleted();
+        sub.requestMore(Long.MAX_VALUE);
+        sub.assertValueCount(500);
+        sub.assertCompleted();
+    }
+
+    private static <T> ObservableReactiveSeq<T> rx(ReactiveSeq<T> seq) {
+        return (ObservableReactiveSeq<T>) seq;
+    }
+}
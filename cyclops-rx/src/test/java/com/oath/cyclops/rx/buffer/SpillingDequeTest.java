@@ -0,0 +1,163 @@
+package com.oath.cyclops.rx.buffer;
+
+import cyclops.companion.rx.Observables;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SpillingDequeTest {
+
+    @Test
+    public void fifoAcrossMemoryAndDisk() {
+        try (SpillingDeque<Integer> deque = new SpillingDeque<>(10, Codec.serializable())) {
+            for (int i = 0; i < 100_000; i++)
+                deque.add(i);
+            assertThat(deque.size(), equalTo(100_000));
+            assertThat(deque.spilled(), greaterThan(0L));
+            for (int i = 0; i < 100_000; i++)
+                assertThat(deque.poll(), equalTo(i));
+            assertTrue(deque.isEmpty());
+        }
+    }
+
+    @Test
+    public void behavesLikeArrayDeque() {
+        Random random = new Random(42);
+        Deque<Integer> expected = new ArrayDeque<>();
+        try (SpillingDeque<Integer> deque = new SpillingDeque<>(8, Codec.serializable())) {
+            for (int i = 0; i < 20_000; i++) {
+                switch (random.nextInt(6)) {
+                    case 0: case 1:
+                        deque.addLast(i);
+                        expected.addLast(i);
+                        break;
+                    case 2:
+                        deque.addFirst(i);
+                        expected.addFirst(i);
+                        break;
+                    case 3:
+                        assertThat(deque.pollFirst(), equalTo(expected.pollFirst()));
+                        break;
+                    case 4:
+                        assertThat(deque.pollLast(), equalTo(expected.pollLast()));
+                        break;
+                    default:
+                        assertThat(deque.peekFirst(), equalTo(expected.peekFirst()));
+                        assertThat(deque.peekLast(), equalTo(expected.peekLast()));
+                }
+                assertThat(deque.size(), equalTo(expected.size()));
+            }
+            assertThat(list(deque.iterator()), equalTo(list(expected.iterator())));
+            assertThat(list(deque.descendingIterator()), equalTo(list(expected.descendingIterator())));
+        }
+    }
+
+    @Test
+    public void removeOccurrencesLikeArrayDeque() {
+        Random random = new Random(7);
+        Deque<Integer> expected = new ArrayDeque<>();
+        try (SpillingDeque<Integer> deque = new SpillingDeque<>(8, Codec.serializable())) {
+            for (int i = 0; i < 5_000; i++) {
+                int value = random.nextInt(50);
+                switch (random.nextInt(5)) {
+                    case 0: case 1:
+                        deque.addLast(value);
+                        expected.addLast(value);
+                        break;
+                    case 2:
+                        deque.addFirst(value);
+                        expected.addFirst(value);
+                        break;
+                    case 3:
+                        assertThat(deque.removeFirstOccurrence(value), equalTo(expected.removeFirstOccurrence(value)));
+                        break;
+                    default:
+                        assertThat(deque.removeLastOccurrence(value), equalTo(expected.removeLastOccurrence(value)));
+                }
+                assertThat(deque.size(), equalTo(expected.size()));
+            }
+            assertThat(deque.spilled(), greaterThan(0L));
+            assertThat(list(deque.iterator()), equalTo(list(expected.iterator())));
+            assertThat(list(deque.descendingIterator()), equalTo(list(expected.descendingIterator())));
+            while (!expected.isEmpty())
+                assertThat(deque.pollFirst(), equalTo(expected.pollFirst()));
+            assertTrue(deque.isEmpty());
+        }
+    }
+
+    @Test
+    public void removeFromDiskSegment() {
+        try (SpillingDeque<String> deque = new SpillingDeque<>(2, Codec.serializable())) {
+            for (String s : Arrays.asList("a", "b", null, "c", "b", "d", "e"))
+                deque.add(s);
+            assertThat(deque.spilled(), greaterThan(0L));
+            assertTrue(deque.remove(null));
+            assertTrue(deque.removeLastOccurrence("b"));
+            assertFalse(deque.removeFirstOccurrence("z"));
+            assertThat(list(deque.iterator()), equalTo(Arrays.asList("a", "b", "c", "d", "e")));
+        }
+    }
+
+    @Test
+    public void nulls() {
+        try (SpillingDeque<String> deque = new SpillingDeque<>(1, Codec.serializable())) {
+            deque.add("a");
+            deque.add(null);
+            deque.add("b");
+            deque.add(null);
+            assertThat(list(deque.iterator()), equalTo(Arrays.asList("a", null, "b", null)));
+            assertThat(deque.pollLast(), equalTo(null));
+            assertThat(deque.poll(), equalTo("a"));
+            assertThat(deque.poll(), equalTo(null));
+            assertThat(deque.poll(), equalTo("b"));
+            assertTrue(deque.isEmpty());
+        }
+    }
+
+    @Test
+    public void spillFileClosedWhenDrained() {
+        MappedRecordFile file = new MappedRecordFile();
+        file.addLast(new byte[]{1});
+        file.addLast(null);
+        assertTrue(file.isOpen());
+        file.pollFirst();
+        assertTrue(file.isOpen());
+        file.pollLast();
+        assertFalse(file.isOpen());
+        file.addLast(new byte[]{2});
+        assertThat(file.pollFirst()[0], equalTo((byte) 2));
+        assertFalse(file.isOpen());
+    }
+
+    @Test
+    public void duplicateWithSkewedConsumers() {
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Observables.reactiveSeq(Observable.range(0, 50_000))
+                                                                               .duplicate(Observables.spillingBuffer(100));
+
+        Iterator<Integer> leader = copies._1().iterator();
+        for (int i = 0; i < 50_000; i++)
+            assertThat(leader.next(), equalTo(i));
+        assertThat(copies._2().toList().size(), equalTo(50_000));
+    }
+
+    private static <T> List<T> list(Iterator<T> it) {
+        List<T> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,62 @@
+package com.oath.cyclops.rx.buffer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SpillingQueueTest {
+
+    @Test
+    public void fifoAcrossMemoryAndDisk() {
+        try (SpillingQueue<Integer> queue = new SpillingQueue<>(10, Codec.serializable())) {
+            for (int i = 0; i < 1000; i++)
+                queue.offer(i);
+            assertThat(queue.size(), equalTo(1000L));
+            assertThat(queue.spilled(), equalTo(990L));
+
+            List<Integer> result = new ArrayList<>();
+            while (!queue.isEmpty())
+                result.add(queue.poll());
+            for (int i = 0; i < 1000; i++)
+                assertThat(result.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    public void interleaved() {
+        try (SpillingQueue<String> queue = new SpillingQueue<>(2, Codec.serializable())) {
+            queue.offer("a");
+            queue.offer("b");
+            queue.offer("c");
+            assertThat(queue.poll(), equalTo("a"));
+            queue.offer("d");
+            assertThat(queue.poll(), equalTo("b"));
+            assertThat(queue.poll(), equalTo("c"));
+            queue.offer("e");
+            assertThat(Arrays.asList(queue.poll(), queue.poll()), equalTo(Arrays.asList("d", "e")));
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void nulls() {
+        try (SpillingQueue<String> queue = new SpillingQueue<>(1, Codec.serializable())) {
+            queue.offer(null);
+            queue.offer(null);
+            queue.offer("x");
+            assertThat(queue.poll(), nullValue());
+            assertFalse(queue.isEmpty());
+            assertThat(queue.poll(), nullValue());
+            assertThat(queue.poll(), equalTo("x"));
+            assertTrue(queue.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.oath.cyclops.rx.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cyclops.companion.rx.Observables;
+import cyclops.control.Future;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ObservableSerializerTest {
+
+    ObjectMapper mapper = new ObjectMapper().registerModule(new RxModule(16));
+
+    @Test
+    public void observable() throws Exception {
+        assertThat(mapper.writeValueAsString(Observable.just(1, 2, 3)), equalTo("[1,2,3]"));
+        assertThat(mapper.writeValueAsString(Observable.empty()), equalTo("[]"));
+        assertThat(mapper.writeValueAsString(Observable.just("a", null)), equalTo("[\"a\",null]"));
+    }
+
+    @Test
+    public void observableReactiveSeq() throws Exception {
+        assertThat(mapper.writeValueAsString(Observables.reactiveSeq(Observable.just(1, 2, 3))), equalTo("[1,2,3]"));
+    }
+
+    @Test
+    public void demandIsBounded() throws Exception {
+        AtomicLong emitted = new AtomicLong();
+        AtomicLong maxRequest = new AtomicLong();
+        Observable<Integer> range = Observable.range(0, 1000)
+                                              .subscribeOn(Schedulers.io())
+                                              .doOnRequest(n -> maxRequest.accumulateAndGet(n, Math::max))
+                                              .doOnNext(i -> emitted.incrementAndGet());
+
+        String json = mapper.writeValueAsString(range);
+
+        assertThat(emitted.get(), equalTo(1000L));
+        assertThat(maxRequest.get(), lessThanOrEqualTo(16L));
+        assertThat(mapper.readValue(json, int[].class).length, equalTo(1000));
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void error() throws Exception {
+        mapper.writeValueAsString(Observable.just(1).concatWith(Observable.error(new RuntimeException("boom"))));
+    }
+
+    @Test
+    public void writeAsync() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonGenerator gen = mapper.getFactory().createGenerator(out);
+        Future<Void> done = ObservableJson.writeAsync(mapper, gen, Observable.range(0, 100)
+                                                                            .subscribeOn(Schedulers.io()), 8);
+        done.get();
+        assertThat(mapper.readValue(out.toString(), int[].class).length, equalTo(100));
+    }
+
+    @Test
+    public void writeAsyncFlushesPerBatch() throws Exception {
+        AtomicLong flushes = new AtomicLong();
+        StringWriter out = new StringWriter() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        JsonGenerator gen = mapper.getFactory().createGenerator(out);
+        ObservableJson.writeAsync(mapper, gen, Observable.range(0, 100).map(i -> i % 2 == 0 ? i : "s" + i), 10).get();
+
+        assertThat(mapper.readValue(out.toString(), Object[].class).length, equalTo(100));
+        assertThat(flushes.get(), equalTo(11L));
+    }
+
+    @Test
+    public void writeAsyncError() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonGenerator gen = mapper.getFactory().createGenerator(out);
+        Future<Void> done = ObservableJson.writeAsync(mapper, gen, Observable.error(new RuntimeException("boom")));
+        assertTrue(done.get().isFailure());
+    }
+}
@@ -0,0 +1,105 @@
+package com.oath.cyclops.rx.metrics;
+
+import com.oath.cyclops.rx.operators.OperatorInstrument;
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.streams.RxOperators;
+import org.junit.After;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class InstrumentationTest {
+
+    StageMetrics metrics = new StageMetrics();
+
+    @After
+    public void disable() {
+        Instrumentation.disable();
+    }
+
+    @Test
+    public void disabledAddsNoStage() {
+        ReactiveSeq<Integer> seq = Observables.of(1, 2, 3);
+        assertThat(seq.to(RxOperators.instrument("unused")), sameInstance(seq));
+        assertThat(metrics.stages().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void namedStage() {
+        Instrumentation.enable(metrics);
+        assertThat(Observables.of(1, 2, 3, 4, 5)
+                              .to(RxOperators.instrument("source"))
+                              .map(i -> i * 2)
+                              .toList(),
+                   equalTo(Arrays.asList(2, 4, 6, 8, 10)));
+
+        StageMetrics.Stage stage = metrics.stage("source");
+        assertThat(stage.emitted(), equalTo(5L));
+        assertThat(stage.completions(), equalTo(1L));
+        assertThat(stage.onNextNanos().count(), equalTo(5L));
+        assertThat(stage.lagNanos().count(), equalTo(5L));
+    }
+
+    @Test
+    public void demandAndOutstanding() {
+        TestSubscriber<Integer> subscriber = TestSubscriber.create(3);
+        Observable.range(1, 10).lift(new OperatorInstrument<>("range", metrics)).subscribe(subscriber);
+
+        StageMetrics.Stage stage = metrics.stage("range");
+        subscriber.assertValues(1, 2, 3);
+        assertThat(stage.requested(), equalTo(3L));
+        assertThat(stage.emitted(), equalTo(3L));
+        assertThat(stage.maxOutstanding(), equalTo(2L));
+
+        subscriber.requestMore(20);
+        subscriber.assertCompleted();
+        assertThat(stage.requested(), equalTo(23L));
+        assertThat(stage.emitted(), equalTo(10L));
+        assertThat(stage.maxOutstanding(), equalTo(19L));
+    }
+
+    @Test
+    public void errorsAreRecorded() {
+        TestSubscriber<Integer> subscriber = TestSubscriber.create();
+        Observable.<Integer>error(new IllegalStateException()).lift(new OperatorInstrument<>("failing", metrics)).subscribe(subscriber);
+
+        subscriber.assertError(IllegalStateException.class);
+        assertThat(metrics.stage("failing").errors(), equalTo(1L));
+    }
+
+    @Test
+    public void automaticNamesStagesByCaller() {
+        Instrumentation.enableAutomatic(metrics);
+        assertThat(Observables.of(1, 2, 3, 4)
+                              .map(i -> i + 1)
+                              .filter(i -> i % 2 == 0)
+                              .toList(),
+                   equalTo(Arrays.asList(2, 4)));
+
+        assertThat(metrics.stages().keySet(), hasItem(startsWith("map(InstrumentationTest.java:")));
+        assertThat(metrics.stages().keySet(), hasItem(startsWith("filter(InstrumentationTest.java:")));
+        String map = metrics.stages().keySet().stream().filter(k -> k.startsWith("map")).findFirst().get();
+        assertThat(metrics.stage(map).emitted(), equalTo(4L));
+    }
+
+    @Test
+    public void histogramPercentiles() {
+        StageMetrics.Histogram histogram = new StageMetrics.Histogram();
+        for (int i = 0; i < 99; i++)
+            histogram.record(10);
+        histogram.record(1000);
+
+        assertThat(histogram.count(), equalTo(100L));
+        assertThat(histogram.percentile(0.5), equalTo(15L));
+        assertThat(histogram.percentile(1.0), equalTo(1023L));
+    }
+}
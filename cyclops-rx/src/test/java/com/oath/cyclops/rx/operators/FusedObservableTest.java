@@ -0,0 +1,69 @@
+package com.oath.cyclops.rx.operators;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedObservableTest {
+
+    AtomicInteger subscriptions = new AtomicInteger(0);
+
+    private Observable<Integer> source(Integer... values) {
+        return Observable.from(values).doOnSubscribe(() -> subscriptions.incrementAndGet());
+    }
+
+    @Test
+    public void consecutiveStagesShareOneBlock() {
+        ReactiveSeq<Integer> seq = Observables.reactiveSeq(source(1, 2, 3, 4, 5));
+        for (int i = 0; i < 20; i++)
+            seq = seq.map(x -> x + 1).filter(x -> x % 2 == 0 || x > 0);
+
+        Observable<Integer> observable = ((ObservableReactiveSeq<Integer>) seq).getObservable();
+        assertThat(observable, instanceOf(FusedObservable.class));
+        assertThat(((FusedObservable<Integer>) observable).size(), equalTo(40));
+        assertThat(subscriptions.get(), equalTo(0));
+        assertThat(seq.toList(), equalTo(Arrays.asList(21, 22, 23, 24, 25)));
+    }
+
+    @Test
+    public void mapAndFilter() {
+        Observable<String> fused = FusedObservable.map(FusedObservable.filter(FusedObservable.map(source(1, 2, 3, 4, 5), i -> i * 10),
+                                                                              i -> i > 20),
+                                                       i -> "v" + i);
+
+        assertThat(fused.toList().toBlocking().single(), equalTo(Arrays.asList("v30", "v40", "v50")));
+        assertThat(fused.toList().toBlocking().single(), equalTo(Arrays.asList("v30", "v40", "v50")));
+        assertThat(subscriptions.get(), equalTo(2));
+    }
+
+    @Test
+    public void filteredElementsAreReplenished() {
+        TestSubscriber<Integer> subscriber = TestSubscriber.create(2);
+        FusedObservable.filter(Observable.range(1, 10), i -> i % 3 == 0).subscribe(subscriber);
+
+        subscriber.assertValues(3, 6);
+        subscriber.assertNotCompleted();
+        subscriber.requestMore(5);
+        subscriber.assertValues(3, 6, 9);
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void errorInStage() {
+        TestSubscriber<Integer> subscriber = TestSubscriber.create();
+        FusedObservable.map(Observable.range(1, 10), i -> 10 / (3 - i)).subscribe(subscriber);
+
+        subscriber.assertValues(5, 10);
+        subscriber.assertError(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.oath.cyclops.rx.operators;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HedgerTest {
+
+    TestScheduler scheduler = new TestScheduler();
+
+    @Test
+    public void fastPrimaryIsNotHedged() {
+        Hedger hedger = Hedger.fixed(10, TimeUnit.MILLISECONDS, 2, scheduler);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> result = new ArrayList<>();
+        hedger.hedge(() -> Observable.just(calls.incrementAndGet())).subscribe(result::add);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        assertThat(result, equalTo(Arrays.asList(1)));
+        assertThat(calls.get(), equalTo(1));
+        assertThat(hedger.hedgesIssued(), equalTo(0L));
+        assertThat(hedger.hedgesWon(), equalTo(0L));
+    }
+
+    @Test
+    public void slowPrimaryIsHedgedAndUnsubscribed() {
+        Hedger hedger = Hedger.fixed(10, TimeUnit.MILLISECONDS, 1, scheduler);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        List<String> result = new ArrayList<>();
+        hedger.hedge(() -> calls.incrementAndGet() == 1
+                ? Observable.timer(100, TimeUnit.MILLISECONDS, scheduler).map(i -> "slow")
+                            .doOnUnsubscribe(() -> primaryCancelled.set(true))
+                : Observable.just("fast"))
+              .subscribe(result::add);
+
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        assertThat(result, equalTo(Arrays.asList("fast")));
+        assertTrue(primaryCancelled.get());
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        assertThat(result, equalTo(Arrays.asList("fast")));
+        assertThat(hedger.hedgesIssued(), equalTo(1L));
+        assertThat(hedger.hedgesWon(), equalTo(1L));
+    }
+
+    @Test
+    public void maxHedges() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> result = new ArrayList<>();
+        Hedger hedger = Hedger.fixed(10, TimeUnit.MILLISECONDS, 3, scheduler);
+        hedger.hedge(() -> Observable.timer(100, TimeUnit.MILLISECONDS, scheduler).map(i -> calls.incrementAndGet()))
+              .subscribe(result::add);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        assertThat(result, equalTo(Arrays.asList(1)));
+        assertThat(hedger.hedgesIssued(), equalTo(3L));
+        assertThat(hedger.hedgesWon(), equalTo(0L));
+    }
+
+    @Test
+    public void adaptiveDelayTracksPercentile() {
+        Hedger hedger = Hedger.adaptive(0.95, 500, TimeUnit.MILLISECONDS, 1, scheduler);
+        assertThat(hedger.delay(TimeUnit.MILLISECONDS), equalTo(500L));
+        for (int latency = 1; latency <= 100; latency++) {
+            long delay = latency;
+            hedger.hedge(() -> Observable.timer(delay, TimeUnit.MILLISECONDS, scheduler)).subscribe();
+            scheduler.advanceTimeBy(delay, TimeUnit.MILLISECONDS);
+        }
+        assertThat(hedger.delay(TimeUnit.MILLISECONDS), equalTo(95L));
+        assertTrue(hedger.hedgesIssued() > 0);
+        assertThat(hedger.hedgesWon(), equalTo(0L));
+    }
+
+    @Test
+    public void fastFailuresDoNotShortenAdaptiveDelay() {
+        Hedger hedger = Hedger.adaptive(0.95, 500, TimeUnit.MILLISECONDS, 1, scheduler);
+        for (int i = 0; i < 40; i++) {
+            hedger.hedge(() -> Observable.timer(40, TimeUnit.MILLISECONDS, scheduler)).subscribe();
+            scheduler.advanceTimeBy(40, TimeUnit.MILLISECONDS);
+        }
+        assertThat(hedger.delay(TimeUnit.MILLISECONDS), equalTo(40L));
+
+        for (int i = 0; i < 200; i++) {
+            hedger.hedge(() -> Observable.timer(1, TimeUnit.MILLISECONDS, scheduler)
+                                         .flatMap(t -> Observable.<Long>error(new IllegalStateException())))
+                  .subscribe(t -> { }, e -> { });
+            scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        }
+        assertThat(hedger.delay(TimeUnit.MILLISECONDS), equalTo(40L));
+        assertThat(hedger.hedgesIssued(), equalTo(0L));
+    }
+
+    @Test
+    public void hedgeReactiveSeqResubscribes() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ObservableReactiveSeq<Long> seq = (ObservableReactiveSeq<Long>) Observables.reactiveSeq(
+                Observable.defer(() -> Observable.timer(subscriptions.incrementAndGet() == 1 ? 100 : 1,
+                                                        TimeUnit.MILLISECONDS, scheduler)));
+        Hedger hedger = Hedger.fixed(10, TimeUnit.MILLISECONDS, 1, scheduler);
+        List<Long> result = new ArrayList<>();
+        ((ObservableReactiveSeq<Long>) seq.hedge(hedger)).getObservable().subscribe(result::add);
+        scheduler.advanceTimeBy(11, TimeUnit.MILLISECONDS);
+
+        assertThat(result, equalTo(Arrays.asList(0L)));
+        assertThat(subscriptions.get(), equalTo(2));
+        assertThat(hedger.hedgesWon(), equalTo(1L));
+    }
+
+    @Test
+    public void errorFromFirstResponderIsPropagated() {
+        List<Throwable> errors = new ArrayList<>();
+        Observables.hedge(() -> Observable.<Integer>error(new IllegalStateException()), 10, TimeUnit.MILLISECONDS, 1)
+                   .forEach(i -> { }, errors::add);
+        assertThat(errors.size(), equalTo(1));
+        assertTrue(errors.get(0) instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,78 @@
+package com.oath.cyclops.rx.operators;
+
+import org.junit.Test;
+import rx.Observable;
+import rx.Subscriber;
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class OperatorMicroBatchTest {
+
+    TestScheduler scheduler = new TestScheduler();
+    AtomicLong requested = new AtomicLong();
+    AtomicReference<Subscriber<? super Integer>> source = new AtomicReference<>();
+    long emitted;
+
+    Observable<Integer> manual() {
+        return Observable.unsafeCreate(child -> {
+            child.setProducer(n -> requested.addAndGet(n));
+            source.set(child);
+        });
+    }
+
+    void emit(int count) {
+        for (int i = 0; i < count; i++)
+            source.get().onNext((int) emitted++);
+    }
+
+    @Test
+    public void flushedBatchesDoNotAccumulateCredit() {
+        TestSubscriber<List<Integer>> sub = new TestSubscriber<>(0);
+        manual().lift(new OperatorMicroBatch<>(100, 5, TimeUnit.MILLISECONDS, scheduler)).subscribe(sub);
+
+        for (int i = 0; i < 50; i++) {
+            sub.requestMore(1);
+            emit(1);
+            scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+        }
+        sub.assertValueCount(50);
+        assertThat(requested.get() - emitted, lessThanOrEqualTo(100L));
+    }
+
+    @Test
+    public void quietSourceThenBurstIsBounded() {
+        TestSubscriber<List<Integer>> sub = new TestSubscriber<>(0);
+        manual().lift(new OperatorMicroBatch<>(100, 5, TimeUnit.MILLISECONDS, scheduler)).subscribe(sub);
+
+        for (int i = 0; i < 50; i++) {
+            sub.requestMore(1);
+            emit(1);
+            scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+        }
+        emit((int) (requested.get() - emitted));
+        sub.assertValueCount(50);
+
+        sub.requestMore(1);
+        emit((int) (requested.get() - emitted));
+        sub.assertValueCount(51);
+        assertThat(sub.getOnNextEvents().get(50).size(), equalTo(100));
+        assertThat(requested.get(), equalTo(emitted));
+    }
+
+    @Test
+    public void unboundedDemand() {
+        TestSubscriber<List<Integer>> sub = new TestSubscriber<>();
+        Observable.range(0, 250).lift(new OperatorMicroBatch<>(100, 5, TimeUnit.MILLISECONDS, scheduler)).subscribe(sub);
+        sub.assertValueCount(3);
+        sub.assertCompleted();
+    }
+}
@@ -0,0 +1,97 @@
+package com.oath.cyclops.rx.operators;
+
+import com.oath.cyclops.rx.adapter.ObservableAdapter;
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.FlatMapStrategy;
+import cyclops.companion.rx.Observables;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchIteratorTest {
+
+    List<Long> requests = new ArrayList<>();
+
+    private Observable<Integer> range(int n) {
+        return Observable.range(0, n).doOnRequest(requests::add);
+    }
+
+    @Test
+    public void requestsInBatchesAboveLowWater() {
+        Iterator<Integer> it = PrefetchIterator.subscribe(range(20), 8, 2);
+        assertThat(requests, equalTo(Arrays.asList(8L)));
+
+        for (int i = 0; i < 6; i++)
+            assertThat(it.next(), equalTo(i));
+        assertThat(requests, equalTo(Arrays.asList(8L, 6L)));
+
+        List<Integer> rest = new ArrayList<>();
+        it.forEachRemaining(rest::add);
+        assertThat(rest, equalTo(IntStream.range(6, 20).boxed().collect(Collectors.toList())));
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void nullsAndErrors() {
+        Iterator<Integer> it = PrefetchIterator.subscribe(Observable.just(1, null, 3)
+                                                                    .concatWith(Observable.error(new IllegalStateException("boom"))), 2, 0);
+        assertThat(it.next(), equalTo(1));
+        assertThat(it.next(), equalTo(null));
+        assertThat(it.next(), equalTo(3));
+        try {
+            it.hasNext();
+            assertTrue(false);
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("boom"));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void observableReactiveSeqIterator() {
+        ObservableReactiveSeq<Integer> seq = (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(range(100));
+        List<Integer> list = new ArrayList<>();
+        seq.iterator(16, 4).forEachRemaining(list::add);
+
+        assertThat(list.size(), equalTo(100));
+        assertThat(requests.get(0), equalTo(16L));
+        assertThat(requests.stream().allMatch(n -> n <= 16), equalTo(true));
+    }
+
+    @Test
+    public void adapterIterable() {
+        List<Integer> list = new ArrayList<>();
+        new ObservableAdapter(FlatMapStrategy.defaultStrategy(), 4, 1).toIterable(Observables.anyM(range(10))).forEach(list::add);
+
+        assertThat(list, equalTo(IntStream.range(0, 10).boxed().collect(Collectors.toList())));
+        assertThat(requests, equalTo(Arrays.asList(4L, 3L, 3L, 3L)));
+    }
+
+    @Test
+    public void knownSizeSpliterator() {
+        Spliterator<Integer> sized = Observables.range(0, 1000).spliterator();
+        assertTrue(sized.hasCharacteristics(Spliterator.SIZED));
+        assertThat(sized.estimateSize(), equalTo(1000L));
+        assertThat(Observables.of(1, 2, 3).spliterator().getExactSizeIfKnown(), equalTo(3L));
+
+        assertThat(StreamSupport.stream(Observables.range(0, 1000).spliterator(), true)
+                                .mapToInt(i -> i)
+                                .sum(),
+                   equalTo(IntStream.range(0, 1000).sum()));
+
+        assertFalse(Observables.range(0, 1000).map(i -> i).spliterator().hasCharacteristics(Spliterator.SIZED));
+    }
+}
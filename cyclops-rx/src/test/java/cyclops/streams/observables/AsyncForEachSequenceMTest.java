@@ -95,6 +95,10 @@ public class AsyncForEachSequenceMTest {
 		List<Integer> list = new ArrayList<>();
 		Subscription s = of(1,2,3).forEach( 2, i->list.add(i));
 		Thread.sleep(100);
+		assertThat(list,hasItems(1,2));
+		assertThat(list.size(),equalTo(2));
+		s.request(1);
+		Thread.sleep(100);
 		assertThat(list,hasItems(1,2,3));
 		assertThat(list.size(),equalTo(3));
 
@@ -104,6 +108,8 @@ public class AsyncForEachSequenceMTest {
 		List<Integer> list = new ArrayList<>();
 		Subscription s = of(1,2,3).forEach( 2, i->list.add(i));
         Thread.sleep(100);
+		s.request(1);
+		Thread.sleep(100);
 		assertThat(list,hasItems(1,2,3));
 		assertThat(list.size(),equalTo(3));
 
@@ -170,6 +176,10 @@ public class AsyncForEachSequenceMTest {
 							.forEach( 2, i->list.add(i),
 								e->error=e);
 		Thread.sleep(100);
+		assertThat(list,hasItems(1,2));
+		assertThat(list.size(),equalTo(2));
+		s.request(2);
+		Thread.sleep(100);
 		assertThat(list,hasItems(1,2,3));
 		assertThat(list.size(),equalTo(3));
 
@@ -183,7 +193,7 @@ public class AsyncForEachSequenceMTest {
 		Subscription s = of(()->1,()->2,()->3,(Supplier<Integer>)()->{ throw new RuntimeException();}).map(Supplier::get)
 						.forEach( 2, i->list.add(i),
                                 e->{error=e; complete=true;},()->complete=true);
-
+		s.request(2);
 		while(!complete){
 
         }
@@ -0,0 +1,90 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.control.Option;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncTerminalTest {
+
+    private ObservableReactiveSeq<Integer> of(Integer... values) {
+        return (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(Observable.from(values));
+    }
+
+    @Test
+    public void asyncTerminalsDoNotBlock() {
+        ObservableReactiveSeq<Integer> never = (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(Observable.<Integer>never());
+
+        assertFalse(never.countAsync().isDone());
+        assertFalse(never.reduceAsync(0, Integer::sum).isDone());
+        assertFalse(never.findFirstAsync().isDone());
+    }
+
+    @Test
+    public void asyncTerminals() {
+        assertThat(of(1, 2, 3).countAsync().get().orElse(-1L), equalTo(3L));
+        assertThat(of(1, 2, 3).reduceAsync(0, Integer::sum).get().orElse(-1), equalTo(6));
+        assertThat(of(1, 2, 3).reduceAsync(Integer::sum).get().orElse(null), equalTo(Option.some(6)));
+        assertThat(of().reduceAsync(Integer::sum).get().orElse(null), equalTo(Option.none()));
+        assertThat(of(1, 2, 3).foldRightAsync("", (i, s) -> s + i).get().orElse(null), equalTo("321"));
+        assertThat(of(1, 2, 3).collectAsync(Collectors.toList()).get().orElse(null), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(of(1, 2, 3).findFirstAsync().get().orElse(null), equalTo(Option.some(1)));
+        assertThat(of().firstValueAsync(-1).get().orElse(null), equalTo(-1));
+        assertThat(of(1).singleAsync().get().orElse(null), equalTo(Option.some(1)));
+        assertThat(of(1, 2).singleAsync().get().orElse(null), equalTo(Option.none()));
+        assertThat(of(1, 2, 3).anyMatchAsync(i -> i == 2).get().orElse(false), equalTo(true));
+        assertThat(of(1, 2, 3).allMatchAsync(i -> i < 3).get().orElse(true), equalTo(false));
+    }
+
+    @Test
+    public void asyncTerminalCompletesFromAnotherThread() {
+        ObservableReactiveSeq<Long> delayed = (ObservableReactiveSeq<Long>) Observables.reactiveSeq(
+                Observable.interval(10, TimeUnit.MILLISECONDS, Schedulers.computation()).take(5));
+
+        assertThat(delayed.countAsync().get().orElse(-1L), equalTo(5L));
+    }
+
+    @Test
+    public void asyncTerminalFailsWithError() {
+        ObservableReactiveSeq<Integer> failing = (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(
+                Observable.<Integer>error(new IllegalStateException()));
+
+        assertThat(failing.countAsync().get().failureGet().orElse(null), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void shortCircuitingOperatorsUnsubscribeEarly() {
+        AtomicInteger emitted = new AtomicInteger();
+        ObservableReactiveSeq<Integer> infinite = (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(
+                Observable.range(0, Integer.MAX_VALUE).doOnNext(i -> emitted.incrementAndGet()));
+
+        assertTrue(infinite.anyMatch(i -> i == 10));
+        assertFalse(infinite.allMatch(i -> i < 20));
+        assertThat(infinite.findFirst().get(), equalTo(0));
+        assertTrue(emitted.get() < 100);
+    }
+
+    @Test
+    public void blockingTerminals() {
+        assertThat(of(1, 2, 3).count(), equalTo(3L));
+        assertThat(of(1, 2, 3).reduce(0, Integer::sum), equalTo(6));
+        assertTrue(of(1, 2, 3).noneMatch(i -> i > 3));
+        assertFalse(of().findFirst().isPresent());
+        List<Integer> list = of(1, 2, 3).toList();
+        assertThat(list, equalTo(Arrays.asList(1, 2, 3)));
+    }
+}
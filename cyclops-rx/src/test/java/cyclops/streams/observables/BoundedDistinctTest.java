@@ -0,0 +1,71 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedDistinctTest {
+
+    @Test
+    public void distinctWithinKeys() {
+        List<Integer> result = rx(Observables.of(1, 2, 1, 3, 4, 1, 2)).distinctWithin(2)
+                                                                      .toList();
+        assertThat(result, equalTo(Arrays.asList(1, 2, 3, 4, 1, 2)));
+    }
+
+    @Test
+    public void distinctWithinTime() {
+        TestScheduler scheduler = new TestScheduler();
+        List<String> result = new ArrayList<>();
+        ReactiveSeq<String> seq = Observables.reactiveSeq(Observable.just("a", "b", "a")
+                                                                    .concatWith(Observable.timer(10, TimeUnit.SECONDS, scheduler)
+                                                                                          .map(i -> "a")));
+        rx(rx(seq).distinctWithin(5, TimeUnit.SECONDS, scheduler)).getObservable().subscribe(result::add);
+        assertThat(result, equalTo(Arrays.asList("a", "b")));
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        assertThat(result, equalTo(Arrays.asList("a", "b", "a")));
+    }
+
+    @Test
+    public void distinctApproximate() {
+        List<Integer> result = rx(Observables.range(0, 10_000).map(i -> i % 5_000)).distinctApproximate(5_000, 0.01)
+                                                                                 .toList();
+        assertThat(result.stream().distinct().count(), equalTo((long) result.size()));
+        assertTrue(result.size() > 4_800);
+        assertTrue(result.stream().allMatch(i -> i < 5_000));
+    }
+
+    @Test
+    public void distinctApproximateHashCodeCollision() {
+        assertThat("Aa".hashCode(), equalTo("BB".hashCode()));
+        List<String> byHashCode = rx(Observables.of("Aa", "BB")).distinctApproximate(1_000, 0.01).toList();
+        assertThat(byHashCode, equalTo(Arrays.asList("Aa")));
+
+        List<String> by64BitHash = rx(Observables.of("Aa", "BB")).distinctApproximate(1_000, 0.01, BoundedDistinctTest::fnv64)
+                                                                 .toList();
+        assertThat(by64BitHash, equalTo(Arrays.asList("Aa", "BB")));
+    }
+
+    private static long fnv64(String s) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++)
+            hash = (hash ^ s.charAt(i)) * 0x100000001b3L;
+        return hash;
+    }
+
+    private static <T> ObservableReactiveSeq<T> rx(ReactiveSeq<T> seq) {
+        return (ObservableReactiveSeq<T>) seq;
+    }
+}
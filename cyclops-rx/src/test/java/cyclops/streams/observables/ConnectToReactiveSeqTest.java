@@ -0,0 +1,149 @@
+package cyclops.streams.observables;
+
+import cyclops.companion.rx.Observables;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.schedulers.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectToReactiveSeqTest {
+
+    @Test
+    public void requestsAreBatched() {
+        AtomicLong maxRequest = new AtomicLong();
+        Observable<Integer> range = Observable.range(0, 10_000)
+                                              .doOnRequest(n -> maxRequest.accumulateAndGet(n, Math::max));
+
+        List<Integer> list = Observables.connectToReactiveSeq(range, 16).toList();
+
+        assertThat(list.size(), equalTo(10_000));
+        assertThat(maxRequest.get(), lessThanOrEqualTo(16L));
+    }
+
+    @Test
+    public void slowConsumerBoundsProducer() throws InterruptedException {
+        AtomicInteger emitted = new AtomicInteger();
+        Observable<Integer> fast = Observable.range(0, 10_000)
+                                             .subscribeOn(Schedulers.io())
+                                             .doOnNext(i -> emitted.incrementAndGet());
+        AtomicInteger received = new AtomicInteger();
+
+        Subscription s = Observables.connectToReactiveSeq(fast, 16)
+                                    .forEach(5, i -> received.incrementAndGet());
+        Thread.sleep(200);
+
+        assertThat(received.get(), equalTo(5));
+        assertThat(emitted.get(), lessThanOrEqualTo(16));
+
+        s.request(5);
+        Thread.sleep(200);
+        assertThat(received.get(), equalTo(10));
+        assertThat(emitted.get(), lessThanOrEqualTo(16));
+        s.cancel();
+    }
+
+    @Test
+    public void errorIsFollowedByComplete() throws InterruptedException {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+
+        Observables.connectToReactiveSeq(Observable.<Integer>error(new IllegalStateException()))
+                   .forEach(i -> { }, error::set, () -> complete.set(true));
+
+        assertThat(error.get(), instanceOf(IllegalStateException.class));
+        assertTrue(complete.get());
+    }
+
+    @Test
+    public void pushedAheadOfDemandIsBounded() {
+        AtomicInteger emitted = new AtomicInteger();
+        Observable<Integer> ignoresDemand = Observable.unsafeCreate(sub -> {
+            for (int i = 0; i < 1000 && !sub.isUnsubscribed(); i++) {
+                emitted.incrementAndGet();
+                sub.onNext(i);
+            }
+            sub.onCompleted();
+        });
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+
+        Observables.connectToReactiveSeq(ignoresDemand, 10)
+                   .forEach(2, received::add, error::set, () -> complete.set(true));
+
+        assertThat(received.size(), lessThanOrEqualTo(2));
+        assertThat(error.get(), instanceOf(MissingBackpressureException.class));
+        assertThat(emitted.get(), lessThanOrEqualTo(10 + 2 + 1));
+        assertTrue(complete.get());
+    }
+
+    @Test
+    public void batchedPreservesOrder() {
+        AtomicInteger requests = new AtomicInteger();
+        Observable<Integer> range = Observable.range(0, 10_000);
+
+        List<Integer> list = Observables.connectToReactiveSeqBatched(range.doOnRequest(n -> requests.incrementAndGet()), 64, 1, TimeUnit.SECONDS)
+                                        .toList();
+
+        assertThat(list, equalTo(range.toList().toBlocking().single()));
+        assertThat(requests.get(), lessThanOrEqualTo(10_000 / 64 + 4));
+    }
+
+    @Test
+    public void batchedSlowConsumerBoundsProducer() throws InterruptedException {
+        AtomicInteger emitted = new AtomicInteger();
+        Observable<Integer> fast = Observable.range(0, 10_000)
+                                             .subscribeOn(Schedulers.io())
+                                             .doOnNext(i -> emitted.incrementAndGet());
+        AtomicInteger received = new AtomicInteger();
+
+        Subscription s = Observables.connectToReactiveSeqBatched(fast, 8, 10, TimeUnit.MILLISECONDS)
+                                    .forEach(5, i -> received.incrementAndGet());
+        Thread.sleep(200);
+
+        assertThat(received.get(), equalTo(5));
+        assertThat(emitted.get(), lessThanOrEqualTo(32));
+        s.cancel();
+    }
+
+    @Test
+    public void batchedFlushesQuietStream() throws InterruptedException {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+
+        Observables.connectToReactiveSeqBatched(Observable.just(1, 2, 3).concatWith(Observable.never()), 64, 20, TimeUnit.MILLISECONDS)
+                   .forEach(Long.MAX_VALUE, received::add);
+        Thread.sleep(300);
+
+        assertThat(received, equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void batchedErrorFollowsElements() {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+
+        Observables.connectToReactiveSeqBatched(Observable.just(1, 2).concatWith(Observable.error(new IllegalStateException())), 64, 1, TimeUnit.SECONDS)
+                   .forEach(received::add, error::set, () -> complete.set(true));
+
+        assertThat(received, equalTo(Arrays.asList(1, 2)));
+        assertThat(error.get(), instanceOf(IllegalStateException.class));
+        assertTrue(complete.get());
+    }
+}
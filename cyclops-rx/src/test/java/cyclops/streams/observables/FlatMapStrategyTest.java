@@ -0,0 +1,84 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableAdapter;
+import cyclops.companion.rx.FlatMapStrategy;
+import cyclops.companion.rx.Observables;
+import cyclops.monads.AnyM;
+import cyclops.monads.RxWitness;
+import cyclops.monads.RxWitness.observable;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class FlatMapStrategyTest {
+
+    AtomicInteger active = new AtomicInteger(0);
+    AtomicInteger maxActive = new AtomicInteger(0);
+
+    private Observable<Integer> delayed(int value, long millis) {
+        return Observable.just(value)
+                         .delay(millis, TimeUnit.MILLISECONDS, Schedulers.io())
+                         .doOnSubscribe(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                         .doOnTerminate(() -> active.decrementAndGet());
+    }
+
+    @Test
+    public void mergeBoundsConcurrency() {
+        List<Integer> result = Observables.forEachWith(Observable.range(1, 20), i -> delayed(i, 10), (a, b) -> b,
+                                                       FlatMapStrategy.merge(3))
+                                              .toList().toBlocking().single();
+
+        assertThat(result.size(), equalTo(20));
+        assertThat(maxActive.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void concatPreservesOrder() {
+        List<Integer> result = Observables.forEachWith(Observable.just(3, 2, 1), i -> delayed(i, i * 20), (a, b) -> b,
+                                                       FlatMapStrategy.concat())
+                                              .toList().toBlocking().single();
+
+        assertThat(result, equalTo(Arrays.asList(3, 2, 1)));
+        assertThat(maxActive.get(), equalTo(1));
+    }
+
+    @Test
+    public void concatEagerPreservesOrder() {
+        List<Integer> result = Observables.forEachWith(Observable.just(3, 2, 1), i -> delayed(i, i * 20), (a, b) -> b,
+                                                       FlatMapStrategy.concatEager(2, 16))
+                                              .toList().toBlocking().single();
+
+        assertThat(result, equalTo(Arrays.asList(3, 2, 1)));
+        assertThat(maxActive.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void forEach3WithStrategy() {
+        List<Integer> result = Observables.forEach3With(Observable.just(1, 2), a -> Observable.just(a * 10), (a, b) -> Observable.just(b * 10),
+                                                        (a, b, c) -> a + b + c, FlatMapStrategy.concat())
+                                              .toList().toBlocking().single();
+
+        assertThat(result, equalTo(Arrays.asList(111, 222)));
+    }
+
+    @Test
+    public void adapterFlatMap() {
+        AnyM<observable, Integer> anyM = Observables.anyM(Observable.just(1, 2));
+
+        assertThat(RxWitness.observable(anyM.flatMapA(i -> Observables.anyM(Observable.just(i, i)))).toList().toBlocking().single(),
+                   equalTo(Arrays.asList(1, 1, 2, 2)));
+        assertThat(RxWitness.observable(new ObservableAdapter(FlatMapStrategy.concat())
+                                               .flatMap(anyM, i -> Observables.anyM(delayed(i, 30 / i))))
+                            .toList().toBlocking().single(),
+                   equalTo(Arrays.asList(1, 2)));
+    }
+}
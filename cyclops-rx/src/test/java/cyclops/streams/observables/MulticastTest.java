@@ -0,0 +1,80 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.control.Future;
+import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class MulticastTest {
+
+    AtomicInteger subscriptions = new AtomicInteger(0);
+
+    private ObservableReactiveSeq<Integer> of(Integer... values) {
+        return (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(Observable.from(values)
+                                                                                  .doOnSubscribe(() -> subscriptions.incrementAndGet()));
+    }
+
+    @Test
+    public void multicastSharesOneSubscription() {
+        Seq<ReactiveSeq<Integer>> branches = of(1, 2, 3).multicast(3);
+        List<Future<List<Integer>>> results = branches.map(s -> ((ObservableReactiveSeq<Integer>) s).collectAsync(Collectors.toList()))
+                                                      .toList();
+
+        for (Future<List<Integer>> result : results)
+            assertThat(result.get().orElse(null), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+
+    @Test
+    public void multicastWaitsForAllBranches() {
+        Seq<ReactiveSeq<Integer>> branches = of(1, 2, 3).multicast(2);
+        Future<List<Integer>> first = ((ObservableReactiveSeq<Integer>) branches.getOrElse(0, null)).collectAsync(Collectors.toList());
+
+        assertFalse(first.isDone());
+        assertThat(subscriptions.get(), equalTo(0));
+
+        ((ObservableReactiveSeq<Integer>) branches.getOrElse(1, null)).collectAsync(Collectors.toList());
+        assertThat(first.get().orElse(null), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void replayLastN() {
+        ObservableReactiveSeq<Integer> replay = of(1, 2, 3, 4, 5).replay(2);
+
+        assertThat(replay.toList(), equalTo(Arrays.asList(1, 2, 3, 4, 5)));
+        assertThat(replay.toList(), equalTo(Arrays.asList(4, 5)));
+        assertThat(replay.toList(), equalTo(Arrays.asList(4, 5)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+
+    @Test
+    public void replayTime() {
+        ObservableReactiveSeq<Integer> replay = of(1, 2, 3).replay(1, TimeUnit.MINUTES);
+
+        assertThat(replay.toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(replay.toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+
+    @Test
+    public void replaySizeAndTime() {
+        ObservableReactiveSeq<Integer> replay = of(1, 2, 3).replay(1, 1, TimeUnit.MINUTES);
+
+        assertThat(replay.toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(replay.toList(), equalTo(Arrays.asList(3)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+}
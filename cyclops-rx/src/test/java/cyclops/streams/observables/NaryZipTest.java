@@ -0,0 +1,59 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class NaryZipTest {
+
+    private ObservableReactiveSeq<Integer> of(Integer... values) {
+        return (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(Observable.from(values));
+    }
+
+    @Test
+    public void zip3() {
+        assertThat(of(1, 2, 3).zip3(Arrays.asList('a', 'b', 'c'), Arrays.asList("x", "y")).toList(),
+                   equalTo(Arrays.asList(Tuple.tuple(1, 'a', "x"), Tuple.tuple(2, 'b', "y"))));
+        assertThat(of(1, 2, 3).zip3(Arrays.asList(10, 20, 30), Arrays.asList(100, 200, 300), (a, b, c) -> a + b + c).toList(),
+                   equalTo(Arrays.asList(111, 222, 333)));
+    }
+
+    @Test
+    public void zip4() {
+        assertThat(of(1, 2).zip4(Arrays.asList('a', 'b'), Arrays.asList("x", "y"), Arrays.asList(true, false)).toList(),
+                   equalTo(Arrays.asList(Tuple.tuple(1, 'a', "x", true), Tuple.tuple(2, 'b', "y", false))));
+    }
+
+    @Test
+    public void zip8() {
+        List<Integer> list = Arrays.asList(1, 2);
+        assertThat(of(1, 2, 3).zip8(list, list, list, list, list, list, list).toList(),
+                   equalTo(Arrays.asList(Tuple.tuple(1, 1, 1, 1, 1, 1, 1, 1), Tuple.tuple(2, 2, 2, 2, 2, 2, 2, 2))));
+        assertThat(of(1, 2, 3).zip8(list, list, list, list, list, list, list, (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h).toList(),
+                   equalTo(Arrays.asList(8, 16)));
+    }
+
+    @Test
+    public void zip5To7() {
+        List<Integer> list = Arrays.asList(1);
+        assertThat(of(1).zip5(list, list, list, list).toList(), equalTo(Arrays.asList(Tuple.tuple(1, 1, 1, 1, 1))));
+        assertThat(of(1).zip6(list, list, list, list, list).toList(), equalTo(Arrays.asList(Tuple.tuple(1, 1, 1, 1, 1, 1))));
+        assertThat(of(1).zip7(list, list, list, list, list, list).toList(), equalTo(Arrays.asList(Tuple.tuple(1, 1, 1, 1, 1, 1, 1))));
+    }
+
+    @Test
+    public void zipPublishers() {
+        List<ReactiveSeq<Integer>> others = Arrays.asList(ReactiveSeq.of(10, 20), of(100, 200, 300));
+        assertThat(of(1, 2, 3).zip(others, a -> (Integer) a[0] + (Integer) a[1] + (Integer) a[2]).toList(),
+                   equalTo(Arrays.asList(111, 222)));
+    }
+}
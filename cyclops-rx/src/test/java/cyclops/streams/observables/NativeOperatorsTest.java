@@ -0,0 +1,132 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import com.oath.cyclops.rx.operators.OperatorSliding;
+import cyclops.companion.rx.Observables;
+import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class NativeOperatorsTest {
+
+    private <R> void sameAsReactiveSeq(Function<ReactiveSeq<Integer>, ReactiveSeq<R>> op, Integer... values) {
+        ReactiveSeq<R> rx = op.apply(Observables.reactiveSeq(Observable.from(values)));
+        assertThat(rx instanceof ObservableReactiveSeq, equalTo(true));
+        assertThat(rx.toList(), equalTo(op.apply(ReactiveSeq.of(values)).toList()));
+    }
+
+    @Test
+    public void grouping() {
+        sameAsReactiveSeq(s -> s.grouped(2), 1, 2, 3, 4, 5);
+        sameAsReactiveSeq(s -> s.grouped(2, Seq::empty), 1, 2, 3, 4, 5);
+        sameAsReactiveSeq(s -> s.groupedWhile(i -> i % 3 != 0), 1, 2, 3, 4, 5, 6, 7);
+        sameAsReactiveSeq(s -> s.groupedWhile(i -> i % 3 != 0, Seq::empty), 1, 2, 3, 4);
+        sameAsReactiveSeq(s -> s.groupedWhile((v, i) -> v.size() < 2), 1, 2, 3, 4, 5);
+        sameAsReactiveSeq(s -> s.groupedUntil((v, i) -> i == 3), 1, 2, 3, 4, 5, 6);
+        sameAsReactiveSeq(s -> s.groupedUntil((v, i) -> true), 1, 2, 3);
+        sameAsReactiveSeq(s -> s.groupedWhile(i -> true));
+    }
+
+    @Test
+    public void sliding() {
+        sameAsReactiveSeq(s -> s.sliding(2, 1), 1, 2, 3, 4, 5);
+        sameAsReactiveSeq(s -> s.sliding(3, 2), 1, 2, 3, 4, 5, 6);
+        sameAsReactiveSeq(s -> s.sliding(2, 3), 1, 2, 3, 4, 5, 6, 7);
+        sameAsReactiveSeq(s -> s.sliding(3, 1), 1, 2);
+        sameAsReactiveSeq(s -> s.sliding(3, 3), 1, 2, 3, 4, 5, 6);
+        sameAsReactiveSeq(s -> s.sliding(2, 1));
+    }
+
+    @Test
+    public void finalGroupWaitsForDemand() {
+        TestSubscriber<Seq<Integer>> sub = new TestSubscriber<>(1L);
+        Observable.just(1, 2, 3).lift(new OperatorSliding<Integer>(2, 2)).subscribe(sub);
+
+        sub.assertValueCount(1);
+        sub.assertNotCompleted();
+        sub.requestMore(1);
+        sub.assertValues(Seq.of(1, 2), Seq.of(3));
+        sub.assertCompleted();
+    }
+
+    @Test
+    public void ordering() {
+        sameAsReactiveSeq(s -> s.sorted(), 3, 1, 2);
+        sameAsReactiveSeq(s -> s.reverse(), 1, 2, 3);
+        sameAsReactiveSeq(s -> s.changes(), 1, 1, 2, 2, 1, 3);
+    }
+
+    @Test
+    public void limitAndSkip() {
+        sameAsReactiveSeq(s -> s.limitWhile(i -> i < 3), 1, 2, 3, 4, 1);
+        sameAsReactiveSeq(s -> s.limitUntil(i -> i == 3), 1, 2, 3, 4, 1);
+        sameAsReactiveSeq(s -> s.skipWhileClosed(i -> i < 3), 1, 2, 3, 4, 1);
+    }
+
+    @Test
+    public void appendAndPrepend() {
+        sameAsReactiveSeq(s -> s.append(2).appendAll(3, 4).prepend(0).prependAll(-2, -1), 1);
+        sameAsReactiveSeq(s -> s.appendAll(Arrays.asList(5, 6)).prependAll(Arrays.asList(-1, 0)), 1);
+        sameAsReactiveSeq(s -> s.appendStream(ReactiveSeq.of(5)).prependStream(ReactiveSeq.of(0)), 1);
+    }
+
+    @Test
+    public void onEmpty() {
+        sameAsReactiveSeq(s -> s.onEmptyGet(() -> 9));
+        sameAsReactiveSeq(s -> s.onEmptyGet(() -> 9), 1);
+        sameAsReactiveSeq(s -> s.onEmptySwitch(() -> ReactiveSeq.of(7, 8)));
+        sameAsReactiveSeq(s -> s.onEmptyError(() -> new IllegalStateException()).recover(e -> -1));
+    }
+
+    @Test
+    public void recover() {
+        List<Integer> recovered = Observables.reactiveSeq(Observable.just(1, 2))
+                                             .map(i -> { if (i == 2) throw new IllegalStateException(); return i; })
+                                             .recover(IllegalArgumentException.class, e -> -2)
+                                             .recover(e -> -1)
+                                             .toList();
+        assertThat(recovered, equalTo(Arrays.asList(1, -1)));
+    }
+
+    @Test
+    public void collectAll() {
+        sameAsReactiveSeq(s -> s.collectAll(Collectors.toList()), 1, 2, 3);
+    }
+
+    @Test
+    public void debounceKeepsFirst() {
+        sameAsReactiveSeq(s -> s.debounce(1, TimeUnit.SECONDS), 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void xPerDelaysWithoutDropping() {
+        long start = System.nanoTime();
+        List<Integer> list = Observables.reactiveSeq(Observable.range(1, 6))
+                                        .xPer(2, 100, TimeUnit.MILLISECONDS)
+                                        .toList();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(list, equalTo(Arrays.asList(1, 2, 3, 4, 5, 6)));
+        assertThat(elapsed, greaterThanOrEqualTo(190L));
+        assertThat(elapsed, lessThan(1000L));
+    }
+
+    @Test
+    public void groupedBySizeAndTime() {
+        sameAsReactiveSeq(s -> s.groupedBySizeAndTime(2, 1, TimeUnit.SECONDS), 1, 2, 3, 4, 5);
+        sameAsReactiveSeq(s -> s.groupedByTime(1, TimeUnit.SECONDS), 1, 2, 3, 4, 5);
+    }
+}
@@ -0,0 +1,130 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.DemandOnSubscribe;
+import cyclops.companion.rx.Observables;
+import cyclops.companion.rx.OverflowPolicy;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.observers.TestSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class OverflowPolicyTest {
+
+    private ReactiveSeq<Integer> pushed(int count) {
+        return Spouts.async(s -> {
+            for (int i = 0; i < count; i++)
+                s.onNext(i);
+            s.onComplete();
+        });
+    }
+
+    private List<Integer> range(int start, int end) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = start; i < end; i++)
+            list.add(i);
+        return list;
+    }
+
+    @Test
+    public void defaultPassesDemandThrough() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>();
+        Observables.observableFrom(ReactiveSeq.of(1, 2, 3)).subscribe(sub);
+        sub.assertValues(1, 2, 3);
+
+        TestSubscriber<Integer> async = new TestSubscriber<>();
+        Observables.observableFrom(pushed(100)).subscribe(async);
+        async.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        assertThat(async.getOnNextEvents(), equalTo(range(0, 100)));
+    }
+
+    @Test
+    public void defaultOverflowDuringSubscribeIsSignalledAheadOfQueue() {
+        ReactiveSeq<Integer> ignoresDemand = Spouts.from(s -> {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            for (int i = 0; i < 100; i++)
+                s.onNext(i);
+            s.onComplete();
+        });
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observable.create(new DemandOnSubscribe<>(ignoresDemand, 10)).subscribe(sub);
+        sub.assertError(MissingBackpressureException.class);
+        sub.assertNoValues();
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observables.observableFrom(pushed(100), OverflowPolicy.error(10)).subscribe(sub);
+        sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        sub.assertError(MissingBackpressureException.class);
+    }
+
+    @Test
+    public void dropOldest() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observables.observableFrom(pushed(100), OverflowPolicy.dropOldest(10)).subscribe(sub);
+        sub.requestMore(Long.MAX_VALUE);
+        sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        assertThat(sub.getOnNextEvents(), equalTo(range(90, 100)));
+    }
+
+    @Test
+    public void dropLatest() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observables.observableFrom(pushed(100), OverflowPolicy.dropLatest(10)).subscribe(sub);
+        sub.requestMore(Long.MAX_VALUE);
+        sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        assertThat(sub.getOnNextEvents(), equalTo(range(0, 10)));
+    }
+
+    @Test
+    public void keepLatest() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observables.observableFrom(pushed(100), OverflowPolicy.keepLatest()).subscribe(sub);
+        sub.requestMore(Long.MAX_VALUE);
+        sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        sub.assertValues(99);
+    }
+
+    @Test
+    public void spillToDisk() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observables.fromStream(pushed(10_000), OverflowPolicy.spillToDisk(16)).subscribe(sub);
+        sub.requestMore(5);
+        assertThat(sub.getOnNextEvents(), equalTo(range(0, 5)));
+        sub.requestMore(Long.MAX_VALUE);
+        sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(), equalTo(range(0, 10_000)));
+    }
+
+    @Test
+    public void spillPropagatesErrorAfterBufferedElements() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(0L);
+        Observable.just(1, 2, 3).concatWith(Observable.error(new IllegalStateException()))
+                  .compose(OverflowPolicy.<Integer>spillToDisk(1)::apply)
+                  .subscribe(sub);
+        sub.assertNoTerminalEvent();
+        sub.requestMore(3);
+        sub.assertValues(1, 2, 3);
+        sub.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTest {
+
+    private ObservableReactiveSeq<Integer> range(int n) {
+        return (ObservableReactiveSeq<Integer>) Observables.reactiveSeq(Observable.range(0, n));
+    }
+
+    private List<Integer> expected(int n) {
+        return IntStream.range(0, n).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void mapRunsOnSeveralThreads() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> list = range(1000).parallel(4, Schedulers.io())
+                                        .map(i -> {
+                                            threads.add(Thread.currentThread().getName());
+                                            return i;
+                                        })
+                                        .toList();
+
+        assertThat(list, equalTo(expected(1000)));
+        assertThat(threads.size(), greaterThan(1));
+    }
+
+    @Test
+    public void orderIsPreservedAcrossStages() {
+        List<Integer> list = range(1000).parallel(4, Schedulers.computation())
+                                        .filter(i -> i % 2 == 0)
+                                        .flatMap(i -> ReactiveSeq.of(i, i))
+                                        .map(i -> i / 2)
+                                        .toList();
+
+        List<Integer> expected = expected(1000).stream()
+                                               .filter(i -> i % 2 == 0)
+                                               .flatMap(i -> ReactiveSeq.of(i, i))
+                                               .map(i -> i / 2)
+                                               .collect(Collectors.toList());
+        assertThat(list, equalTo(expected));
+    }
+
+    @Test
+    public void orderIsPreservedAcrossConcatMapAndEmptyResults() {
+        List<Integer> list = range(1000).parallel(4, Schedulers.io())
+                                        .concatMap(i -> i % 3 == 0 ? Collections.<Integer>emptyList()
+                                                                   : Arrays.asList(i, -i))
+                                        .filter(i -> i % 5 != 0)
+                                        .map(i -> i * 2)
+                                        .toList();
+
+        List<Integer> expected = expected(1000).stream()
+                                               .flatMap(i -> i % 3 == 0 ? Stream.<Integer>empty()
+                                                                        : Stream.of(i, -i))
+                                               .filter(i -> i % 5 != 0)
+                                               .map(i -> i * 2)
+                                               .collect(Collectors.toList());
+        assertThat(list, equalTo(expected));
+    }
+
+    @Test
+    public void unorderedKeepsEveryElement() {
+        List<Integer> list = range(1000).parallel(4, Schedulers.computation())
+                                        .unordered()
+                                        .map(i -> i + 1)
+                                        .toList();
+
+        assertThat(list.stream().sorted().collect(Collectors.toList()),
+                   equalTo(expected(1000).stream().map(i -> i + 1).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void sequentialEndsParallelStages() {
+        ReactiveSeq<Integer> parallel = range(10).parallel();
+        assertTrue(parallel.isParallel());
+        ReactiveSeq<Integer> sequential = parallel.map(i -> i * 2).sequential();
+        assertFalse(sequential.isParallel());
+        assertThat(sequential.limit(3).toList(), equalTo(ReactiveSeq.of(0, 2, 4).toList()));
+    }
+
+    @Test
+    public void errorsOnARailArePropagated() {
+        List<Integer> list = range(100).parallel(4, Schedulers.computation())
+                                       .map(i -> {
+                                           if (i == 50)
+                                               throw new IllegalStateException();
+                                           return i;
+                                       })
+                                       .recover(e -> -1)
+                                       .toList();
+
+        assertTrue(list.contains(-1));
+    }
+
+    @Test
+    public void keyedLanesPreserveOrderPerKey() {
+        Map<Integer, String> laneOfKey = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> list = range(10_000).parallelByKey(i -> i % 50, 4, Schedulers.io())
+                                          .map(i -> {
+                                              String thread = Thread.currentThread().getName();
+                                              threads.add(thread);
+                                              assertThat(laneOfKey.computeIfAbsent(i % 50, k -> thread), equalTo(thread));
+                                              return i;
+                                          })
+                                          .toList();
+
+        assertThat(list.size(), equalTo(10_000));
+        Map<Integer, List<Integer>> byKey = list.stream().collect(Collectors.groupingBy(i -> i % 50));
+        byKey.forEach((k, values) -> assertThat(values, equalTo(expected(10_000).stream()
+                                                                               .filter(i -> i % 50 == k)
+                                                                               .collect(Collectors.toList()))));
+        assertThat(threads.size(), greaterThan(1));
+    }
+
+    @Test
+    public void keyedLanesAreBounded() {
+        List<Integer> list = range(1000).parallelByKey(i -> i, 2, Schedulers.computation(), 4)
+                                        .flatMap(i -> ReactiveSeq.of(i, i))
+                                        .filter(i -> i % 2 == 0)
+                                        .toList();
+
+        assertThat(list.size(), equalTo(1000));
+        assertThat(list.stream().sorted().collect(Collectors.toList()),
+                   equalTo(expected(1000).stream().filter(i -> i % 2 == 0).flatMap(i -> ReactiveSeq.of(i, i)).collect(Collectors.toList())));
+    }
+}
@@ -0,0 +1,113 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import org.junit.After;
+import org.junit.Test;
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SchedulerBridgeTest {
+
+    ExecutorService pool = Executors.newFixedThreadPool(2, r -> new Thread(r, "bridge-pool"));
+
+    @After
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void timedOperatorsRunOnSuppliedExecutor() {
+        Scheduler scheduler = Observables.scheduler(pool);
+        ObservableReactiveSeq<Integer> seq = (ObservableReactiveSeq<Integer>) Observables.of(1, 2, 3);
+
+        assertThat(seq.fixedDelay(1, TimeUnit.MILLISECONDS, scheduler)
+                      .map(i -> Thread.currentThread().getName())
+                      .toList(),
+                   equalTo(Arrays.asList("bridge-pool", "bridge-pool", "bridge-pool")));
+        assertThat(seq.onePer(1, TimeUnit.MILLISECONDS, scheduler).toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(seq.jitter(1000, scheduler).toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void ratesFollowSchedulerClock() {
+        TestScheduler scheduler = new TestScheduler();
+        List<Integer> received = new ArrayList<>();
+        ((ObservableReactiveSeq<Integer>) ((ObservableReactiveSeq<Integer>) Observables.of(1, 2, 3, 4, 5))
+                .xPer(2, 1, TimeUnit.SECONDS, scheduler)).getObservable()
+                                                          .subscribe(received::add);
+
+        assertThat(received, equalTo(Arrays.asList(1, 2)));
+        scheduler.advanceTimeBy(999, TimeUnit.MILLISECONDS);
+        assertThat(received, equalTo(Arrays.asList(1, 2)));
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertThat(received, equalTo(Arrays.asList(1, 2, 3, 4)));
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        assertThat(received, equalTo(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void parallelRailsRunOnSuppliedExecutor() {
+        assertThat(((ObservableReactiveSeq<Integer>) Observables.range(0, 20))
+                       .parallel(2, Observables.scheduler(pool))
+                       .map(i -> Thread.currentThread().getName())
+                       .distinct()
+                       .toList(),
+                   equalTo(Arrays.asList("bridge-pool")));
+    }
+
+    @Test
+    public void executorRunsOnScheduler() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger runs = new AtomicInteger(0);
+        Observables.executor(scheduler).execute(runs::incrementAndGet);
+        Observables.executor(scheduler).execute(runs::incrementAndGet);
+
+        assertThat(runs.get(), equalTo(0));
+        scheduler.triggerActions();
+        assertThat(runs.get(), equalTo(2));
+    }
+
+    @Test
+    public void blockingSchedulerFallsBackToIo() throws InterruptedException {
+        if (!Observables.virtualThreadExecutor().isPresent())
+            assertThat(Observables.blockingScheduler(), sameInstance(Schedulers.io()));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Observable.just(1)
+                  .subscribeOn(Observables.blockingScheduler())
+                  .subscribe(i -> latch.countDown());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void virtualThreadExecutorWhenAvailable() throws InterruptedException {
+        if (!Observables.virtualThreadExecutor().isPresent())
+            return;
+        CountDownLatch latch = new CountDownLatch(1);
+        String[] name = {null};
+        Observables.virtualThreadExecutor().orElse(null).execute(() -> {
+            name[0] = Thread.currentThread().toString();
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(name[0], startsWith("VirtualThread"));
+    }
+}
@@ -0,0 +1,71 @@
+package cyclops.streams.observables;
+
+import cyclops.companion.rx.Observables;
+import cyclops.control.Either;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class TailRecTest {
+
+    @Test
+    public void millionsOfIterations() {
+        Integer result = Observables.<Integer, Integer>tailRec(0, i -> Observable.just(i < 3_000_000 ? Either.left(i + 1)
+                                                                                                    : Either.right(i)))
+                                    .toBlocking()
+                                    .single();
+
+        assertThat(result, equalTo(3_000_000));
+    }
+
+    @Test
+    public void multipleElementsPerStep() {
+        List<String> result = Observables.<Integer, String>tailRec(0, i -> i < 3 ? Observable.just(Either.right("r" + i), Either.left(i + 1))
+                                                                                 : Observable.just(Either.right("done")))
+                                         .toList()
+                                         .toBlocking()
+                                         .single();
+
+        assertThat(result, equalTo(Arrays.asList("r0", "r1", "r2", "done")));
+    }
+
+    @Test
+    public void asynchronousSteps() {
+        Integer result = Observables.<Integer, Integer>tailRec(0, i -> Observable.just(i < 1000 ? Either.<Integer, Integer>left(i + 1)
+                                                                                                : Either.<Integer, Integer>right(i))
+                                                                                 .subscribeOn(Schedulers.computation()))
+                                    .toBlocking()
+                                    .single();
+
+        assertThat(result, equalTo(1000));
+    }
+
+    @Test
+    public void respectsDemand() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>(2L);
+        Observables.<Integer, Integer>tailRec(0, i -> Observable.just(Either.right(i), Either.left(i + 1)))
+                   .subscribe(sub);
+
+        sub.assertValues(0, 1);
+        sub.requestMore(3);
+        sub.assertValues(0, 1, 2, 3, 4);
+        sub.unsubscribe();
+    }
+
+    @Test
+    public void errorsArePropagated() {
+        TestSubscriber<Integer> sub = new TestSubscriber<>();
+        Observables.<Integer, Integer>tailRec(0, i -> i < 5 ? Observable.just(Either.left(i + 1))
+                                                            : Observable.error(new IllegalStateException()))
+                   .subscribe(sub);
+
+        sub.assertError(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import com.oath.cyclops.rx.operators.OperatorCountAggregate;
+import cyclops.companion.Monoids;
+import cyclops.companion.rx.Observables;
+import cyclops.function.Monoid;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+import rx.subjects.PublishSubject;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class WindowedAggregateTest {
+
+    Monoid<String> concat = Monoid.of("", (a, b) -> a + b);
+
+    private ObservableReactiveSeq<Integer> of(Integer... values) {
+        return (ObservableReactiveSeq<Integer>) Observables.of(values);
+    }
+
+    @Test
+    public void tumblingByCount() {
+        assertThat(of(1, 2, 3, 4, 5).tumblingAggregate(2, Monoids.intSum).toList(), equalTo(Arrays.asList(3, 7, 5)));
+        assertThat(of(1, 2, 3, 4).tumblingAggregate(2, Monoids.intSum).toList(), equalTo(Arrays.asList(3, 7)));
+    }
+
+    @Test
+    public void slidingByCount() {
+        assertThat(of(1, 2, 3, 4, 5).slidingAggregate(3, Monoids.intSum).toList(), equalTo(Arrays.asList(6, 9, 12)));
+        assertThat(of(1, 2).slidingAggregate(3, Monoids.intSum).toList(), equalTo(Arrays.asList(3)));
+        assertThat(of(1, 2, 3, 4, 5, 6).slidingAggregate(4, 2, Monoids.intSum).toList(), equalTo(Arrays.asList(10, 18)));
+    }
+
+    @Test
+    public void slidingPreservesOrderForNonCommutativeMonoids() {
+        List<String> windows = Observables.reactiveSeq(Observable.range(0, 10).map(String::valueOf))
+                                          .to(s -> ((ObservableReactiveSeq<String>) s).slidingAggregate(4, concat))
+                                          .toList();
+
+        List<String> expected = IntStream.range(0, 7)
+                                         .mapToObj(i -> IntStream.range(i, i + 4).mapToObj(String::valueOf).collect(Collectors.joining()))
+                                         .collect(Collectors.toList());
+        assertThat(windows, equalTo(expected));
+    }
+
+    @Test
+    public void countAggregateRespectsBackpressure() {
+        TestSubscriber<Integer> subscriber = TestSubscriber.create(1);
+        Observable.range(1, 100).lift(new OperatorCountAggregate<>(10, 10, Monoids.intSum)).subscribe(subscriber);
+
+        subscriber.assertValues(55);
+        subscriber.requestMore(1);
+        subscriber.assertValues(55, 155);
+        subscriber.assertNotCompleted();
+    }
+
+    @Test
+    public void slidingByTime() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestSubscriber<Integer> subscriber = TestSubscriber.create();
+        Observables.observableFrom(((ObservableReactiveSeq<Integer>) Observables.reactiveSeq(subject))
+                                       .slidingAggregate(3, 1, TimeUnit.SECONDS, Monoids.intSum, scheduler))
+                   .subscribe(subscriber);
+
+        subject.onNext(1);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subject.onNext(2);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subject.onNext(3);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subject.onNext(10);
+        subject.onCompleted();
+
+        subscriber.assertValues(1, 3, 6, 5, 13);
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void tumblingByTimeEmitsEmptyWindows() {
+        TestScheduler scheduler = new TestScheduler();
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestSubscriber<Integer> subscriber = TestSubscriber.create();
+        Observables.observableFrom(((ObservableReactiveSeq<Integer>) Observables.reactiveSeq(subject))
+                                       .tumblingAggregate(1, TimeUnit.SECONDS, Monoids.intSum, scheduler))
+                   .subscribe(subscriber);
+
+        subject.onNext(1);
+        subject.onNext(2);
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        subject.onNext(5);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        subscriber.assertValues(3, 0, 5);
+        subscriber.assertNotCompleted();
+    }
+}
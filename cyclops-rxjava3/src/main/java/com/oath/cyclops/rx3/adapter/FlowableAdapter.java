@@ -0,0 +1,77 @@
+package com.oath.cyclops.rx3.adapter;
+
+
+
+import com.oath.cyclops.anym.extensability.AbstractMonadAdapter;
+import cyclops.companion.rx3.Flowables;
+import cyclops.monads.AnyM;
+import cyclops.monads.Rx3Witness.flowable;
+import io.reactivex.rxjava3.core.Flowable;
+import lombok.AllArgsConstructor;
+
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+
+@AllArgsConstructor
+public class FlowableAdapter extends AbstractMonadAdapter<flowable> {
+
+    private final int maxConcurrency;
+
+    public FlowableAdapter() {
+        this(Flowable.bufferSize());
+    }
+
+    @Override
+    public <T> Iterable<T> toIterable(AnyM<flowable, T> t) {
+        return flowable(t).blockingIterable();
+    }
+
+    @Override
+    public <T, R> AnyM<flowable, R> ap(AnyM<flowable,? extends Function<? super T,? extends R>> fn, AnyM<flowable, T> apply) {
+        Flowable<T> f = flowable(apply);
+        Flowable<? extends Function<? super T, ? extends R>> fnF = flowable(fn);
+        Flowable<R> res = fnF.zipWith(f, (a, b) -> a.apply(b));
+        return Flowables.anyM(res);
+    }
+
+    @Override
+    public <T> AnyM<flowable, T> filter(AnyM<flowable, T> t, Predicate<? super T> fn) {
+        return Flowables.anyM(flowable(t).filter(e->fn.test(e)));
+    }
+
+    <T> Flowable<T> flowable(AnyM<flowable,T> anyM){
+        FlowableReactiveSeq<T> seq = anyM.unwrap();
+        return seq.flowable;
+    }
+
+    @Override
+    public <T> AnyM<flowable, T> empty() {
+        return Flowables.anyM(Flowable.empty());
+    }
+
+
+
+    @Override
+    public <T, R> AnyM<flowable, R> flatMap(AnyM<flowable, T> t,
+                                            Function<? super T, ? extends AnyM<flowable, ? extends R>> fn) {
+        return Flowables.anyM(flowable(t).flatMap(x->flowable(fn.apply(x)),maxConcurrency));
+
+    }
+
+    @Override
+    public <T> AnyM<flowable, T> unitIterable(Iterable<T> it)  {
+        return Flowables.anyM(Flowable.fromIterable(it));
+    }
+
+    @Override
+    public <T> AnyM<flowable, T> unit(T o) {
+        return Flowables.anyM(Flowable.just(o));
+    }
+
+    @Override
+    public <T, R> AnyM<flowable, R> map(AnyM<flowable, T> t, Function<? super T, ? extends R> fn) {
+        return Flowables.anyM(flowable(t).map(x->fn.apply(x)));
+    }
+}
@@ -0,0 +1,770 @@
+package com.oath.cyclops.rx3.adapter;
+
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.stream.HeadAndTail;
+import cyclops.companion.rx3.Flowables;
+import cyclops.control.LazyEither;
+import cyclops.control.Maybe;
+import cyclops.control.Option;
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.data.tuple.Tuple3;
+import cyclops.data.tuple.Tuple4;
+import cyclops.function.Monoid;
+import cyclops.function.Reducer;
+import cyclops.reactive.ReactiveSeq;
+import io.reactivex.rxjava3.core.Flowable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * A ReactiveSeq backed by an RxJava 3 Flowable. Flowable is a reactive-streams Publisher, so subscribing to this
+ * ReactiveSeq subscribes directly to the Flowable with demand propagated unchanged.
+ *
+ * Note that RxJava 3 does not permit null elements, so map functions must not return null.
+ *
+ * @param <T> Element type
+ */
+@AllArgsConstructor
+public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
+    @Wither
+    @Getter
+    Flowable<T> flowable;
+
+    public <R> FlowableReactiveSeq<R> flowable(Flowable<R> flowable){
+        return new FlowableReactiveSeq<>(flowable);
+    }
+    public <R> FlowableReactiveSeq<R> flowable(ReactiveSeq<R> flowable){
+        if(flowable instanceof FlowableReactiveSeq){
+            return  (FlowableReactiveSeq)flowable;
+        }
+        return new FlowableReactiveSeq<>(Flowables.flowableFrom(flowable));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> coflatMap(Function<? super ReactiveSeq<T>, ? extends R> fn) {
+        return flowable(Flowable.just(fn.apply(this)));
+    }
+
+    @Override
+    public <T1> ReactiveSeq<T1> unit(T1 unit) {
+        return flowable(Flowable.just(unit));
+    }
+
+    @Override
+    public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        return Flowables.connectToReactiveSeq(flowable).foldRight(identity,accumulator);
+    }
+
+    @Override
+    public <U, R> ReactiveSeq<R> zipWithStream(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return flowable(flowable.zipWith(Flowables.fromStream((Stream<U>)other),(a,b)->zipper.apply(a,b)));
+    }
+
+    @Override
+    public <U, R> ReactiveSeq<R> zipLatest(Publisher<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return flowable(Flowable.combineLatest(flowable, other, (a, b) -> zipper.apply(a, b)));
+    }
+
+    @Override
+    public <U, R> ReactiveSeq<R> zip(BiFunction<? super T, ? super U, ? extends R> zipper,Publisher<? extends U> other) {
+        return flowable(flowable.zipWith(other,(a,b)->zipper.apply(a,b)));
+    }
+
+    @Override
+    public <U> ReactiveSeq<Tuple2<T, U>> zipWithPublisher(Publisher<? extends U> other) {
+        return flowable(flowable.zipWith(other,Tuple::tuple));
+    }
+
+    @Override
+    public ReactiveSeq<T> cycle() {
+        return flowable(flowable.repeat());
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate() {
+        return Flowables.connectToReactiveSeq(flowable).duplicate().transform((s1, s2)->Tuple.tuple(flowable(s1),flowable(s2)));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(Supplier<Deque<T>> bufferFactory) {
+        return Flowables.connectToReactiveSeq(flowable).duplicate(bufferFactory).transform((s1, s2)->Tuple.tuple(flowable(s1),flowable(s2)));
+    }
+
+    @Override
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate() {
+        return Flowables.connectToReactiveSeq(flowable).triplicate().transform((s1, s2, s3)->Tuple.tuple(flowable(s1),flowable(s2),flowable(s3)));
+    }
+
+    @Override
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(Supplier<Deque<T>> bufferFactory) {
+        return Flowables.connectToReactiveSeq(flowable).triplicate(bufferFactory).transform((s1, s2, s3)->Tuple.tuple(flowable(s1),flowable(s2),flowable(s3)));
+    }
+
+    @Override
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate() {
+        return Flowables.connectToReactiveSeq(flowable).quadruplicate().to(t4->Tuple.tuple(flowable(t4._1()),flowable(t4._2()),flowable(t4._3()),flowable(t4._4())));
+    }
+
+    @Override
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(Supplier<Deque<T>> bufferFactory) {
+        return Flowables.connectToReactiveSeq(flowable).quadruplicate(bufferFactory).to(t4->Tuple.tuple(flowable(t4._1()),flowable(t4._2()),flowable(t4._3()),flowable(t4._4())));
+    }
+
+    @Override
+    public Tuple2<Option<T>, ReactiveSeq<T>> splitAtHead() {
+        return Flowables.connectToReactiveSeq(flowable).splitAtHead().transform((s1, s2)->Tuple.tuple(s1,flowable(s2)));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(int where) {
+        return Flowables.connectToReactiveSeq(flowable).splitAt(where).transform((s1, s2)->Tuple.tuple(flowable(s1),flowable(s2)));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitBy(Predicate<T> splitter) {
+        return Flowables.connectToReactiveSeq(flowable).splitBy(splitter).transform((s1, s2)->Tuple.tuple(flowable(s1),flowable(s2)));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> partition(Predicate<? super T> splitter) {
+        return Flowables.connectToReactiveSeq(flowable).partition(splitter).transform((s1, s2)->Tuple.tuple(flowable(s1),flowable(s2)));
+    }
+
+    @Override
+    public <U> ReactiveSeq<Tuple2<T, U>> zipWithStream(Stream<? extends U> other) {
+        return zipWithStream(other,Tuple::tuple);
+    }
+
+    @Override
+    public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
+        return zipN(a->Tuple.tuple((T)a[0],(S)a[1],(U)a[2]),second,third);
+    }
+
+    @Override
+    public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
+        return zipN(a->Tuple.tuple((T)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),second,third,fourth);
+    }
+
+    private <R> ReactiveSeq<R> zipN(Function<Object[], ? extends R> zipper, Iterable<?>... others) {
+        List<Publisher<?>> sources = new ArrayList<>(others.length + 1);
+        sources.add(flowable);
+        for (Iterable<?> next : others)
+            sources.add(Flowable.fromIterable(next));
+        return flowable(Flowable.zip(sources, a->zipper.apply(a)));
+    }
+
+    @Override
+    public ReactiveSeq<Seq<T>> sliding(int windowSize, int increment) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).sliding(windowSize,increment));
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> grouped(int groupSize) {
+        return flowable(flowable.buffer(groupSize).map(Vector::fromIterable));
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> groupedUntil(BiPredicate<Vector<? super T>, ? super T> predicate) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedUntil(predicate));
+    }
+
+    @Override
+    public <C extends PersistentCollection<T>, R> ReactiveSeq<R> groupedUntil(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedUntil(predicate,factory,finalizer));
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> groupedWhile(BiPredicate<Vector<? super T>, ? super T> predicate) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedWhile(predicate));
+    }
+
+    @Override
+    public <C extends PersistentCollection<T>, R> ReactiveSeq<R> groupedWhile(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedWhile(predicate,factory,finalizer));
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> groupedBySizeAndTime(int size, long time, TimeUnit t) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedBySizeAndTime(size, time, t));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedBySizeAndTime(int size, long time, TimeUnit unit, Supplier<C> factory) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedBySizeAndTime(size,time,unit,factory));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>, R> ReactiveSeq<R> groupedBySizeAndTime(int size, long time, TimeUnit unit, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedBySizeAndTime(size,time,unit,factory,finalizer));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>, R> ReactiveSeq<R> groupedByTime(long time, TimeUnit unit, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
+        return groupedBySizeAndTime(Integer.MAX_VALUE,time,unit,factory,finalizer);
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> groupedByTime(long time, TimeUnit t) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedByTime(time, t));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedByTime(long time, TimeUnit unit, Supplier<C> factory) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedByTime(time, unit, factory));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> ReactiveSeq<C> grouped(int size, Supplier<C> supplier) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).grouped(size,supplier));
+    }
+
+    @Override
+    public ReactiveSeq<Vector<T>> groupedWhile(Predicate<? super T> predicate) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedWhile(predicate));
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).groupedWhile(predicate,factory));
+    }
+
+    @Override
+    public ReactiveSeq<T> distinct() {
+        return flowable(flowable.distinct());
+    }
+
+    @Override
+    public <U> ReactiveSeq<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return flowable(flowable.scan(seed,(a,b)->function.apply(a,b)));
+    }
+
+    @Override
+    public ReactiveSeq<T> sorted() {
+        return flowable(flowable.sorted());
+    }
+
+    @Override
+    public ReactiveSeq<T> skip(long num) {
+        return flowable(flowable.skip(num));
+    }
+
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Flowables.connectToReactiveSeq(flowable).forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(Consumer<? super T> action) {
+        Flowables.connectToReactiveSeq(flowable).forEachOrdered(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Flowables.connectToReactiveSeq(flowable).toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(IntFunction<A[]> generator) {
+        return Flowables.connectToReactiveSeq(flowable).toArray(generator);
+    }
+
+    @Override
+    public ReactiveSeq<T> skipWhile(Predicate<? super T> p) {
+        return flowable(flowable.skipWhile(t->p.test(t)));
+    }
+
+    @Override
+    public ReactiveSeq<T> limit(long num) {
+        return flowable(flowable.take(num));
+    }
+
+    @Override
+    public ReactiveSeq<T> limitWhile(Predicate<? super T> p) {
+        return flowable(flowable.takeWhile(t->p.test(t)));
+    }
+    @Override
+    public ReactiveSeq<T> limitWhileClosed(Predicate<? super T> p) {
+        return flowable(flowable.takeUntil((io.reactivex.rxjava3.functions.Predicate<T>)t->!p.test(t)));
+    }
+
+    @Override
+    public ReactiveSeq<T> limitUntil(Predicate<? super T> p) {
+        return flowable(flowable.takeWhile(t->!p.test(t)));
+    }
+
+    @Override
+    public ReactiveSeq<T> limitUntilClosed(Predicate<? super T> p) {
+        return flowable(flowable.takeUntil((io.reactivex.rxjava3.functions.Predicate<T>)t->p.test(t)));
+    }
+
+    @Override
+    public ReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    @Override
+    public boolean allMatch(Predicate<? super T> c) {
+        return flowable.all(t->c.test(t)).blockingGet();
+    }
+
+    @Override
+    public boolean anyMatch(Predicate<? super T> c) {
+        return flowable.any(t->c.test(t)).blockingGet();
+    }
+
+    @Override
+    public boolean xMatch(int num, Predicate<? super T> c) {
+        return Flowables.connectToReactiveSeq(flowable).xMatch(num,c);
+    }
+
+    @Override
+    public boolean noneMatch(Predicate<? super T> c) {
+        return !anyMatch(c);
+    }
+
+    @Override
+    public String join() {
+        return Flowables.connectToReactiveSeq(flowable).join();
+    }
+
+    @Override
+    public String join(String sep) {
+        return Flowables.connectToReactiveSeq(flowable).join(sep);
+    }
+
+    @Override
+    public String join(String sep, String start, String end) {
+        return Flowables.connectToReactiveSeq(flowable).join(sep,start,end);
+    }
+
+    @Override
+    public HeadAndTail<T> headAndTail() {
+        return Flowables.connectToReactiveSeq(flowable).headAndTail();
+    }
+
+    @Override
+    public Optional<T> findFirst() {
+        return flowable.take(1).map(Optional::of).blockingFirst(Optional.empty());
+    }
+
+    @Override
+    public Maybe<T> takeOne() {
+        return Flowables.connectToReactiveSeq(flowable).takeOne();
+    }
+
+    @Override
+    public LazyEither<Throwable, T> findFirstOrError() {
+        return Flowables.connectToReactiveSeq(flowable).findFirstOrError();
+    }
+
+    @Override
+    public Optional<T> findAny() {
+        return findFirst();
+    }
+
+    @Override
+    public <R> R mapReduce(Reducer<R,T> reducer) {
+        return Flowables.connectToReactiveSeq(flowable).mapReduce(reducer);
+    }
+
+    @Override
+    public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
+        return Flowables.connectToReactiveSeq(flowable).mapReduce(mapper,reducer);
+    }
+
+    @Override
+    public T reduce(Monoid<T> reducer) {
+        return Flowables.connectToReactiveSeq(flowable).reduce(reducer);
+    }
+
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        return Flowables.connectToReactiveSeq(flowable).reduce(accumulator);
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return Flowables.connectToReactiveSeq(flowable).reduce(identity,accumulator);
+    }
+
+    @Override
+    public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+        return Flowables.connectToReactiveSeq(flowable).reduce(identity, accumulator, combiner);
+    }
+
+
+    @Override
+    public Seq<T> reduce(Iterable<? extends Monoid<T>> reducers) {
+        return Flowables.connectToReactiveSeq(flowable).reduce(reducers);
+    }
+
+    @Override
+    public T foldRight(Monoid<T> reducer) {
+        return Flowables.connectToReactiveSeq(flowable).foldRight(reducer);
+    }
+
+    @Override
+    public T foldRight(T identity, BinaryOperator<T> accumulator) {
+        return Flowables.connectToReactiveSeq(flowable).foldRight(identity,accumulator);
+    }
+
+    @Override
+    public <T1> T1 foldRightMapToType(Reducer<T1,T> reducer) {
+        return Flowables.connectToReactiveSeq(flowable).foldRightMapToType(reducer);
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return Flowables.connectToReactiveSeq(flowable);
+    }
+
+    @Override
+    public <U> FlowableReactiveSeq<U> unitIterator(Iterator<U> U) {
+        return new FlowableReactiveSeq<>(Flowable.fromIterable(()->U));
+    }
+
+    @Override
+    public boolean startsWithIterable(Iterable<T> iterable) {
+        return Flowables.connectToReactiveSeq(flowable).startsWithIterable(iterable);
+    }
+
+    @Override
+    public boolean startsWith(Stream<T> stream) {
+        return Flowables.connectToReactiveSeq(flowable).startsWith(stream);
+    }
+
+
+
+    @Override
+    public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        return flowable(flowable.map(e->fn.apply(e)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        return flowable(flowable.concatMap(s->Flowables.fromStream(fn.apply(s))));
+    }
+
+    @Override
+    public IntStream flatMapToInt(Function<? super T, ? extends IntStream> mapper) {
+        return Flowables.connectToReactiveSeq(flowable).flatMapToInt(mapper);
+    }
+
+    @Override
+    public LongStream flatMapToLong(Function<? super T, ? extends LongStream> mapper) {
+        return Flowables.connectToReactiveSeq(flowable).flatMapToLong(mapper);
+    }
+
+    @Override
+    public DoubleStream flatMapToDouble(Function<? super T, ? extends DoubleStream> mapper) {
+        return Flowables.connectToReactiveSeq(flowable).flatMapToDouble(mapper);
+    }
+
+
+
+    @Override
+    public <R> ReactiveSeq<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return flowable(flowable.concatMapIterable(a->fn.apply(a)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return flowable(flowable.flatMap(a->fn.apply(a)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mergeMap(int maxConcurrency, Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return flowable(flowable.flatMap(a->fn.apply(a),maxConcurrency));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapStream(Function<? super T, BaseStream<? extends R, ?>> fn) {
+        return this.<R>flowable(flowable.concatMap(a->{
+            BaseStream<? extends R, ?> s = fn.apply(a);
+            ReactiveSeq<R> res = s instanceof ReactiveSeq ? (ReactiveSeq) s : (ReactiveSeq) ReactiveSeq.fromSpliterator(s.spliterator());
+            return Flowables.fromStream(res);
+        }));
+    }
+
+    @Override
+    public ReactiveSeq<T> filter(Predicate<? super T> fn) {
+        return flowable(flowable.filter(t->fn.test(t)));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return flowable.blockingIterable().iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Flowables.connectToReactiveSeq(flowable).spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+        return false;
+    }
+
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return this;
+    }
+
+    @Override
+    public ReactiveSeq<T> unordered() {
+        return this;
+    }
+
+    @Override
+    public ReactiveSeq<T> reverse() {
+        return flowable(flowable.toList().flattenAsFlowable(l->{
+            Collections.reverse(l);
+            return l;
+        }));
+    }
+
+    @Override
+    public ReactiveSeq<T> onClose(Runnable closeHandler) {
+        return flowable(flowable.doOnComplete(()->closeHandler.run()));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    public ReactiveSeq<T> prependStream(Stream<? extends T> stream) {
+        return flowable(Flowable.concat(Flowables.fromStream((Stream<T>)stream),flowable));
+    }
+
+    @Override
+    public ReactiveSeq<T> appendAll(T... values) {
+        return flowable(flowable.concatWith(Flowable.fromArray(values)));
+    }
+
+    @Override
+    public ReactiveSeq<T> append(T value) {
+        return flowable(flowable.concatWith(Flowable.just(value)));
+    }
+
+    @Override
+    public ReactiveSeq<T> prepend(T value) {
+        return flowable(flowable.startWithItem(value));
+    }
+
+    @Override
+    public ReactiveSeq<T> prependAll(T... values) {
+        return flowable(flowable.startWithArray(values));
+    }
+
+    @Override
+    public boolean endsWithIterable(Iterable<T> iterable) {
+        return Flowables.connectToReactiveSeq(flowable).endsWithIterable(iterable);
+    }
+
+    @Override
+    public boolean endsWith(Stream<T> stream) {
+        return Flowables.connectToReactiveSeq(flowable).endsWith(stream);
+    }
+
+    @Override
+    public ReactiveSeq<T> skip(long time, TimeUnit unit) {
+        return flowable(flowable.skip(time,unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> limit(long time, TimeUnit unit) {
+        return flowable(flowable.take(time,unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> skipLast(int num) {
+        return flowable(flowable.skipLast(num));
+    }
+
+    @Override
+    public ReactiveSeq<T> limitLast(int num) {
+        return flowable(flowable.takeLast(num));
+    }
+
+
+    @Override
+    public T firstValue(T alt) {
+        return findFirst().orElse(alt);
+    }
+
+    @Override
+    public ReactiveSeq<T> onEmptySwitch(Supplier<? extends Stream<T>> switchTo) {
+        return flowable(flowable.switchIfEmpty(Flowable.defer(()->Flowables.fromStream(switchTo.get()))));
+    }
+
+    @Override
+    public ReactiveSeq<T> onEmptyGet(Supplier<? extends T> supplier) {
+        return flowable(flowable.switchIfEmpty(Flowable.fromSupplier(()->supplier.get())));
+    }
+
+    @Override
+    public <X extends Throwable> ReactiveSeq<T> onEmptyError(Supplier<? extends X> supplier) {
+        return flowable(flowable.switchIfEmpty(Flowable.error(()->supplier.get())));
+    }
+
+    @Override
+    public <U> ReactiveSeq<T> distinct(Function<? super T, ? extends U> keyExtractor) {
+        return flowable(flowable.distinct(a->keyExtractor.apply(a)));
+    }
+
+    @Override
+    public ReactiveSeq<T> xPer(int x, long time, TimeUnit t) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).xPer(x,time,t));
+    }
+
+    @Override
+    public ReactiveSeq<T> onePer(long time, TimeUnit t) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).onePer(time,t));
+    }
+
+    @Override
+    public ReactiveSeq<T> debounce(long time, TimeUnit t) {
+        return flowable(flowable.throttleFirst(time,t));
+    }
+
+    @Override
+    public ReactiveSeq<T> fixedDelay(long l, TimeUnit unit) {
+        return flowable(flowable.concatMap(e->Flowable.just(e).delay(l,unit)));
+    }
+
+    @Override
+    public ReactiveSeq<T> jitter(long maxJitterPeriodInNanos) {
+        return flowable(Flowables.connectToReactiveSeq(flowable).jitter(maxJitterPeriodInNanos));
+    }
+
+    @Override
+    public ReactiveSeq<T> onComplete(Runnable fn) {
+        return flowable(flowable.doOnComplete(()->fn.run()));
+    }
+
+    @Override
+    public ReactiveSeq<T> recover(Function<? super Throwable, ? extends T> fn) {
+        return flowable(flowable.onErrorReturn(e->fn.apply(e)));
+    }
+
+    @Override
+    public <EX extends Throwable> ReactiveSeq<T> recover(Class<EX> exceptionClass, Function<? super EX, ? extends T> fn) {
+        return flowable(flowable.onErrorResumeNext(e->exceptionClass.isInstance(e) ? Flowable.just(fn.apply((EX)e)) : Flowable.error(e)));
+    }
+
+    @Override
+    public long count() {
+        return flowable.count().blockingGet();
+    }
+
+    @Override
+    public ReactiveSeq<T> appendStream(Stream<? extends T> other) {
+        return flowable(flowable.concatWith(Flowables.fromStream((Stream<T>)other)));
+    }
+
+    @Override
+    public ReactiveSeq<T> appendAll(Iterable<? extends T> other) {
+        return flowable(flowable.concatWith(Flowable.fromIterable(other)));
+    }
+
+    @Override
+    public ReactiveSeq<T> prependAll(Iterable<? extends T> other) {
+        return flowable(flowable.startWithIterable(other));
+    }
+
+    @Override
+    public ReactiveSeq<T> cycle(long times) {
+        return flowable(flowable.repeat(times));
+    }
+
+    @Override
+    public ReactiveSeq<T> skipWhileClosed(Predicate<? super T> predicate) {
+        return skipWhile(predicate);
+    }
+
+
+    @Override
+    public ReactiveSeq<T> changes() {
+        return flowable(flowable.distinctUntilChanged());
+    }
+
+
+
+    @Override
+    public <X extends Throwable> Subscription forEachSubscribe(Consumer<? super T> consumer) {
+        return Flowables.connectToReactiveSeq(flowable).forEachSubscribe(consumer);
+    }
+
+    @Override
+    public <X extends Throwable> Subscription forEachSubscribe(Consumer<? super T> consumer, Consumer<? super Throwable> consumerError) {
+        return Flowables.connectToReactiveSeq(flowable).forEachSubscribe(consumer, consumerError);
+    }
+
+    @Override
+    public <X extends Throwable> Subscription forEachSubscribe(Consumer<? super T> consumer, Consumer<? super Throwable> consumerError, Runnable onComplete) {
+        return Flowables.connectToReactiveSeq(flowable).forEachSubscribe(consumer, consumerError,onComplete);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
+        return Flowables.connectToReactiveSeq(flowable).collect(supplier,accumulator,combiner);
+    }
+
+    @Override
+    public <R, A> ReactiveSeq<R> collectAll(Collector<? super T, A, R> collector) {
+        return flowable(flowable.collect(collector).toFlowable());
+    }
+
+    @Override
+    public <R, A> R collect(Collector<? super T, A, R> collector) {
+        return flowable.collect(collector).blockingGet();
+    }
+
+
+    @Override
+    public Maybe<T> single(Predicate<? super T> predicate) {
+        return filter(predicate).single();
+    }
+
+    @Override
+    public Maybe<T> single() {
+        return Flowables.connectToReactiveSeq(flowable).single();
+    }
+
+    @Override
+    public Seq<ReactiveSeq<T>> multicast(int num) {
+        Flowable<T> shared = flowable.publish().autoConnect(num);
+        return Seq.range(0,num).map(i->flowable(shared));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        flowable.subscribe(s);
+    }
+    @Override
+    public <R> R visit(Function<? super ReactiveSeq<T>,? extends R> sync,Function<? super ReactiveSeq<T>,? extends R> reactiveStreams,
+                       Function<? super ReactiveSeq<T>,? extends R> asyncNoBackPressure){
+        return reactiveStreams.apply(this);
+    }
+    @Override
+    public void forEachAsync(Consumer<? super T> action) {
+        flowable.subscribe(a->action.accept(a));
+    }
+}
@@ -0,0 +1,308 @@
+package cyclops.companion.rx3;
+
+import com.oath.cyclops.anym.AnyMSeq;
+import com.oath.cyclops.rx3.adapter.FlowableReactiveSeq;
+import cyclops.function.Function3;
+import cyclops.function.Function4;
+import cyclops.monads.AnyM;
+import cyclops.monads.Rx3Witness;
+import cyclops.monads.Rx3Witness.flowable;
+import cyclops.monads.WitnessType;
+import cyclops.monads.XorM;
+import cyclops.monads.transformers.StreamT;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import lombok.experimental.UtilityClass;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Companion class for working with RxJava 3 Flowable types. Flowable is a reactive-streams Publisher, so conversions
+ * between Flowable and ReactiveSeq subscribe directly to one another with demand propagated unchanged.
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class Flowables {
+
+
+    public static  <W1 extends WitnessType<W1>,T> XorM<W1,flowable,T> xorM(Flowable<T> type){
+        return XorM.right(anyM(type));
+    }
+
+    public static <T,W extends WitnessType<W>> AnyM<W,Flowable<T>> fromStream(AnyM<W,Stream<T>> anyM){
+        return anyM.map(s->fromStream(s));
+    }
+    public static <T> Flowable<T> raw(AnyM<flowable,T> anyM){
+        return Rx3Witness.flowable(anyM);
+    }
+    public static <T> Flowable<T> narrow(Flowable<? extends T> flowable) {
+        return (Flowable<T>)flowable;
+    }
+    public static <T> ReactiveSeq<T> reactiveSeq(Flowable<T> flowable) {
+        return new FlowableReactiveSeq<>(flowable);
+    }
+
+    /**
+     * Convert a ReactiveSeq to a Flowable. ReactiveSeqs backed by a Flowable are unwrapped, other ReactiveSeqs are
+     * subscribed to directly, with elements from asynchronous ReactiveSeqs (which do not support backpressure)
+     * buffered until requested.
+     *
+     * @param stream To convert
+     * @return Flowable
+     */
+    public static  <T> Flowable<T> flowableFrom(ReactiveSeq<T> stream){
+        if(stream instanceof FlowableReactiveSeq)
+            return ((FlowableReactiveSeq<T>)stream).getFlowable();
+        return stream.visit(sync->Flowable.fromPublisher(stream),
+                rs->Flowable.fromPublisher(stream),
+                async->Flowable.fromPublisher(stream).onBackpressureBuffer());
+    }
+    public static  <T> Flowable<T> fromStream(Stream<T> s){
+        if(s instanceof ReactiveSeq)
+            return flowableFrom((ReactiveSeq<T>)s);
+        return Flowable.fromStream(s);
+    }
+    public static <W extends WitnessType<W>,T> StreamT<W,T> liftM(AnyM<W,Flowable<T>> nested){
+        AnyM<W, ReactiveSeq<T>> monad = nested.map(s -> new FlowableReactiveSeq<T>(s));
+        return StreamT.of(monad);
+    }
+
+    /**
+     * A Flowable is already a reactive-streams Publisher, this method exists for symmetry with other companions
+     *
+     * @param flowable To convert
+     * @return reactive-streams Publisher
+     */
+    public static <T> Publisher<T> publisher(Flowable<T> flowable) {
+        return flowable;
+    }
+
+    /**
+     * Convert a Flowable to a cyclops-react ReactiveSeq. The ReactiveSeq subscribes directly to the Flowable,
+     * propagating downstream demand to it unchanged.
+     *
+     * @param flowable To convert
+     * @return ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> connectToReactiveSeq(Flowable<T> flowable) {
+        return Spouts.from(flowable);
+    }
+
+    /**
+     * Convert a Publisher to a Flowable, returning the Publisher itself if it is already a Flowable
+     *
+     * @param publisher To convert
+     * @return Flowable
+     */
+    public static <T> Flowable<T> flowable(Publisher<T> publisher) {
+        if(publisher instanceof ReactiveSeq)
+            return flowableFrom((ReactiveSeq<T>)publisher);
+        return Flowable.fromPublisher(publisher);
+    }
+
+    /**
+     * Construct an AnyM type from a Flowable. This allows the Flowable to be manipulated according to a standard interface
+     * along with a vast array of other Java Monad implementations
+     *
+     * <pre>
+     * {@code
+     *
+     *    AnyMSeq<flowable,Integer> flowable = Flowables.anyM(Flowable.just(1,2,3));
+     *    AnyMSeq<flowable,Integer> transformedFlowable = myGenericOperation(flowable);
+     *
+     *    public AnyMSeq<Integer> myGenericOperation(AnyMSeq<Integer> monad);
+     * }
+     * </pre>
+     *
+     * @param flowable To wrap inside an AnyM
+     * @return AnyMSeq wrapping a Flowable
+     */
+    public static <T> AnyMSeq<flowable,T> anyM(Flowable<T> flowable) {
+        return AnyM.ofSeq(reactiveSeq(flowable), Rx3Witness.flowable.INSTANCE);
+    }
+
+    public static <T> ReactiveSeq<T> defer(Supplier<Flowable<T>> flowableFactory) {
+        return reactiveSeq(Flowable.defer(()->flowableFactory.get()));
+    }
+
+    public static <T> ReactiveSeq<T> empty() {
+        return reactiveSeq(Flowable.empty());
+    }
+
+    public static <T> ReactiveSeq<T> error(Throwable exception) {
+        return reactiveSeq(Flowable.error(exception));
+    }
+
+    public static <T> ReactiveSeq<T> from(Iterable<? extends T> iterable) {
+        return reactiveSeq(Flowable.fromIterable(iterable));
+    }
+
+    public static ReactiveSeq<Long> interval(long interval, TimeUnit unit) {
+        return interval(interval, interval, unit, Schedulers.computation());
+    }
+
+    public static ReactiveSeq<Long> interval(long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+        return reactiveSeq(Flowable.interval(initialDelay,period,unit,scheduler));
+    }
+
+    public static <T> ReactiveSeq<T> just(final T value) {
+        return reactiveSeq(Flowable.just(value));
+    }
+    @SafeVarargs
+    public static <T> ReactiveSeq<T> just(final T... values) {
+        return reactiveSeq(Flowable.fromArray(values));
+    }
+    public static <T> ReactiveSeq<T> of(final T value) {
+        return just(value);
+    }
+    @SafeVarargs
+    public static <T> ReactiveSeq<T> of(final T... values) {
+        return just(values);
+    }
+
+    public static ReactiveSeq<Integer> range(int start, int count) {
+        return reactiveSeq(Flowable.range(start,count));
+    }
+
+    public static <T> ReactiveSeq<T> merge(Iterable<? extends Publisher<? extends T>> sources) {
+        return reactiveSeq(Flowable.merge(sources));
+    }
+
+    public static <T> ReactiveSeq<T> merge(Iterable<? extends Publisher<? extends T>> sources, int maxConcurrency) {
+        return reactiveSeq(Flowable.merge(sources,maxConcurrency));
+    }
+
+    public static <T> ReactiveSeq<T> concat(Iterable<? extends Publisher<? extends T>> sources) {
+        return reactiveSeq(Flowable.concat(sources));
+    }
+
+    /**
+     * Perform a For Comprehension over a Flowable, accepting 3 generating functions.
+     * This results in a four level nested internal iteration over the provided Flowables.
+     *
+     *  <pre>
+     * {@code
+     *
+     *   import static cyclops.companion.rx3.Flowables.forEach4;
+     *
+     *   forEach4(Flowable.range(1,10),
+     *            a-> Flowable.range(a,10),
+     *            (a,b) -> Flowable.just(a+b),
+     *            (a,b,c) -> Flowable.just(a+b+c),
+     *            Tuple::tuple)
+     *
+     * }
+     * </pre>
+     *
+     * @param value1 top level Flowable
+     * @param value2 Nested Flowable
+     * @param value3 Nested Flowable
+     * @param value4 Nested Flowable
+     * @param yieldingFunction  Generates a result per combination
+     * @return Flowable with an element per combination of nested Flowables generated by the yielding function
+     */
+    public static <T1, T2, T3, R1, R2, R3, R> Flowable<R> forEach4(Flowable<? extends T1> value1,
+                                                                   Function<? super T1, ? extends Flowable<R1>> value2,
+                                                                   BiFunction<? super T1, ? super R1, ? extends Flowable<R2>> value3,
+                                                                   Function3<? super T1, ? super R1, ? super R2, ? extends Flowable<R3>> value4,
+                                                                   Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+
+        return value1.flatMap(in -> {
+
+            Flowable<R1> a = value2.apply(in);
+            return a.flatMap(ina -> {
+                Flowable<R2> b = value3.apply(in,ina);
+                return b.flatMap(inb -> {
+                    Flowable<R3> c = value4.apply(in,ina,inb);
+                    return c.map(in2 -> yieldingFunction.apply(in, ina, inb, in2));
+                });
+
+            });
+
+        });
+    }
+
+    /**
+     * Perform a For Comprehension over a Flowable, accepting 2 generating functions.
+     * This results in a three level nested internal iteration over the provided Flowables.
+     *
+     * <pre>
+     * {@code
+     *
+     *   import static cyclops.companion.rx3.Flowables.forEach3;
+     *
+     *   forEach3(Flowable.range(1,10),
+     *            a-> Flowable.range(a,10),
+     *            (a,b) -> Flowable.just(a+b),
+     *            Tuple::tuple);
+     *
+     * }
+     * </pre>
+     *
+     * @param value1 top level Flowable
+     * @param value2 Nested Flowable
+     * @param value3 Nested Flowable
+     * @param yieldingFunction Generates a result per combination
+     * @return Flowable with an element per combination of nested Flowables generated by the yielding function
+     */
+    public static <T1, T2, R1, R2, R> Flowable<R> forEach3(Flowable<? extends T1> value1,
+                                                           Function<? super T1, ? extends Flowable<R1>> value2,
+                                                           BiFunction<? super T1, ? super R1, ? extends Flowable<R2>> value3,
+                                                           Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+
+        return value1.flatMap(in -> {
+
+            Flowable<R1> a = value2.apply(in);
+            return a.flatMap(ina -> {
+                Flowable<R2> b = value3.apply(in, ina);
+                return b.map(in2 -> yieldingFunction.apply(in, ina, in2));
+            });
+
+        });
+    }
+
+    /**
+     * Perform a For Comprehension over a Flowable, accepting an additonal generating function.
+     * This results in a two level nested internal iteration over the provided Flowables.
+     *
+     * <pre>
+     * {@code
+     *
+     *  import static cyclops.companion.rx3.Flowables.forEach;
+     *
+     *  forEach(Flowable.range(1, 10), i -> Flowable.range(i, 10), Tuple::tuple)
+     *          .subscribe(System.out::println);
+     *
+     *  //(1, 1)
+     *  (1, 2)
+     *  (1, 3)
+     *  ...
+     *
+     * }</pre>
+     *
+     * @param value1 top level Flowable
+     * @param value2 Nested Flowable
+     * @param yieldingFunction Generates a result per combination
+     * @return Flowable with an element per combination of nested Flowables generated by the yielding function
+     */
+    public static <T, R1, R> Flowable<R> forEach(Flowable<? extends T> value1, Function<? super T, Flowable<R1>> value2,
+                                                 BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+
+        return value1.flatMap(in -> {
+
+            Flowable<R1> a = value2.apply(in);
+            return a.map(in2 -> yieldingFunction.apply(in,  in2));
+        });
+    }
+
+}
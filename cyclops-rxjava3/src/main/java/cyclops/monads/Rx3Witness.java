@@ -0,0 +1,31 @@
+package cyclops.monads;
+
+
+
+import com.oath.cyclops.anym.extensability.MonadAdapter;
+import com.oath.cyclops.rx3.adapter.FlowableAdapter;
+import com.oath.cyclops.rx3.adapter.FlowableReactiveSeq;
+import io.reactivex.rxjava3.core.Flowable;
+
+
+public interface Rx3Witness {
+
+    public static <T> Flowable<T> flowable(AnyM<flowable,? extends T> anyM){
+        FlowableReactiveSeq<T> flowable = anyM.unwrap();
+        return flowable.getFlowable();
+    }
+
+    static interface FlowableWitness<W extends Rx3Witness.FlowableWitness<W>>  extends WitnessType<W> {
+
+    }
+    public static enum flowable implements FlowableWitness<flowable> {
+        INSTANCE;
+
+        @Override
+        public MonadAdapter<flowable> adapter() {
+            return new FlowableAdapter();
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package cyclops.companion.rx3;
+
+import cyclops.monads.AnyM;
+import cyclops.monads.Rx3Witness;
+import cyclops.monads.Rx3Witness.flowable;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import io.reactivex.rxjava3.core.Flowable;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class FlowablesTest {
+
+    @Test
+    public void demandIsPropagatedUnchanged() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        Flowable<Integer> range = Flowable.range(0, 1000).doOnRequest(requests::add);
+
+        Subscription s = Flowables.reactiveSeq(range).forEach(5, received::add);
+        s.request(3);
+
+        assertThat(received, equalTo(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7)));
+        assertThat(requests, equalTo(Arrays.asList(5L, 3L)));
+        s.cancel();
+    }
+
+    @Test
+    public void connectToReactiveSeqPropagatesDemand() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        List<Integer> received = new CopyOnWriteArrayList<>();
+
+        Flowables.connectToReactiveSeq(Flowable.range(0, 1000).doOnRequest(requests::add))
+                 .forEach(4, received::add);
+
+        assertThat(received, equalTo(Arrays.asList(0, 1, 2, 3)));
+        assertThat(requests, equalTo(Arrays.asList(4L)));
+    }
+
+    @Test
+    public void conversionsUnwrap() {
+        Flowable<Integer> flowable = Flowable.just(1, 2, 3);
+
+        assertThat(Flowables.flowableFrom(Flowables.reactiveSeq(flowable)), sameInstance(flowable));
+        assertThat(Flowables.flowable(flowable), sameInstance(flowable));
+        assertThat(Flowables.publisher(flowable), sameInstance(flowable));
+    }
+
+    @Test
+    public void fromReactiveSeq() {
+        assertThat(Flowables.flowableFrom(ReactiveSeq.of(1, 2, 3)).toList().blockingGet(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(Flowables.flowableFrom(Spouts.of(1, 2, 3)).toList().blockingGet(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void anyM() {
+        AnyM<flowable, Integer> anyM = Flowables.anyM(Flowable.just(1, 2, 3));
+
+        assertThat(Rx3Witness.flowable(anyM.map(i -> i * 2).filter(i -> i > 2)).toList().blockingGet(), equalTo(Arrays.asList(4, 6)));
+        assertThat(Rx3Witness.flowable(anyM.flatMapA(i -> Flowables.anyM(Flowable.just(i, i)))).toList().blockingGet(),
+                   equalTo(Arrays.asList(1, 1, 2, 2, 3, 3)));
+    }
+
+    @Test
+    public void forEach3() {
+        assertThat(Flowables.forEach3(Flowable.just(1, 2), a -> Flowable.just(a * 10), (a, b) -> Flowable.just(b * 10), (a, b, c) -> a + b + c)
+                            .toList().blockingGet(),
+                   equalTo(Arrays.asList(111, 222)));
+    }
+}
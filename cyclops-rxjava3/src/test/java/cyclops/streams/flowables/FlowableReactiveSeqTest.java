@@ -0,0 +1,86 @@
+package cyclops.streams.flowables;
+
+import cyclops.companion.rx3.Flowables;
+import cyclops.data.Vector;
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
+import io.reactivex.rxjava3.core.Flowable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class FlowableReactiveSeqTest {
+
+    private ReactiveSeq<Integer> of(Integer... values) {
+        return Flowables.reactiveSeq(Flowable.fromArray(values));
+    }
+
+    @Test
+    public void mapFilter() {
+        assertThat(of(1, 2, 3, 4).map(i -> i * 10).filter(i -> i > 10).toList(), equalTo(Arrays.asList(20, 30, 40)));
+    }
+
+    @Test
+    public void zipping() {
+        assertThat(of(1, 2, 3).zip(Arrays.asList("a", "b")).toList(), equalTo(Arrays.asList(Tuple.tuple(1, "a"), Tuple.tuple(2, "b"))));
+        assertThat(of(1, 2, 3).zip3(Arrays.asList("a", "b"), Arrays.asList(true, false)).toList(),
+                   equalTo(Arrays.asList(Tuple.tuple(1, "a", true), Tuple.tuple(2, "b", false))));
+    }
+
+    @Test
+    public void grouping() {
+        assertThat(of(1, 2, 3, 4, 5).grouped(2).toList(), equalTo(Arrays.asList(Vector.of(1, 2), Vector.of(3, 4), Vector.of(5))));
+    }
+
+    @Test
+    public void limiting() {
+        assertThat(of(1, 2, 3, 4).limitWhile(i -> i < 3).toList(), equalTo(Arrays.asList(1, 2)));
+        assertThat(of(1, 2, 3, 4).limitWhileClosed(i -> i < 3).toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(of(1, 2, 3, 4).limitUntil(i -> i == 3).toList(), equalTo(Arrays.asList(1, 2)));
+        assertThat(of(1, 2, 3, 4).limitUntilClosed(i -> i == 3).toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void appendPrependReverseSort() {
+        assertThat(of(2, 3).prepend(1).append(4).toList(), equalTo(Arrays.asList(1, 2, 3, 4)));
+        assertThat(of(1, 2, 3).reverse().toList(), equalTo(Arrays.asList(3, 2, 1)));
+        assertThat(of(3, 1, 2).sorted().toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void emptyAndErrors() {
+        assertThat(Flowables.<Integer>empty().onEmptyGet(() -> 10).toList(), equalTo(Arrays.asList(10)));
+        assertThat(Flowables.<Integer>error(new IllegalStateException()).recover(e -> -1).toList(), equalTo(Arrays.asList(-1)));
+        assertThat(Flowables.<Integer>error(new IllegalStateException()).recover(IllegalStateException.class, e -> -2).toList(),
+                   equalTo(Arrays.asList(-2)));
+    }
+
+    @Test
+    public void terminals() {
+        assertThat(of(1, 2, 3).count(), equalTo(3L));
+        assertThat(of(1, 2, 3).findFirst().get(), equalTo(1));
+        assertThat(of(1, 2, 3).anyMatch(i -> i == 2), equalTo(true));
+        assertThat(of(1, 2, 3).allMatch(i -> i < 3), equalTo(false));
+        assertThat(Flowables.<Integer>empty().firstValue(-1), equalTo(-1));
+    }
+
+    @Test
+    public void multicastSharesOneSubscription() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ReactiveSeq<Integer> seq = Flowables.reactiveSeq(Flowable.range(1, 3).doOnSubscribe(s -> subscriptions.incrementAndGet()));
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+
+        seq.multicast(2).zipWithIndex().forEach(t -> t._1().forEach(Long.MAX_VALUE, t._2() == 0 ? first::add : second::add));
+
+        assertThat(first, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(second, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Reads a JSON array element by element into a vavr {@link Collector}, optionally wrapping the resulting vavr
+ * collection (e.g. in a cyclops-vavr persistent collection).
+ *
+ * @param <A> Collector accumulation type
+ * @param <C> vavr collection type
+ * @param <R> Deserialized type
+ */
+public class VavrCollectionDeserializer<A, C, R> extends StdDeserializer<R> implements ResolvableDeserializer {
+
+  private final JavaType elementType;
+  private final Collector<Object, A, C> collector;
+  private final Function<? super C, ? extends R> finisher;
+  private JsonDeserializer<Object> elementDeserializer;
+  private TypeDeserializer elementTypeDeserializer;
+
+  public VavrCollectionDeserializer(Class<?> vc, JavaType elementType, Collector<Object, A, C> collector,
+                                    Function<? super C, ? extends R> finisher) {
+    super(vc);
+    this.elementType = elementType;
+    this.collector = collector;
+    this.finisher = finisher;
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    elementDeserializer = ctxt.findContextualValueDeserializer(elementType, null);
+    elementTypeDeserializer = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), elementType);
+  }
+
+  @Override
+  public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+    return typeDeserializer.deserializeTypedFromArray(p, ctxt);
+  }
+
+  @Override
+  public R deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartArrayToken()) {
+      return (R) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+    A container = collector.supplier().get();
+    BiConsumer<A, Object> accumulator = collector.accumulator();
+    JsonToken t;
+    while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+      Object value;
+      if (t == JsonToken.VALUE_NULL)
+        value = elementDeserializer.getNullValue(ctxt);
+      else if (elementTypeDeserializer == null)
+        value = elementDeserializer.deserialize(p, ctxt);
+      else
+        value = elementDeserializer.deserializeWithType(p, ctxt, elementTypeDeserializer);
+      accumulator.accept(container, value);
+    }
+    return finisher.apply(collector.finisher().apply(container));
+  }
+}
@@ -0,0 +1,91 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.collections.vavr.VavrQueueX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.collections.vavr.VavrVectorX;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.LinearSeq;
+import io.vavr.collection.LinkedHashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.collection.SortedSet;
+import io.vavr.collection.Stream;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+public class VavrDeserializers extends Deserializers.Base {
+
+  @Override
+  public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) throws JsonMappingException {
+    Class<?> raw = type.getRawClass();
+    JavaType elementType = VavrSerializers.elementType(type);
+
+    if (raw == Vector.class || raw == IndexedSeq.class || raw == Seq.class) {
+      return deserializer(raw, elementType, Vector.collector(), Function.identity());
+    }
+    if (raw == List.class || raw == LinearSeq.class) {
+      return deserializer(raw, elementType, List.collector(), Function.identity());
+    }
+    if (raw == Queue.class) {
+      return deserializer(raw, elementType, Queue.collector(), Function.identity());
+    }
+    if (raw == Array.class) {
+      return deserializer(raw, elementType, Array.collector(), Function.identity());
+    }
+    if (raw == Stream.class) {
+      return deserializer(raw, elementType, Stream.collector(), Function.identity());
+    }
+    if (raw == HashSet.class || raw == Set.class) {
+      return deserializer(raw, elementType, HashSet.collector(), Function.identity());
+    }
+    if (raw == LinkedHashSet.class) {
+      return deserializer(raw, elementType, LinkedHashSet.collector(), Function.identity());
+    }
+    if (raw == TreeSet.class || raw == SortedSet.class) {
+      return deserializer(raw, elementType, TreeSet.collector(naturalOrder()), Function.identity());
+    }
+
+    if (raw == VavrVectorX.class) {
+      return deserializer(raw, elementType, Vector.collector(), v -> VavrVectorX.emptyPersistentList().withVector(v));
+    }
+    if (raw == VavrListX.class) {
+      return deserializer(raw, elementType, List.collector(), l -> VavrListX.emptyPersistentList().withList(l));
+    }
+    if (raw == VavrQueueX.class) {
+      return deserializer(raw, elementType, Queue.collector(), q -> VavrQueueX.emptyPersistentQueue().withList(q));
+    }
+    if (raw == VavrHashSetX.class) {
+      return deserializer(raw, elementType, HashSet.collector(), s -> VavrHashSetX.emptyPersistentSet().withSet(s));
+    }
+    if (raw == VavrTreeSetX.class) {
+      return deserializer(raw, elementType, TreeSet.collector(naturalOrder()),
+                          s -> VavrTreeSetX.emptyPersistentSortedSet(naturalOrder()).withSet(s));
+    }
+    return super.findBeanDeserializer(type, config, beanDesc);
+  }
+
+  private static <C, R> JsonDeserializer<?> deserializer(Class<?> raw, JavaType elementType,
+                                                         Collector<Object, ?, C> collector, Function<? super C, ? extends R> finisher) {
+    return new VavrCollectionDeserializer<>(raw, elementType, collector, finisher);
+  }
+
+  private static Comparator<Object> naturalOrder() {
+    return (Comparator) Comparator.naturalOrder();
+  }
+}
@@ -0,0 +1,81 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+import java.io.IOException;
+
+/**
+ * Writes a vavr collection (or a cyclops-vavr wrapper) as a JSON array, iterating the underlying vavr collection directly.
+ */
+public class VavrIterableSerializer extends JsonSerializer<Iterable<?>> implements ContextualSerializer {
+
+  private final JavaType elementType;
+  private final TypeSerializer elementTypeSerializer;
+  private transient PropertySerializerMap dynamicSerializers = PropertySerializerMap.emptyForProperties();
+
+  public VavrIterableSerializer(JavaType elementType) {
+    this(elementType,null);
+  }
+
+  private VavrIterableSerializer(JavaType elementType, TypeSerializer elementTypeSerializer) {
+    this.elementType = elementType;
+    this.elementTypeSerializer = elementTypeSerializer;
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+    TypeSerializer typeSer = prov.findTypeSerializer(elementType);
+    if(typeSer==elementTypeSerializer)
+      return this;
+    return new VavrIterableSerializer(elementType,typeSer);
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, Iterable<?> value) {
+    return !value.iterator().hasNext();
+  }
+
+  @Override
+  public void serialize(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    gen.writeStartArray();
+    serializeContents(value,gen,serializers);
+    gen.writeEndArray();
+  }
+
+  @Override
+  public void serializeWithType(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_ARRAY));
+    serializeContents(value,gen,serializers);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
+
+  private void serializeContents(Iterable<?> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    for(Object o : value) {
+      if(o==null){
+        serializers.defaultSerializeNull(gen);
+        continue;
+      }
+      Class<?> type = o.getClass();
+      JsonSerializer<Object> ser = dynamicSerializers.serializerFor(type);
+      if(ser==null) {
+        PropertySerializerMap.SerializerAndMapResult result = dynamicSerializers.findAndAddSecondarySerializer(type, serializers, null);
+        dynamicSerializers = result.map;
+        ser = result.serializer;
+      }
+      if(elementTypeSerializer==null)
+        ser.serialize(o, gen, serializers);
+      else
+        ser.serializeWithType(o, gen, serializers, elementTypeSerializer);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module for vavr collections and the cyclops-vavr persistent collection wrappers
+ * (VavrVectorX, VavrListX, VavrQueueX, VavrHashSetX, VavrTreeSetX).
+ *
+ * Values are written directly from the underlying vavr iterator and read straight into vavr collectors,
+ * without first converting to cyclops or JDK collections.
+ *
+ * <pre>
+ * {@code
+ *   ObjectMapper mapper = new ObjectMapper().registerModule(new VavrModule());
+ *
+ *   mapper.writeValueAsString(Vector.of(1,2,3)); //[1,2,3]
+ *   Vector<Integer> v = mapper.readValue("[1,2,3]",new TypeReference<Vector<Integer>>(){});
+ * }
+ * </pre>
+ */
+public class VavrModule extends SimpleModule {
+
+  @Override
+  public void setupModule(SetupContext context) {
+    context.addSerializers(new VavrSerializers());
+    context.addDeserializers(new VavrDeserializers());
+  }
+}
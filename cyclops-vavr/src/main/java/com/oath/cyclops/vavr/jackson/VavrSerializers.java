@@ -0,0 +1,37 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.collections.vavr.VavrQueueX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.collections.vavr.VavrVectorX;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+
+public class VavrSerializers extends Serializers.Base {
+
+  @Override
+  public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+    Class<?> raw = type.getRawClass();
+    if (Seq.class.isAssignableFrom(raw) || Set.class.isAssignableFrom(raw) || isWrapper(raw)) {
+      return new VavrIterableSerializer(elementType(type));
+    }
+    return super.findSerializer(config, type, beanDesc);
+  }
+
+  static boolean isWrapper(Class<?> raw) {
+    return raw == VavrVectorX.class || raw == VavrListX.class || raw == VavrQueueX.class
+      || raw == VavrHashSetX.class || raw == VavrTreeSetX.class;
+  }
+
+  static JavaType elementType(JavaType type) {
+    JavaType[] params = type.findTypeParameters(Iterable.class);
+    return params.length > 0 ? params[0] : TypeFactory.unknownType();
+  }
+}
@@ -0,0 +1,84 @@
+package com.oath.cyclops.vavr.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.collections.vavr.VavrQueueX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.collections.vavr.VavrVectorX;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Seq;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class VavrModuleTest {
+
+  ObjectMapper mapper = new ObjectMapper().registerModule(new VavrModule());
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  static class Order {
+    public Vector<Integer> quantities;
+    public List<String> names;
+  }
+
+  @Test
+  public void vector() throws Exception {
+    String json = mapper.writeValueAsString(Vector.of(1,2,3));
+    assertThat(json,equalTo("[1,2,3]"));
+    Vector<Integer> v = mapper.readValue(json,new TypeReference<Vector<Integer>>(){});
+    assertThat(v,equalTo(Vector.of(1,2,3)));
+  }
+
+  @Test
+  public void rawCollections() throws Exception {
+    assertThat(mapper.readValue(mapper.writeValueAsString(List.of("a","b")),List.class),equalTo(List.of("a","b")));
+    assertThat(mapper.readValue(mapper.writeValueAsString(Queue.of(1,2)),Queue.class),equalTo(Queue.of(1,2)));
+    assertThat(mapper.readValue(mapper.writeValueAsString(HashSet.of(1,2)),HashSet.class),equalTo(HashSet.of(1,2)));
+    assertThat(mapper.readValue(mapper.writeValueAsString(TreeSet.of(3,1,2)),TreeSet.class),equalTo(TreeSet.of(1,2,3)));
+    assertThat(mapper.readValue("[1,2]",Seq.class),equalTo(Vector.of(1,2)));
+  }
+
+  @Test
+  public void typedElements() throws Exception {
+    Vector<Long> v = mapper.readValue("[1,2]",new TypeReference<Vector<Long>>(){});
+    assertThat(v,equalTo(Vector.of(1L,2L)));
+  }
+
+  @Test
+  public void properties() throws Exception {
+    Order order = new Order(Vector.of(1,2),List.of("x"));
+    String json = mapper.writeValueAsString(order);
+    assertThat(json,equalTo("{\"quantities\":[1,2],\"names\":[\"x\"]}"));
+    assertThat(mapper.readValue(json,Order.class),equalTo(order));
+  }
+
+  @Test
+  public void wrappers() throws Exception {
+    VavrVectorX<Integer> vector = VavrVectorX.<Integer>emptyPersistentList().withVector(Vector.of(1,2));
+    String json = mapper.writeValueAsString(vector);
+    assertThat(json,equalTo("[1,2]"));
+
+    VavrVectorX<Integer> v = mapper.readValue(json,VavrVectorX.class);
+    assertThat(v.unwrap(),equalTo(Vector.of(1,2)));
+    VavrListX<Integer> l = mapper.readValue(json,VavrListX.class);
+    assertThat(l.unwrap(),equalTo(List.of(1,2)));
+    VavrQueueX<Integer> q = mapper.readValue(json,VavrQueueX.class);
+    assertThat(q.unwrap(),equalTo(Queue.of(1,2)));
+    VavrHashSetX<Integer> s = mapper.readValue(json,VavrHashSetX.class);
+    assertThat(s.unwrap(),equalTo(HashSet.of(1,2)));
+    VavrTreeSetX<Integer> t = mapper.readValue("[2,1]",VavrTreeSetX.class);
+    assertThat(t.unwrap(),equalTo(TreeSet.of(1,2)));
+  }
+}